@@ -220,6 +220,17 @@ public abstract class AbstractBuildable extends AbstractImageFinder implements B
     if (b instanceof AbstractBuildable) {
       ((AbstractBuildable)b).setAncestor(this);
     }
+    noteModified();
+  }
+
+  /**
+   * Record a change to the configuration of the module
+   */
+  protected void noteModified() {
+    final GameModule g = GameModule.getGameModule();
+    if (g != null) {
+      g.noteModified();
+    }
   }
 
   /**
@@ -57,6 +57,7 @@ public abstract class AbstractConfigurable extends AbstractBuildable implements
     if (b instanceof AbstractBuildable) {
       ((AbstractBuildable) b).setAncestor(null);
     }
+    noteModified();
   }
 
   /**
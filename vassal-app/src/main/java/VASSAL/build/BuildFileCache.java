@@ -0,0 +1,390 @@
+/*
+ *
+ * Copyright (c) 2026 by The VASSAL Development Team
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License (LGPL) as published by the Free Software Foundation.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, copies are available
+ * at http://www.opensource.org.
+ */
+package VASSAL.build;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.io.function.IOSupplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+
+import VASSAL.Info;
+
+/**
+ * An on-disk cache of pre-parsed build files, so that a module or extension whose build file has not changed
+ * since it was last opened is not parsed as XML again.
+ *
+ * Snapshots are keyed by the SHA-256 digest of the build file. A snapshot holds the elements of the build file
+ * in a compact binary form in which every distinct string is stored only once, and is read back as the same
+ * DOM elements the XML would have produced, one top-level child at a time. A snapshot is only written once
+ * every element of the build file has been read, so an interrupted build never leaves a partial snapshot.
+ * The least recently used snapshots are deleted once there are too many of them.
+ *
+ * Components themselves cannot be cached, as building them has effects throughout the module.
+ */
+public class BuildFileCache {
+  private static final Logger log = LoggerFactory.getLogger(BuildFileCache.class);
+
+  private static final int MAGIC = 0x56424643; // VBFC
+  private static final int VERSION = 1;
+
+  private static final byte END = 0;
+  private static final byte ELEMENT = 1;
+  private static final byte TEXT = 2;
+  private static final byte CDATA = 3;
+
+  private static final String CACHE_DIR = "buildfiles"; //NON-NLS
+
+  /** Most snapshots to keep */
+  private static final int MAX_SNAPSHOTS = 20;
+  /** Most space the snapshots may take */
+  private static final long MAX_BYTES = 256L * 1024 * 1024;
+
+  private static final String TEMP_SUFFIX = ".tmp"; //NON-NLS
+
+  private BuildFileCache() {
+    // Helper class - not to be instantiated alone.
+  }
+
+  /**
+   * Open a build file for building. If a snapshot of the same build file exists it is read instead of the XML,
+   * otherwise the XML is parsed and a snapshot of it saved as it is read.
+   *
+   * The build file is read once to find its digest, without being held in memory, and again to parse it if there
+   * is no snapshot of it.
+   *
+   * @param opener Opens a new stream to read the build file from, which is closed when done with
+   * @return Source of the elements of the build file
+   */
+  public static Builder.ElementSource open(IOSupplier<InputStream> opener) throws IOException {
+    final String digest;
+    try (InputStream in = opener.get()) {
+      digest = DigestUtils.sha256Hex(in);
+    }
+
+    final File snapshot = new File(getCacheDir(), digest);
+
+    if (snapshot.isFile()) {
+      try {
+        final SnapshotReader reader = new SnapshotReader(snapshot);
+        // Record the use, so that the least recently used snapshots are evicted first
+        snapshot.setLastModified(System.currentTimeMillis());
+        return reader;
+      }
+      catch (IOException e) {
+        log.warn("Discarding unreadable build file snapshot {}", snapshot, e); //NON-NLS
+        Files.deleteIfExists(snapshot.toPath());
+      }
+    }
+
+    final InputStream in = opener.get();
+    try {
+      return new SnapshotWriter(in, new Builder.ElementStream(in), snapshot);
+    }
+    catch (IOException | RuntimeException e) {
+      in.close();
+      throw e;
+    }
+  }
+
+  private static File getCacheDir() {
+    return new File(Info.getCacheDir(), CACHE_DIR);
+  }
+
+  /**
+   * Delete the least recently used snapshots, other than the one just written, until there are no more than
+   * {@link #MAX_SNAPSHOTS} and they take no more than {@link #MAX_BYTES}. Every version of every module
+   * and extension opened, and every save in the Editor, makes a new snapshot, so without this the cache
+   * would grow without bound.
+   */
+  private static void evict(File keep) {
+    final File[] files = getCacheDir().listFiles(
+      f -> f.isFile() && !f.equals(keep) && !f.getName().endsWith(TEMP_SUFFIX)
+    );
+    if (files == null) {
+      return;
+    }
+    // Newest first, so that the oldest are left over once the limits are reached
+    Arrays.sort(files, Comparator.comparingLong(File::lastModified).reversed());
+
+    long size = keep.length();
+    int count = 1;
+    for (final File f : files) {
+      size += f.length();
+      ++count;
+      if ((count > MAX_SNAPSHOTS || size > MAX_BYTES) && f.delete()) {
+        log.debug("Evicted build file snapshot {}", f); //NON-NLS
+      }
+    }
+  }
+
+  /**
+   * Reads the elements of a build file from a snapshot
+   */
+  private static class SnapshotReader implements Builder.ElementSource {
+    private final File file;
+    private final DataInputStream in;
+    private final Document doc = Builder.createNewDocument();
+    private final List<String> strings = new ArrayList<>();
+    private final Element root;
+    private boolean done = false;
+
+    SnapshotReader(File file) throws IOException {
+      this.file = file;
+      in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file.toPath())));
+      try {
+        if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+          throw new IOException("Not a build file snapshot"); //NON-NLS
+        }
+        root = readStart();
+        doc.appendChild(root);
+      }
+      catch (IOException e) {
+        in.close();
+        throw e;
+      }
+    }
+
+    @Override
+    public Element getRootElement() {
+      return root;
+    }
+
+    @Override
+    public Element next() throws IOException {
+      try {
+        if (done || in.readByte() == END) {
+          done = true;
+          return null;
+        }
+        return readElement();
+      }
+      catch (IOException e) {
+        // Don't fail the same way next time
+        Files.deleteIfExists(file.toPath());
+        throw e;
+      }
+    }
+
+    @Override
+    public void close() throws IOException {
+      in.close();
+    }
+
+    private Element readStart() throws IOException {
+      final Element e = doc.createElement(readString());
+      for (int n = in.readInt(); n > 0; --n) {
+        e.setAttribute(readString(), readString());
+      }
+      return e;
+    }
+
+    private Element readElement() throws IOException {
+      final Element e = readStart();
+      for (byte type = in.readByte(); type != END; type = in.readByte()) {
+        switch (type) {
+        case ELEMENT:
+          e.appendChild(readElement());
+          break;
+        case TEXT:
+          e.appendChild(doc.createTextNode(readString()));
+          break;
+        case CDATA:
+          e.appendChild(doc.createCDATASection(readString()));
+          break;
+        default:
+          throw new IOException("Corrupt build file snapshot"); //NON-NLS
+        }
+      }
+      return e;
+    }
+
+    private String readString() throws IOException {
+      final int index = in.readInt();
+      if (index < strings.size()) {
+        return strings.get(index);
+      }
+      final byte[] b = new byte[in.readInt()];
+      in.readFully(b);
+      final String s = new String(b, StandardCharsets.UTF_8);
+      strings.add(s);
+      return s;
+    }
+  }
+
+  /**
+   * Passes on the elements parsed from a build file, writing each to a new snapshot as it goes
+   */
+  private static class SnapshotWriter implements Builder.ElementSource {
+    private final InputStream in;
+    private final Builder.ElementStream source;
+    private final File snapshot;
+    private final java.util.Map<String, Integer> strings = new HashMap<>();
+    private File temp;
+    private DataOutputStream out;
+
+    SnapshotWriter(InputStream in, Builder.ElementStream source, File snapshot) {
+      this.in = in;
+      this.source = source;
+      this.snapshot = snapshot;
+      try {
+        Files.createDirectories(snapshot.getParentFile().toPath());
+        temp = File.createTempFile("snapshot", TEMP_SUFFIX, snapshot.getParentFile()); //NON-NLS
+        out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp.toPath())));
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        writeStart(source.getRootElement());
+      }
+      catch (IOException e) {
+        abandon(e);
+      }
+    }
+
+    @Override
+    public Element getRootElement() {
+      return source.getRootElement();
+    }
+
+    @Override
+    public Element next() throws IOException {
+      final Element e = source.next();
+      if (out != null) {
+        try {
+          if (e == null) {
+            out.writeByte(END);
+            out.close();
+            out = null;
+            Files.move(temp.toPath(), snapshot.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            temp = null;
+            evict(snapshot);
+          }
+          else {
+            out.writeByte(ELEMENT);
+            writeElement(e);
+          }
+        }
+        catch (IOException ex) {
+          abandon(ex);
+        }
+      }
+      return e;
+    }
+
+    @Override
+    public void close() throws IOException {
+      try {
+        source.close();
+      }
+      finally {
+        in.close();
+        discard();
+      }
+    }
+
+    /**
+     * Failing to write a snapshot only means the build file will be parsed again next time
+     */
+    private void abandon(IOException e) {
+      log.warn("Unable to save build file snapshot {}", snapshot, e); //NON-NLS
+      try {
+        discard();
+      }
+      catch (IOException ignored) {
+        // Nothing more to do
+      }
+      out = null;
+    }
+
+    private void discard() throws IOException {
+      if (out != null) {
+        out.close();
+        out = null;
+      }
+      if (temp != null) {
+        Files.deleteIfExists(temp.toPath());
+        temp = null;
+      }
+    }
+
+    private void writeStart(Element e) throws IOException {
+      writeString(e.getTagName());
+      final NamedNodeMap attrs = e.getAttributes();
+      out.writeInt(attrs.getLength());
+      for (int i = 0; i < attrs.getLength(); ++i) {
+        writeString(attrs.item(i).getNodeName());
+        writeString(attrs.item(i).getNodeValue());
+      }
+    }
+
+    private void writeElement(Element e) throws IOException {
+      writeStart(e);
+      for (Node child = e.getFirstChild(); child != null; child = child.getNextSibling()) {
+        switch (child.getNodeType()) {
+        case Node.ELEMENT_NODE:
+          out.writeByte(ELEMENT);
+          writeElement((Element) child);
+          break;
+        case Node.TEXT_NODE:
+          out.writeByte(TEXT);
+          writeString(child.getNodeValue());
+          break;
+        case Node.CDATA_SECTION_NODE:
+          out.writeByte(CDATA);
+          writeString(child.getNodeValue());
+          break;
+        default:
+          break;
+        }
+      }
+      out.writeByte(END);
+    }
+
+    private void writeString(String s) throws IOException {
+      final Integer index = strings.get(s);
+      if (index != null) {
+        out.writeInt(index);
+      }
+      else {
+        out.writeInt(strings.size());
+        strings.put(s, strings.size());
+        final byte[] b = s.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(b.length);
+        out.write(b);
+      }
+    }
+  }
+}
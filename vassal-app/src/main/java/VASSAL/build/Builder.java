@@ -25,6 +25,10 @@ import java.lang.reflect.InvocationTargetException;
 
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 import javax.xml.transform.OutputKeys;
 import javax.xml.transform.Result;
 import javax.xml.transform.Source;
@@ -38,6 +42,7 @@ import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
+import org.w3c.dom.Text;
 import org.xml.sax.SAXException;
 
 import org.slf4j.Logger;
@@ -76,22 +81,180 @@ public class Builder {
     for (Node child = e.getFirstChild(); child != null;
          child = child.getNextSibling()) {
       if (Node.ELEMENT_NODE == child.getNodeType()) {
-        try {
-          final Buildable b = create((Element) child, parent);
-          if (parent != null) {
-            b.addTo(parent);
-            parent.add(b);
+        buildChild((Element) child, parent);
+      }
+    }
+  }
+
+  /**
+   * Create a component from one child element, and add it to its parent
+   */
+  private static void buildChild(Element child, Buildable parent) {
+    try {
+      final Buildable b = create(child, parent);
+      if (parent != null) {
+        b.addTo(parent);
+        parent.add(b);
+      }
+    }
+    catch (IllegalBuildException ex) {
+      ErrorDialog.bug(ex);
+    }
+    catch (RuntimeException | Error ex) {
+      final Node attr = child.getAttributes().getNamedItem("name"); //NON-NLS
+      logger.error("Error building " + child.getNodeName() + (attr != null ? " " + attr.getNodeValue() : "")); //NON-NLS
+      throw ex;
+    }
+  }
+
+  /**
+   * Streaming alternative to reading a whole document with {@link #createDocument} and then
+   * building it with {@link #build(Element, Buildable)}.
+   *
+   * The root element is available first, with its attributes but none of its children. The children of
+   * the root are then supplied one at a time, each as an ordinary DOM {@link Element} so that components
+   * are built exactly as from a whole document, and each is discarded once its component has been built.
+   */
+  public interface ElementSource extends AutoCloseable {
+    /**
+     * @return the root element, with its attributes but without any of its children
+     */
+    Element getRootElement();
+
+    /**
+     * @return the next child element of the root, with its whole subtree, or null if there are no more
+     */
+    Element next() throws IOException;
+
+    /**
+     * Build each child element of the root in turn and add it to a parent component,
+     * as {@link Builder#build(Element, Buildable)} would have done for the whole root element
+     *
+     * @param parent Component built from the root element
+     */
+    default void build(Buildable parent) throws IOException {
+      final Element root = getRootElement();
+      for (Element child = next(); child != null; child = next()) {
+        root.appendChild(child);
+        buildChild(child, parent);
+        root.removeChild(child);
+      }
+    }
+
+    @Override
+    void close() throws IOException;
+  }
+
+  /**
+   * An {@link ElementSource} which parses XML as it goes, so that only one top-level
+   * subtree of a large build file is held in memory at a time.
+   */
+  public static class ElementStream implements ElementSource {
+    private final XMLStreamReader reader;
+    private final Document doc;
+    private final Element root;
+    private boolean done = false;
+
+    /**
+     * Read up to the end of the start tag of the root element
+     * @param in stream to read the XML document from. It is not closed by this object.
+     */
+    public ElementStream(InputStream in) throws IOException {
+      doc = createNewDocument();
+      try {
+        reader = XMLInputFactory.newInstance().createXMLStreamReader(in);
+        reader.nextTag();
+        root = readStart();
+        doc.appendChild(root);
+      }
+      catch (XMLStreamException e) {
+        throw new IOException(e);
+      }
+    }
+
+    @Override
+    public Element getRootElement() {
+      return root;
+    }
+
+    @Override
+    public Element next() throws IOException {
+      try {
+        while (!done && reader.hasNext()) {
+          final int event = reader.next();
+          if (event == XMLStreamConstants.START_ELEMENT) {
+            return readElement();
+          }
+          else if (event == XMLStreamConstants.END_ELEMENT) {
+            done = true;
           }
         }
-        catch (IllegalBuildException ex) {
-          ErrorDialog.bug(ex);
-        }
-        catch (RuntimeException | Error ex) {
-          final Node attr = child.getAttributes().getNamedItem("name"); //NON-NLS
-          logger.error("Error building " + child.getNodeName() + (attr != null ? " " + attr.getNodeValue() : "")); //NON-NLS
-          throw ex;
+        return null;
+      }
+      catch (XMLStreamException e) {
+        throw new IOException(e);
+      }
+    }
+
+    @Override
+    public void close() throws IOException {
+      try {
+        reader.close();
+      }
+      catch (XMLStreamException e) {
+        throw new IOException(e);
+      }
+    }
+
+    /**
+     * Create an element from the current start tag, with its attributes
+     */
+    private Element readStart() {
+      final Element e = doc.createElement(qualifiedName(reader.getPrefix(), reader.getLocalName()));
+      for (int i = 0; i < reader.getAttributeCount(); ++i) {
+        e.setAttribute(
+          qualifiedName(reader.getAttributePrefix(i), reader.getAttributeLocalName(i)),
+          reader.getAttributeValue(i)
+        );
+      }
+      return e;
+    }
+
+    /**
+     * Read the subtree of the element whose start tag is the current event,
+     * leaving the reader at its end tag
+     */
+    private Element readElement() throws XMLStreamException {
+      final Element e = readStart();
+      while (reader.hasNext()) {
+        switch (reader.next()) {
+        case XMLStreamConstants.START_ELEMENT:
+          e.appendChild(readElement());
+          break;
+        case XMLStreamConstants.CHARACTERS:
+        case XMLStreamConstants.SPACE:
+          // The parser may split text which a DOM would hold in one node
+          if (e.getLastChild() != null && e.getLastChild().getNodeType() == Node.TEXT_NODE) {
+            ((Text) e.getLastChild()).appendData(reader.getText());
+          }
+          else {
+            e.appendChild(doc.createTextNode(reader.getText()));
+          }
+          break;
+        case XMLStreamConstants.CDATA:
+          e.appendChild(doc.createCDATASection(reader.getText()));
+          break;
+        case XMLStreamConstants.END_ELEMENT:
+          return e;
+        default:
+          break;
         }
       }
+      return e;
+    }
+
+    private static String qualifiedName(String prefix, String localName) {
+      return prefix == null || prefix.isEmpty() ? localName : prefix + ":" + localName;
     }
   }
 
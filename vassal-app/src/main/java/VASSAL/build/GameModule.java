@@ -111,6 +111,8 @@ import VASSAL.tools.DebugControls;
 import VASSAL.tools.KeyStrokeListener;
 import VASSAL.tools.KeyStrokeSource;
 import VASSAL.tools.NamedKeyStroke;
+import VASSAL.tools.NotificationBatch;
+import VASSAL.tools.Profiler;
 import VASSAL.tools.QuickColors;
 import VASSAL.tools.ReadErrorDialog;
 import VASSAL.tools.ReflectionUtils;
@@ -122,6 +124,7 @@ import VASSAL.tools.WriteErrorDialog;
 import VASSAL.tools.filechooser.FileChooser;
 import VASSAL.tools.image.ImageTileSource;
 import VASSAL.tools.image.tilecache.ImageTileDiskCache;
+import VASSAL.tools.lang.MemoryUtils;
 import VASSAL.tools.menu.MenuItemProxy;
 import VASSAL.tools.menu.MenuManager;
 import VASSAL.tools.swing.SwingUtils;
@@ -131,7 +134,6 @@ import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.LoggerFactory;
-import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 
 import javax.swing.AbstractAction;
@@ -155,7 +157,6 @@ import java.io.BufferedInputStream;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.NoSuchFileException;
 import java.security.SecureRandom;
@@ -388,13 +389,16 @@ public class GameModule extends AbstractConfigurable
   }
 
 
-  private final PropertyChangeListener repaintOnPropertyChange =
-    evt -> {
+  private final Runnable repaintAllMaps =
+    () -> {
       for (final Map map : Map.getMapList()) {
         map.repaint();
       }
     };
 
+  private final PropertyChangeListener repaintOnPropertyChange =
+    evt -> NotificationBatch.notify(repaintAllMaps, repaintAllMaps);
+
   private final PlayerWindow frame = new PlayerWindow();
 
   /**
@@ -486,6 +490,11 @@ public class GameModule extends AbstractConfigurable
   private GameFileMode gameFileMode = GameFileMode.NEW_GAME;
 
   private boolean iFeelDirty = false; // Touched the module in ways not detectable by buildString compare
+  private long modifications = 0; // Number of changes noted to the module's configuration
+  private long savedModifications = 0; // Number of changes noted when the module was last saved
+
+  /** Confirm the modification count by comparing the whole buildString() as well, to find changes that weren't noted */
+  private static final boolean VERIFY_MODIFIED = Boolean.getBoolean("VASSAL.verifyModified"); //NON-NLS
 
   /**
    * Store the currently building GpId source. Only meaningful while
@@ -657,6 +666,29 @@ public class GameModule extends AbstractConfigurable
     iFeelDirty = touchThis;
   }
 
+  /**
+   * Record that the module's configuration has been changed, so that the user will be offered the chance to save it.
+   * Called when components are added and removed, and when their properties are edited.
+   */
+  public void noteModified() {
+    ++modifications;
+  }
+
+  /**
+   * @return true if the module's configuration has been changed since it was last saved
+   */
+  public boolean isModified() {
+    boolean modified = iFeelDirty || modifications != savedModifications;
+    if (VERIFY_MODIFIED && lastSavedConfiguration != null) {
+      final boolean changed = !buildString().equals(lastSavedConfiguration);
+      if (changed && !modified) {
+        log.warn("Module configuration was changed without being noted as modified"); //NON-NLS
+      }
+      modified |= changed;
+    }
+    return modified;
+  }
+
   /**
    * Constructor for a GameModule.
    * @param archive The .vmod (or .tmp) archive to associate
@@ -713,10 +745,15 @@ public class GameModule extends AbstractConfigurable
       final String properBuildFileName = (VersionUtils.compareVersions(VersionUtils.truncateToMinorVersion(data.getVassalVersion()), "3.5") < 0) ? BUILDFILE_OLD : BUILDFILE;
 
       // existing module
-      try (InputStream inner = darch.getInputStream(properBuildFileName);
-           BufferedInputStream in = new BufferedInputStream(inner)) {
-        final Document doc = Builder.createDocument(in);
-        build(doc.getDocumentElement());
+      final long start = System.currentTimeMillis();
+      MemoryUtils.resetPeakHeapUsage();
+      try (Builder.ElementSource stream = BuildFileCache.open(
+             () -> new BufferedInputStream(darch.getInputStream(properBuildFileName)))) {
+        final Element root = stream.getRootElement();
+        build(root, () -> {
+          super.build(root);
+          stream.build(this);
+        });
       }
       catch (FileNotFoundException | NoSuchFileException e) {
         throw new IOException(
@@ -728,6 +765,9 @@ public class GameModule extends AbstractConfigurable
           Resources.getString("BasicModule.io_error_reading_archive"), //$NON-NLS-1$
           e);
       }
+
+      log.info("Built module in {} ms, peak heap usage while building at most {} MB", //NON-NLS
+        System.currentTimeMillis() - start, MemoryUtils.getPeakHeapUsage() >> 20);
     }
 
     // If a dockable PieceWindow got registered, dock it now (since we're
@@ -765,6 +805,30 @@ public class GameModule extends AbstractConfigurable
    */
   @Override
   public void build(Element e) {
+    try {
+      build(e, () -> super.build(e));
+    }
+    catch (IOException ex) {
+      // Building from a whole element does no I/O
+      throw new IllegalStateException(ex);
+    }
+  }
+
+  /**
+   * A step of building the module which may read from the build file
+   */
+  @FunctionalInterface
+  private interface BuildStep {
+    void run() throws IOException;
+  }
+
+  /**
+   * The component children of the module are built by a separate step, so that they can either come from
+   * the given element or be streamed from the build file one at a time.
+   * @param e XML element holding the module's attributes, or null to build the default hierarchy
+   * @param buildChildren Step which builds the module's attributes and children
+   */
+  private void build(Element e, BuildStep buildChildren) throws IOException {
     /*
      * We determine the name of the module at the very beginning, so we
      * know which preferences to read.
@@ -785,7 +849,7 @@ public class GameModule extends AbstractConfigurable
     initDebug();
     new PluginsLoader().addTo(this);
     if (e != null) {
-      super.build(e);
+      buildChildren.run();
       //ensureComponent(GamePieceImageDefinitions.class);
       ensureComponent(GlobalProperties.class);
       ensureComponent(GlobalTranslatableMessages.class);
@@ -1544,10 +1608,14 @@ public class GameModule extends AbstractConfigurable
    * @return a {@link Command} object for this command, ready to be executed.
    */
   private Command decodeSubCommand(String subCommand) {
+    final long start = Profiler.start();
     Command c = null;
     for (int i = 0; i < commandEncoders.length && c == null; ++i) {
       c = commandEncoders[i].decode(subCommand);
     }
+    if (start != 0) {
+      Profiler.record(Profiler.Category.DECODE, c == null ? null : c.getClass(), start, subCommand.length());
+    }
     return c;
   }
 
@@ -1588,10 +1656,14 @@ public class GameModule extends AbstractConfigurable
    * @return ascii-friendly String form of the command, ready to be sent to other players' clients.
    */
   private String encodeSubCommand(Command c) {
+    final long start = Profiler.start();
     String s = null;
     for (int i = 0; i < commandEncoders.length && s == null; ++i) {
       s = commandEncoders[i].encode(c);
     }
+    if (start != 0) {
+      Profiler.record(Profiler.Category.ENCODE, c.getClass(), start, s == null ? 0 : s.length());
+    }
     return s;
   }
 
@@ -1783,7 +1855,7 @@ public class GameModule extends AbstractConfigurable
 
     if (!cancelled) {
       if (getDataArchive() instanceof ArchiveWriter
-          && (!buildString().equals(lastSavedConfiguration) || iFeelDirty)) {
+          && isModified()) {
         switch (JOptionPane.showConfirmDialog(frame,
           Resources.getString("GameModule.save_module"),  //$NON-NLS-1$
              "", JOptionPane.YES_NO_CANCEL_OPTION)) {  //$NON-NLS-1$
@@ -1881,8 +1953,10 @@ public class GameModule extends AbstractConfigurable
     synchronized (loggingLock) {
       pausedCommands.push(new NullCommand());
       loggingPaused = true;
-      return true;
     }
+    // Defer notifications until all the paused commands have been made
+    NotificationBatch.begin();
+    return true;
   }
 
   /**
@@ -1897,6 +1971,7 @@ public class GameModule extends AbstractConfigurable
         loggingPaused = false;
       }
     }
+    NotificationBatch.end();
     return c;
   }
 
@@ -1906,6 +1981,7 @@ public class GameModule extends AbstractConfigurable
    */
   public void clearPausedCommands() {
     pausedCommands.clear();
+    NotificationBatch.endAll();
   }
 
 
@@ -2014,10 +2090,13 @@ public class GameModule extends AbstractConfigurable
   }
 
   /**
-   * Save the current buildString for comparison when we try and quit.
+   * Mark the current configuration as saved, for comparison when we try and quit.
    */
   public void updateLastSave() {
-    lastSavedConfiguration = buildString();
+    savedModifications = modifications;
+    if (VERIFY_MODIFIED) {
+      lastSavedConfiguration = buildString();
+    }
   }
 
   /**
@@ -2193,6 +2272,7 @@ public class GameModule extends AbstractConfigurable
     }
 
     try {
+      final long saving = modifications;
       final String save = buildString();
       writer.addFile(BUILDFILE, save.getBytes(StandardCharsets.UTF_8));
 
@@ -2200,7 +2280,10 @@ public class GameModule extends AbstractConfigurable
 
       final boolean actuallyDidStuff = saveAs ? writer.saveAsButVerify(true) : writer.saveButVerify(true);
       if (actuallyDidStuff) {
-        lastSavedConfiguration = save;
+        savedModifications = saving;
+        if (VERIFY_MODIFIED) {
+          lastSavedConfiguration = save;
+        }
         warn(Resources.getString("Editor.GameModule.saved", writer.getArchive().getFile().getName()));
       }
     }
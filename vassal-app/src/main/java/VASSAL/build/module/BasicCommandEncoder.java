@@ -23,6 +23,7 @@ import VASSAL.build.Builder;
 import VASSAL.build.GameModule;
 import VASSAL.command.AddPiece;
 import VASSAL.command.ChangePiece;
+import VASSAL.command.ChangePieceDelta;
 import VASSAL.command.Command;
 import VASSAL.command.CommandEncoder;
 import VASSAL.command.MovePiece;
@@ -86,6 +87,8 @@ import VASSAL.tools.SequenceEncoder;
 
 import java.awt.Point;
 import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
 
 /**
  * Although it is the {@link CommandEncoder} which handles the basic commands: {@link AddPiece},
@@ -327,9 +330,11 @@ public class BasicCommandEncoder implements CommandEncoder, Buildable {
   public static final String REMOVE = "-" + PARAM_SEPARATOR; //$NON-NLS-1$
   public static final String CHANGE = "D" + PARAM_SEPARATOR; //$NON-NLS-1$
   public static final String MOVE = "M" + PARAM_SEPARATOR; //$NON-NLS-1$
+  public static final String REORDER = "R" + PARAM_SEPARATOR; //$NON-NLS-1$
+  public static final String CHANGE_TRAITS = "DT" + PARAM_SEPARATOR; //$NON-NLS-1$
 
   /**
-   * Deserializes a string into a Basic Piece command (Add, Remove, Change, Move, and... Play Audio Clip!), readying it for execution.
+   * Deserializes a string into a Basic Piece command (Add, Remove, Change, Change Traits, Move, Reorder Deck, and... Play Audio Clip!), readying it for execution.
    * @param command string form of the command
    * @return Command object for command.
    * @see CommandEncoder
@@ -373,6 +378,26 @@ public class BasicCommandEncoder implements CommandEncoder, Buildable {
       final String oldState = st.hasMoreTokens() ? st.nextToken() : null;
       return new ChangePiece(id, oldState, newState);
     }
+    else if (command.startsWith(CHANGE_TRAITS)) {
+      command = command.substring(CHANGE_TRAITS.length());
+      st = new SequenceEncoder.Decoder(command, PARAM_SEPARATOR);
+      final String id = st.nextToken();
+      final int traitCount = st.nextInt(0);
+      final SortedMap<Integer, String> newStates = new TreeMap<>();
+      final SortedMap<Integer, String> oldStates = new TreeMap<>();
+      while (st.hasMoreTokens()) {
+        final int index = st.nextInt(-1);
+        final String newState = st.nextToken();
+        final String oldState = st.nextToken();
+        if (index < 0 || index >= traitCount) {
+          ErrorDialog.dataWarning(new BadDataReport("Trait " + index + " out of range for piece with " + traitCount + " traits", id)); //NON-NLS
+          continue;
+        }
+        newStates.put(index, newState);
+        oldStates.put(index, oldState);
+      }
+      return new ChangePieceDelta(id, traitCount, oldStates, newStates);
+    }
     else if (command.startsWith(MOVE)) {
       command = command.substring(MOVE.length());
       st = new SequenceEncoder.Decoder(command, PARAM_SEPARATOR);
@@ -388,11 +413,52 @@ public class BasicCommandEncoder implements CommandEncoder, Buildable {
       final String playerid = st.nextToken(GameModule.getActiveUserId());
       return new MovePiece(id, newMapId, new Point(newX, newY), newUnderId, oldMapId, new Point(oldX, oldY), oldUnderId, playerid);
     }
+    else if (command.startsWith(REORDER)) {
+      command = command.substring(REORDER.length());
+      st = new SequenceEncoder.Decoder(command, PARAM_SEPARATOR);
+      final String id = st.nextToken();
+      final int[] order = decodeOrder(st.nextToken());
+      final long checksum = Long.parseLong(st.nextToken(), 16);
+      return new Deck.ReorderCommand(id, order, checksum);
+    }
     else {
       return PlayAudioClipCommand.decode(command);
     }
   }
 
+  /**
+   * Encodes the new order of the pieces in a Deck compactly, as a single digit giving the number of base 36 digits
+   * used for each position, followed by the old position of each piece in the new order.
+   * @param order Old positions of the pieces, in their new order
+   * @return Encoded order
+   */
+  private String encodeOrder(int[] order) {
+    final int width = Integer.toString(Math.max(order.length - 1, 0), Character.MAX_RADIX).length();
+    final StringBuilder sb = new StringBuilder(1 + width * order.length);
+    sb.append(width);
+    for (final int i : order) {
+      final String digits = Integer.toString(i, Character.MAX_RADIX);
+      for (int pad = digits.length(); pad < width; ++pad) {
+        sb.append('0');
+      }
+      sb.append(digits);
+    }
+    return sb.toString();
+  }
+
+  /**
+   * @param s Order encoded by {@link #encodeOrder}
+   * @return Old positions of the pieces, in their new order
+   */
+  private int[] decodeOrder(String s) {
+    final int width = s.charAt(0) - '0';
+    final int[] order = new int[(s.length() - 1) / width];
+    for (int i = 0; i < order.length; ++i) {
+      order[i] = Integer.parseInt(s, 1 + i * width, 1 + (i + 1) * width, Character.MAX_RADIX);
+    }
+    return order;
+  }
+
   /**
    * Safely wraps a string-which-might-be-null
    * @param s String value, or null
@@ -412,7 +478,7 @@ public class BasicCommandEncoder implements CommandEncoder, Buildable {
   }
 
   /**
-   * Serializes a Basic Piece command (Add, Remove, Change, Move, and ... Play Audio Clip!) into a String,
+   * Serializes a Basic Piece command (Add, Remove, Change, Change Traits, Move, Reorder Deck, and ... Play Audio Clip!) into a String,
    * readying it for transmission to other clients.
    * @param c Command to be serialized
    * @return String form of the command
@@ -441,6 +507,16 @@ public class BasicCommandEncoder implements CommandEncoder, Buildable {
       }
       return CHANGE + se.getValue();
     }
+    else if (c instanceof ChangePieceDelta) {
+      final ChangePieceDelta cp = (ChangePieceDelta) c;
+      se.append(cp.getId()).append(cp.getTraitCount());
+      for (final Map.Entry<Integer, String> e : cp.getNewStates().entrySet()) {
+        se.append(e.getKey())
+          .append(e.getValue())
+          .append(cp.getOldStates().get(e.getKey()));
+      }
+      return CHANGE_TRAITS + se.getValue();
+    }
     else if (c instanceof MovePiece) {
       final MovePiece mp = (MovePiece) c;
       se.append(mp.getId())
@@ -455,6 +531,13 @@ public class BasicCommandEncoder implements CommandEncoder, Buildable {
         .append(mp.getPlayerId());
       return MOVE + se.getValue();
     }
+    else if (c instanceof Deck.ReorderCommand) {
+      final Deck.ReorderCommand rc = (Deck.ReorderCommand) c;
+      se.append(rc.getDeckId())
+        .append(encodeOrder(rc.getOrder()))
+        .append(Long.toHexString(rc.getOldChecksum()));
+      return REORDER + se.getValue();
+    }
     else if (c instanceof NullCommand) {
       return ""; //$NON-NLS-1$
     }
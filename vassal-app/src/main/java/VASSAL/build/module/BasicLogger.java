@@ -26,10 +26,12 @@ import VASSAL.build.module.metadata.MetaDataFactory;
 import VASSAL.build.module.metadata.SaveMetaData;
 import VASSAL.command.Command;
 import VASSAL.command.CommandEncoder;
+import VASSAL.command.CommandFilter;
 import VASSAL.command.Logger;
 import VASSAL.configure.BooleanConfigurer;
 import VASSAL.configure.IconConfigurer;
 import VASSAL.configure.NamedHotKeyConfigurer;
+import VASSAL.counters.GamePiece;
 import VASSAL.i18n.Resources;
 import VASSAL.launch.ModuleManagerUpdateHelper;
 import VASSAL.tools.KeyStrokeListener;
@@ -43,6 +45,7 @@ import VASSAL.tools.io.ZipWriter;
 import VASSAL.tools.menu.MenuManager;
 import VASSAL.tools.swing.Dialogs;
 import VASSAL.tools.version.VersionUtils;
+import org.slf4j.LoggerFactory;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 
@@ -62,6 +65,8 @@ import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
 
 /**
  * BasicLogger deals with VLOG Vassal Log files (i.e. NOT the errorLog--see below):
@@ -70,6 +75,7 @@ import java.util.List;
  * <br>(3) Steps through VLOG files ("step forward") button
  * <br>(4) Executes the "UNDO" action when user clicks that Undo button
  * <br>(5) Provides configurers to {@link GlobalOptions} for the Undo and Step Forward buttons
+ * <br>(6) Records periodic game state checkpoints while replaying, so that a replay can seek to any step
  * <br><br>
  * For the errorLog file see {@link org.slf4j.Logger}, e.g.:
  * <br>org.slf4j.Logger log = LoggerFactory.getLogger(Console.class);
@@ -78,6 +84,9 @@ import java.util.List;
  * <br>log.info("write some info")
  */
 public class BasicLogger implements Logger, Buildable, GameComponent, CommandEncoder {
+  private static final org.slf4j.Logger log =
+    LoggerFactory.getLogger(BasicLogger.class);
+
   public static final String BEGIN = "begin_log";  //$NON-NLS-1$
   public static final String END = "end_log";  //$NON-NLS-1$
   public static final String LOG = "LOG\t";  //$NON-NLS-1$
@@ -88,6 +97,10 @@ public class BasicLogger implements Logger, Buildable, GameComponent, CommandEnc
   public static final String PROMPT_LOG_COMMENT = "promptLogComment";  //$NON-NLS-1$
   protected static final String STEP_ICON = "/images/StepForward16.gif";  //$NON-NLS-1$
   protected static final String UNDO_ICON = "/images/Undo16.gif";  //$NON-NLS-1$
+
+  /** Number of replay steps between recorded game state checkpoints */
+  public static final int CHECKPOINT_INTERVAL = 200;
+
   protected List<Command> logInput;
   protected List<Command> logOutput;
   protected int nextInput = 0;
@@ -106,9 +119,27 @@ public class BasicLogger implements Logger, Buildable, GameComponent, CommandEnc
 
   private boolean undoInProgress = false;
 
+  /**
+   * Encoded game state checkpoints recorded during replay, keyed by the replay step
+   * ({@link #nextInput}) at which each was taken
+   */
+  private final NavigableMap<Integer, String> checkpoints = new TreeMap<>();
+
+  /** True while a logInput step is being executed by the replay, rather than by the player */
+  private boolean replayingStep = false;
+
+  /**
+   * True once the player has made a move of their own since the replay began. Restoring a checkpoint would
+   * silently discard it, and leave Undo applying to commands no longer in the game, so the replay can then
+   * no longer be moved backwards.
+   */
+  private boolean playerMoved = false;
+
   public BasicLogger() {
     super();
     stepAction.setEnabled(false);
+    stepBackAction.setEnabled(false);
+    jumpAction.setEnabled(false);
     undoAction.setEnabled(false);
     endLogAction.setEnabled(false);
     newLogAction.setEnabled(false);
@@ -160,6 +191,8 @@ public class BasicLogger implements Logger, Buildable, GameComponent, CommandEnc
     mm.addAction("BasicLogger.begin_logfile", newLogAction); //NON-NLS
     endLogAction.putValue(Action.MNEMONIC_KEY, (int)Resources.getString("BasicLogger.end_logfile.shortcut").charAt(0)); // Separate shortcut key thus possible for each language
     mm.addAction("BasicLogger.end_logfile", endLogAction); //NON-NLS
+    mm.addAction("BasicLogger.step_backward", stepBackAction); //NON-NLS
+    mm.addAction("BasicLogger.jump_to_step", jumpAction); //NON-NLS
 
     JButton button = mod.getToolBar().add(undoAction);
     button.setFocusable(false); //BR// Since for some reason we're manually making a raw "JButton" here, need to make it not focusable (so it won't start stealing keystrokes from the main window)
@@ -271,6 +304,9 @@ public class BasicLogger implements Logger, Buildable, GameComponent, CommandEnc
   @Override
   public void setup(boolean startingGame) {
     newLogAction.setEnabled(startingGame);
+    checkpoints.clear();
+    playerMoved = false;
+    updateSeekActions();
 
     if (startingGame) {
       // When starting a game
@@ -356,20 +392,179 @@ public class BasicLogger implements Logger, Buildable, GameComponent, CommandEnc
 
     final GameModule g = GameModule.getGameModule();
 
+    executeStep(g);
+    replayPositionChanged(g);
+    GameModule.getGameModule().refreshVisibleMaps(); // Refresh all visible maps as counter labels may have changed
+  }
+
+  /**
+   * Execute the next replay step, first recording a checkpoint if this step falls on a checkpoint boundary
+   * and we do not already have one there.
+   */
+  private void executeStep(GameModule g) {
+    if (nextInput % CHECKPOINT_INTERVAL == 0 && !checkpoints.containsKey(nextInput)) {
+      recordCheckpoint(g);
+    }
+
     final Command c = logInput.get(nextInput++);
-    c.execute();
-    g.sendAndLog(c);
+    replayingStep = true;
+    try {
+      c.execute();
+      g.sendAndLog(c);
+    }
+    finally {
+      replayingStep = false;
+    }
+  }
+
+  /**
+   * Update the step button and game file mode after the replay position has changed
+   */
+  private void replayPositionChanged(GameModule g) {
     stepAction.setEnabled(isReplaying());
-    if (!isReplaying()) {
+    updateSeekActions();
+    if (isReplaying()) {
+      if (GameModule.GameFileMode.REPLAYED_GAME.equals(g.getGameFileMode())) {
+        g.setGameFileMode(GameModule.GameFileMode.REPLAYING_GAME);
+      }
+    }
+    else {
       if (GameModule.GameFileMode.REPLAYING_GAME.equals(g.getGameFileMode())) {
         g.setGameFileMode(GameModule.GameFileMode.REPLAYED_GAME);
       }
+      queryNewLogFile(false);
     }
+  }
 
-    if (!isReplaying()) {
-      queryNewLogFile(false);
+  /**
+   * Seeking is only offered while a logfile is being replayed and has checkpoints recorded, which it first does
+   * when its first step is executed. Stepping backward also needs a step to go back to, and no move of the
+   * player's own to discard.
+   */
+  private void updateSeekActions() {
+    final boolean seekable = !logInput.isEmpty() && !checkpoints.isEmpty();
+    jumpAction.setEnabled(seekable);
+    stepBackAction.setEnabled(seekable && nextInput > 0 && !playerMoved);
+  }
+
+  /**
+   * Record the current game state as the checkpoint for the current replay position
+   */
+  private void recordCheckpoint(GameModule g) {
+    final Command state = g.getGameState().getRestoreCommand();
+    if (state != null) {
+      checkpoints.put(nextInput, g.encode(state));
     }
-    GameModule.getGameModule().refreshVisibleMaps(); // Refresh all visible maps as counter labels may have changed
+  }
+
+  /**
+   * Replace the current game state with the one recorded in a checkpoint. The
+   * {@link GameState.SetupCommand}s are stripped from the checkpoint, so the game is not
+   * closed and restarted (which would also clear the replay we are seeking within);
+   * instead every piece is removed from the game and the checkpoint's pieces and
+   * component states are applied in their place.
+   *
+   * @param encodedState Encoded restore command recorded by {@link #recordCheckpoint}
+   */
+  private void restoreCheckpoint(GameModule g, String encodedState) {
+    final GameState gs = g.getGameState();
+
+    for (final Map map : Map.getMapList()) {
+      for (final GamePiece p : map.getAllPieces()) {
+        map.removePiece(p);
+      }
+    }
+    for (final GamePiece p : new ArrayList<>(gs.getAllPieces())) {
+      gs.removePiece(p.getId());
+    }
+    gs.getAttachmentManager().clearAll();
+
+    final Command restore = new CommandFilter() {
+      @Override
+      protected boolean accept(Command c) {
+        return !(c instanceof GameState.SetupCommand);
+      }
+    }.apply(g.decode(encodedState));
+    restore.execute();
+
+    gs.getAttachmentManager().resolvePendingAttachments();
+    g.getIndexManager().rebuild();
+
+    // The commands we are rewinding past can no longer be undone
+    logOutput.clear();
+    nextUndo = -1;
+    dontUndoPast = 0;
+    undoAction.setEnabled(false);
+  }
+
+  /**
+   * @return the index of the next replay step to be executed
+   */
+  public int getReplayPosition() {
+    return nextInput;
+  }
+
+  /**
+   * @return the total number of steps in the replay
+   */
+  public int getReplayLength() {
+    return logInput.size();
+  }
+
+  /**
+   * Seeking backwards rewinds the game state underneath any new logfile being written and
+   * underneath any other players we are connected to, so it is only permitted offline and
+   * while not logging. It would also discard any moves the player has made since the replay
+   * began, so is not permitted once they have made one.
+   *
+   * @return true if the replay can currently be moved backwards
+   */
+  public boolean canSeekBackward() {
+    final ServerConnection server = GameModule.getGameModule().getServer();
+    return !isLogging() && !playerMoved && (server == null || !server.isConnected());
+  }
+
+  /**
+   * Move the replay to the specified step. Seeking forwards executes the intervening steps
+   * without refreshing the maps after each one. Seeking backwards restores the nearest
+   * checkpoint at or before the requested step and replays only the remainder.
+   *
+   * @param step Index of the step to move to, i.e. the number of replay steps which will have been executed
+   */
+  public void seek(int step) {
+    final GameModule g = GameModule.getGameModule();
+    final int target = Math.max(0, Math.min(step, logInput.size()));
+    if (target == nextInput) {
+      return;
+    }
+
+    final long start = System.nanoTime();
+    if (target < nextInput) {
+      if (!canSeekBackward()) {
+        g.warn(Resources.getString("BasicLogger.cannot_seek_backward"));  //$NON-NLS-1$
+        return;
+      }
+
+      final java.util.Map.Entry<Integer, String> checkpoint = checkpoints.floorEntry(target);
+      if (checkpoint == null) {
+        g.warn(Resources.getString("BasicLogger.no_checkpoint"));  //$NON-NLS-1$
+        return;
+      }
+
+      restoreCheckpoint(g, checkpoint.getValue());
+      nextInput = checkpoint.getKey();
+    }
+
+    final int from = nextInput;
+    while (nextInput < target) {
+      executeStep(g);
+    }
+
+    log.info("Seek to replay step {} of {} replayed {} steps in {} ms", //NON-NLS
+      target, logInput.size(), target - from, (System.nanoTime() - start) / 1_000_000);
+
+    replayPositionChanged(g);
+    g.refreshVisibleMaps();
   }
 
   /**
@@ -596,6 +791,12 @@ public class BasicLogger implements Logger, Buildable, GameComponent, CommandEnc
   @Override
   public void log(Command c) {
     if (c != null && c.isLoggable()) {
+      // Anything done before the first step is part of the first checkpoint, so only later moves count
+      if (!replayingStep && nextInput > 0 && !playerMoved) {
+        playerMoved = true;
+        updateSeekActions();
+      }
+
       logOutput.add(c);
       if (c.getUndoCommand() != null && !c.getUndoCommand().isNull()) {
         nextUndo = logOutput.size() - 1;
@@ -679,6 +880,47 @@ public class BasicLogger implements Logger, Buildable, GameComponent, CommandEnc
     }
   };
 
+  protected Action stepBackAction = new AbstractAction(Resources.getString("BasicLogger.step_backward")) {  //$NON-NLS-1$
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    public void actionPerformed(ActionEvent e) {
+      if (nextInput > 0) {
+        seek(nextInput - 1);
+      }
+    }
+  };
+
+  protected Action jumpAction = new AbstractAction(Resources.getString("BasicLogger.jump_to_step")) {  //$NON-NLS-1$
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    public void actionPerformed(ActionEvent e) {
+      if (logInput.isEmpty()) {
+        return;
+      }
+
+      final Object result = JOptionPane.showInputDialog(
+        GameModule.getGameModule().getPlayerWindow(),
+        Resources.getString("BasicLogger.jump_to_step_prompt", logInput.size()),  //$NON-NLS-1$
+        Resources.getString("BasicLogger.jump_to_step"),  //$NON-NLS-1$
+        JOptionPane.QUESTION_MESSAGE,
+        null,
+        null,
+        nextInput
+      );
+
+      if (result != null) {
+        try {
+          seek(Integer.parseInt(result.toString().trim()));
+        }
+        catch (NumberFormatException ex) {
+          // Not a step number, nothing to do
+        }
+      }
+    }
+  };
+
   public static class LogCommand extends Command {
     protected Command logged;
     protected List<Command> logInput;
@@ -77,6 +77,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * GameRefresher Replace all counters in the same game with the current version
@@ -125,6 +126,7 @@ public final class GameRefresher implements CommandEncoder, GameComponent {
   public static final String SEPARATOR = "----------";
   private final GameModule theModule;
   private final Set<String> options = new HashSet<>();
+  private Consumer<String> logListener;
 
   public List<DrawPile> getModuleDrawPiles() {
     return theModule.getAllDescendantComponentsOf(DrawPile.class);
@@ -197,6 +199,18 @@ public final class GameRefresher implements CommandEncoder, GameComponent {
     // Log to chatter
     GameModule.getGameModule().warn(message);
     logger.info(message);
+    if (logListener != null) {
+      logListener.accept(message);
+    }
+  }
+
+  /**
+   * Also pass every message logged by this refresher to a listener, e.g. to report them outside the Chatter
+   *
+   * @param logListener Listener for logged messages, or null for none
+   */
+  public void setLogListener(Consumer<String> logListener) {
+    this.logListener = logListener;
   }
 
   /**
@@ -299,6 +313,38 @@ public final class GameRefresher implements CommandEncoder, GameComponent {
   }
 
 
+  /**
+   * Build the cross-reference of all the PieceSlots and PlaceMarkers in the module that refreshing uses,
+   * if not already built. This is only done once for each GameRefresher.
+   *
+   * @param options Refresh options
+   * @return false, having logged why, if the module has GpId errors and so cannot be refreshed
+   */
+  public boolean checkGpIds(Set<String> options) {
+    if (Objects.isNull(gpIdChecker)) { //Only setup gpIdChecker once and keep it in the instance of GameRefresher.
+      gpIdChecker = new GpIdChecker(options);
+      for (final PieceSlot slot : theModule.getAllDescendantComponentsOf(PieceSlot.class)) {
+        gpIdChecker.add(slot);
+      }
+
+      // Add any PieceSlots in Prototype Definitions
+      for (final PrototypesContainer pc : theModule.getComponentsOf(PrototypesContainer.class)) {
+        pc.getDefinitions().forEach(gpIdChecker::add);
+      }
+
+      if (gpIdChecker.hasErrors()) {
+        // Any gpid errors should have been resolved by the GpId check when the editor is run.
+        // If a module created before gpIDChecker was set up is run on a vassal version with gmIDChecker
+        // is run in the player, errors might still be present.
+        // Inform user that he must upgrade the module to the latest vassal version before running Refresh
+        gpIdChecker = null;
+        log(Resources.getString("GameRefresher.gpid_error_message"));
+        return false;
+      }
+    }
+    return true;
+  }
+
   /**
    * This method is used by PredefinedSetup.refresh() to update a PredefinedSetup in a GameModule
    * The default execute() method calls: GameModule.getGameModule().getGameState().getAllPieces()
@@ -323,33 +369,21 @@ public final class GameRefresher implements CommandEncoder, GameComponent {
     updatedCount = 0;
     noMapCount = 0;
     noStackCount = 0;
+    notOwnedCount = 0;
+    notVisibleCount = 0;
+    deckWarnings = 0;
 
     /*
      * 1. Use the GpIdChecker to build a cross-reference of all available
      * PieceSlots and PlaceMarker's in the module.
      */
-    if (Objects.isNull(gpIdChecker)) { //Only setup gpIdChecker once and keep it in the instance of GameRefresher.
-      gpIdChecker = new GpIdChecker(options);
-      for (final PieceSlot slot : theModule.getAllDescendantComponentsOf(PieceSlot.class)) {
-        gpIdChecker.add(slot);
-      }
-
-      // Add any PieceSlots in Prototype Definitions
-      for (final PrototypesContainer pc : theModule.getComponentsOf(PrototypesContainer.class)) {
-        pc.getDefinitions().forEach(gpIdChecker::add);
-      }
-
-      if (gpIdChecker.hasErrors()) {
-        // Any gpid errors should have been resolved by the GpId check when the editor is run.
-        // If a module created before gpIDChecker was set up is run on a vassal version with gmIDChecker
-        // is run in the player, errors might still be present.
-        // Inform user that he must upgrade the module to the latest vassal version before running Refresh
-        gpIdChecker = null;
-        log(Resources.getString("GameRefresher.gpid_error_message"));
-        return;
-      }
+    if (!checkGpIds(options)) {
+      return;
     }
 
+    // The GpIdChecker is kept between runs, so only count the misses from this one
+    final int priorNoGpIdMatch = gpIdChecker.getNoGpIdMatch();
+
   /*
    * 2. Build a list in visual order of all stacks, decks, mats and other pieces that need refreshing
    */
@@ -606,7 +640,7 @@ public final class GameRefresher implements CommandEncoder, GameComponent {
       GameModule.getGameModule().fireKeyStroke(NamedKeyStroke.of("VassalPostRefreshGHK"));
     }
 
-    noGpIdMatch = gpIdChecker.getNoGpIdMatch(); // So that GpId failures accumulator can be passed back to PreDefined Setup refresher
+    noGpIdMatch = gpIdChecker.getNoGpIdMatch() - priorNoGpIdMatch; // So that GpId failures accumulator can be passed back to PreDefined Setup refresher
 
   }
 
@@ -43,6 +43,7 @@ import VASSAL.i18n.Resources;
 import VASSAL.launch.ModuleManagerUpdateHelper;
 import VASSAL.preferences.Prefs;
 import VASSAL.tools.ErrorDialog;
+import VASSAL.tools.NotificationBatch;
 import VASSAL.tools.ProblemDialog;
 import VASSAL.tools.ReadErrorDialog;
 import VASSAL.tools.ThrowableUtils;
@@ -546,6 +547,7 @@ public class GameState implements CommandEncoder {
     if (!gameStarting) {
       pieces.clear();
       attachmentManager.clearAll();
+      NotificationBatch.endAll(); // Don't let a batch left unfinished by the game hold back notifications after it
     }
 
     newGame.setEnabled(!gameStarting);
@@ -98,6 +98,7 @@ public class GlobalOptions extends AbstractConfigurable implements ComponentDesc
   public static final String STORE_LEADING_ZERO_INTEGERS_AS_STRINGS = "storeLeadingZeroIntegersAsStrings"; //NON-NLS
   public static final String PURGE_BLANK_PROPERTY_PROMPTS = "purgeBlankPropertyPrompts"; //NON-NLS
   public static final String DISABLE_PIECE_INDEXING = "disablePieceIndexing";
+  public static final String COMPACT_COMMANDS = "compactCommands"; //NON-NLS
   public static final String MIN_MAXIMUM_HEAP = "minMaxHeap";
 
   // Hybrid preference settings
@@ -154,6 +155,7 @@ public class GlobalOptions extends AbstractConfigurable implements ComponentDesc
   private boolean storeLeadingZeroIntegersAsStrings = false; // Store integers with leading zeroes as String internally
   private boolean purgeBlankPropertyPrompts = true; // Purge blank property prompts
   private boolean disableUsePieceIndexes = false; // Should FastMatch use piece Indexes?
+  private boolean compactCommands = false; // Send Deck shuffles and piece changes in the compact form older clients can't read
   private int minMaxHeap = 0; // Module designer's specified minimum for the Max Heap preference
 
   // Configurable prompt string for unmask-my-pieces
@@ -487,6 +489,7 @@ public class GlobalOptions extends AbstractConfigurable implements ComponentDesc
       Resources.getString("Editor.GlobalOption.leading_zero_integer_strings"),
       Resources.getString("Editor.GlobalOption.purge_blank_property_prompts"),
       Resources.getString("Editor.GlobalOption.disable_use_location_indexes"),
+      Resources.getString("Editor.GlobalOption.compact_commands"),
       Resources.getString("Editor.GlobalOption.min_maximum_heap")
     };
   }
@@ -510,6 +513,7 @@ public class GlobalOptions extends AbstractConfigurable implements ComponentDesc
         STORE_LEADING_ZERO_INTEGERS_AS_STRINGS,
         PURGE_BLANK_PROPERTY_PROMPTS,
         DISABLE_PIECE_INDEXING,
+        COMPACT_COMMANDS,
         MIN_MAXIMUM_HEAP
       )
     );
@@ -537,6 +541,7 @@ public class GlobalOptions extends AbstractConfigurable implements ComponentDesc
       Boolean.class,
       Boolean.class,
       Boolean.class,
+      Boolean.class,
       Integer.class
     };
   }
@@ -674,6 +679,9 @@ public class GlobalOptions extends AbstractConfigurable implements ComponentDesc
     else if (DISABLE_PIECE_INDEXING.equals(key)) {
       return String.valueOf(disableUsePieceIndexes);
     }
+    else if (COMPACT_COMMANDS.equals(key)) {
+      return String.valueOf(compactCommands);
+    }
     else if (MIN_MAXIMUM_HEAP.equals(key)) {
       return Integer.toString(minMaxHeap);
     }
@@ -779,6 +787,14 @@ public class GlobalOptions extends AbstractConfigurable implements ComponentDesc
         disableUsePieceIndexes = "true".equals(value); //NON-NLS
       }
     }
+    else if (COMPACT_COMMANDS.equals(key)) {
+      if (value instanceof Boolean) {
+        compactCommands = (Boolean) value;
+      }
+      else if (value instanceof String) {
+        compactCommands = "true".equals(value); //NON-NLS
+      }
+    }
     else if (MIN_MAXIMUM_HEAP.equals(key)) {
       if (value instanceof String) {
         Integer i;
@@ -909,6 +925,14 @@ public class GlobalOptions extends AbstractConfigurable implements ComponentDesc
     return disableUsePieceIndexes;
   }
 
+  /**
+   * @return true if Deck shuffles and piece changes may be sent as the compact commands
+   * that clients older than 3.8 cannot decode. Off by default, so mixed-version games stay in step.
+   */
+  public boolean isCompactCommands() {
+    return compactCommands;
+  }
+
   /** @return minimum Max Heap - will override user preference if that is set lower */
   public int getMinMaximumHeap() {
     return minMaxHeap;
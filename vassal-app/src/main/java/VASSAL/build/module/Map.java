@@ -27,6 +27,7 @@ import VASSAL.build.GameModule;
 import VASSAL.build.IllegalBuildException;
 import VASSAL.build.module.documentation.HelpFile;
 import VASSAL.build.module.folder.MapSubFolder;
+import VASSAL.build.module.index.PieceBoundsIndex;
 import VASSAL.build.module.map.BoardPicker;
 import VASSAL.build.module.map.CounterDetailViewer;
 import VASSAL.build.module.map.DefaultPieceCollection;
@@ -121,6 +122,7 @@ import VASSAL.tools.KeyStrokeSource;
 import VASSAL.tools.LaunchButton;
 import VASSAL.tools.NamedKeyStroke;
 import VASSAL.tools.NamedKeyStrokeListener;
+import VASSAL.tools.NotificationBatch;
 import VASSAL.tools.ToolBarComponent;
 import VASSAL.tools.UniqueIdManager;
 import VASSAL.tools.WrapLayout;
@@ -153,6 +155,7 @@ import java.awt.Component;
 import java.awt.Composite;
 import java.awt.Container;
 import java.awt.Dimension;
+import java.awt.FontMetrics;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
 import java.awt.Insets;
@@ -190,7 +193,9 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Predicate;
 
 import static VASSAL.preferences.Prefs.MAIN_WINDOW_HEIGHT;
 import static VASSAL.preferences.Prefs.MAIN_WINDOW_REMEMBER;
@@ -258,7 +263,9 @@ public class Map extends AbstractToolbarItem implements GameComponent, MouseList
   protected List<Board> boards = new CopyOnWriteArrayList<>();
   protected int[][] boardWidths; // Cache of board widths by row/column
   protected int[][] boardHeights; // Cache of board heights by row/column
+  private volatile int boardsVersion = 0; // Changed whenever the boards or their layout change, so that anything derived from them can be recalculated
   protected PieceCollection pieces = new DefaultPieceCollection(); // All the pieces on the map, but sorted into visual layers. Will be replaced by a LayeredPieceCollection if Map has a "Game Piece Layers" Component.
+  private final PieceBoundsIndex boundsIndex = new PieceBoundsIndex(); // Bounding boxes of the pieces, to speed up finding the pieces under a point
   protected Highlighter highlighter = new ColoredBorder();
   protected ArrayList<Highlighter> highlighters = new ArrayList<>(); //NOPMD
   protected boolean clearFirst = false; // Whether to clear the display before
@@ -277,7 +284,7 @@ public class Map extends AbstractToolbarItem implements GameComponent, MouseList
   protected NamedKeyStroke moveKey;
   protected String tooltip = ""; //$NON-NLS-1$
   protected MutablePropertiesContainer propsContainer = new MutablePropertiesContainer.Impl();
-  protected PropertyChangeListener repaintOnPropertyChange = evt -> repaint();
+  protected PropertyChangeListener repaintOnPropertyChange = evt -> NotificationBatch.notify(this, this::repaint);
   protected PieceMover pieceMover;
   protected KeyBufferer keyBufferer;
   protected KeyListener[] saveKeyListeners = null;
@@ -294,6 +301,8 @@ public class Map extends AbstractToolbarItem implements GameComponent, MouseList
 
   private boolean anyMouseoverDrawn = false;
 
+  private int piecesDrawn = 0; // Number of pieces/stacks drawn in the last paint, for paint timing overlay
+
   public boolean isAnyMouseoverDrawn() {
     return anyMouseoverDrawn;
   }
@@ -2345,6 +2354,7 @@ public class Map extends AbstractToolbarItem implements GameComponent, MouseList
    */
   public void paintRegion(Graphics g, Rectangle visibleRect, Component c) {
     setAnyMouseoverDrawn(false);
+    piecesDrawn = 0;
     clearMapBorder(g); // To avoid ghost pieces around the edge
     drawBoardsInRegion(g, visibleRect, c);
     drawDrawable(g, false);
@@ -2402,11 +2412,21 @@ public class Map extends AbstractToolbarItem implements GameComponent, MouseList
     for (final GamePiece gamePiece : stack) {
       final Point pt = mapToDrawing(gamePiece.getPosition(), os_scale);
       if (gamePiece.getClass() == Stack.class) {
+        // StackMetrics skips any pieces of the stack lying outside the region
         getStackMetrics().draw(
           (Stack) gamePiece, pt, g, this, dzoom, visibleRect
         );
+        piecesDrawn++;
       }
       else {
+        // Skip pieces lying entirely outside the region being painted
+        if (visibleRect != null) {
+          final Rectangle bb = boundingBoxOf(gamePiece);
+          if (bb != null && !visibleRect.intersects(mapToDrawing(bb, os_scale))) {
+            continue;
+          }
+        }
+        piecesDrawn++;
         gamePiece.draw(g, pt.x, pt.y, c, dzoom);
         if (Boolean.TRUE.equals(gamePiece.getProperty(Properties.SELECTED))) {
           highlighter.draw(gamePiece, g, pt.x, pt.y, c, dzoom);
@@ -2607,6 +2627,7 @@ public class Map extends AbstractToolbarItem implements GameComponent, MouseList
    */
   public void setPieceCollection(PieceCollection pieces) {
     this.pieces = pieces;
+    boundsIndex.invalidate();
   }
 
   /**
@@ -2677,9 +2698,18 @@ public class Map extends AbstractToolbarItem implements GameComponent, MouseList
       b.setLocation(location.x, location.y);
       b.translate(offset.x, offset.y);
     }
+    ++boardsVersion;
     theMap.revalidate();
   }
 
+  /**
+   * @return A number which changes whenever the boards of this map are selected or laid out again, so that
+   * anything derived from the boards (e.g. which Board or Zone a piece is in) can be kept until it does.
+   */
+  public int getBoardsVersion() {
+    return boardsVersion;
+  }
+
   /**
    * Gets the location of a board in Map space, based on a passed zoom factor
    * @param b Board to find location
@@ -2766,10 +2796,12 @@ public class Map extends AbstractToolbarItem implements GameComponent, MouseList
   }
 
   /**
-   * Repaint the given area, specified in map coordinates
+   * Repaint the given area, specified in map coordinates. The bounds of the pieces overlapping the area will be
+   * looked up again before pieces are next searched for under a point.
    * @param r Rectangle specifying region to repaint in map coordinates
    */
   public void repaint(Rectangle r) {
+    boundsIndex.invalidate(new Rectangle(r));
     r.setLocation(mapToComponent(new Point(r.x, r.y)));
     r.setSize((int) (r.width * getZoom()), (int) (r.height * getZoom()));
     theMap.repaint(r.x, r.y, r.width, r.height);
@@ -3020,7 +3052,9 @@ public class Map extends AbstractToolbarItem implements GameComponent, MouseList
     }
     else {
       pieces.clear();
+      boundsIndex.invalidate();
       boards.clear();
+      ++boardsVersion;
 
       if (!g.isLoadOverSemaphore()) {
         if (shouldDockIntoMainWindow()) {
@@ -3121,6 +3155,17 @@ public class Map extends AbstractToolbarItem implements GameComponent, MouseList
     }
   }
 
+  /**
+   * Note that a piece on this map may have moved or changed size or shape, so that its bounds are looked up again
+   * before pieces are next searched for under a point. Pieces are only looked up again when this is called (as it is
+   * whenever a piece's position is set), or when they overlap an area repainted with {@link #repaint(Rectangle)}, so
+   * anything else which changes the bounding box of a piece on the map must call this.
+   * @param p Piece, or a piece in a Stack, which may have changed
+   */
+  public void pieceBoundsChanged(GamePiece p) {
+    boundsIndex.invalidate(p.getParent() != null ? p.getParent() : p);
+  }
+
   /**
    * Use the provided {@link PieceFinder} instance to locate a visible piece at the given location
    * @param pt Point at which to find visible pieces
@@ -3129,7 +3174,11 @@ public class Map extends AbstractToolbarItem implements GameComponent, MouseList
    */
   public GamePiece findPiece(Point pt, PieceFinder finder) {
     final GamePiece[] stack = pieces.getPieces();
+    final Set<GamePiece> candidates = getCandidates(pt, finder);
     for (int i = stack.length - 1; i >= 0; --i) {
+      if (candidates != null && !boundsIndex.isCandidate(stack[i], candidates)) {
+        continue;
+      }
       final GamePiece p = finder.select(this, stack[i], pt);
       if (p != null) {
         return p;
@@ -3147,9 +3196,13 @@ public class Map extends AbstractToolbarItem implements GameComponent, MouseList
    */
   public GamePiece findAnyPiece(Point pt, PieceFinder finder) {
     final GamePiece[] stack = pieces.getAllPieces();
+    final Set<GamePiece> candidates = getCandidates(pt, finder);
     // Our piece collection is provided to us in "draw order", in other words "back-to-front", which means
     // that we need to iterate backwards to prioritize checking pieces that are visually "in front of" others.
     for (int i = stack.length - 1; i >= 0; --i) {
+      if (candidates != null && !boundsIndex.isCandidate(stack[i], candidates)) {
+        continue;
+      }
       final GamePiece p = finder.select(this, stack[i], pt);
       if (p != null) {
         return p;
@@ -3158,6 +3211,35 @@ public class Map extends AbstractToolbarItem implements GameComponent, MouseList
     return null;
   }
 
+  /**
+   * Look up the pieces whose bounding boxes contain a point, so that the exact (and much more expensive) test made by
+   * a {@link PieceFinder} can be skipped for every other piece on the map.
+   * @param pt Point in map coordinates
+   * @param finder PieceFinder that will be applied to the candidates
+   * @return The candidate pieces, or null if the finder may select pieces that do not lie under the point, in which
+   * case every piece must be tested
+   */
+  private Set<GamePiece> getCandidates(Point pt, PieceFinder finder) {
+    if (!finder.selectsOnlyPiecesAtPoint()) {
+      return null;
+    }
+    boundsIndex.update(pieces::getAllPieces);
+    return boundsIndex.getCandidates(pt);
+  }
+
+  /**
+   * Return a filter which rejects the top-level pieces (unstacked pieces, Stacks and Decks) on this map whose bounding
+   * boxes do not contain a point, for components that search for the pieces under the mouse themselves.
+   * The filter is only valid until the pieces on the map next change.
+   * @param pt Point in map coordinates
+   * @return Filter accepting the pieces which may lie under the point
+   */
+  public Predicate<GamePiece> getPiecesAtPointFilter(Point pt) {
+    boundsIndex.update(pieces::getAllPieces);
+    final Set<GamePiece> candidates = boundsIndex.getCandidates(pt);
+    return p -> boundsIndex.isCandidate(p, candidates);
+  }
+
   /**
    * Place a piece at the destination point. If necessary, remove the piece from its parent Stack or Map
    * @param piece GamePiece to place
@@ -3265,6 +3347,7 @@ public class Map extends AbstractToolbarItem implements GameComponent, MouseList
       }
       p.setMap(this);
       pieces.add(p);
+      boundsIndex.addPiece(p);
       theMap.repaint();
       GameModule.getGameModule().getIndexManager().pieceMoved(p, this);
     }
@@ -3287,6 +3370,7 @@ public class Map extends AbstractToolbarItem implements GameComponent, MouseList
   public void removePiece(GamePiece p) {
     GameModule.getGameModule().getIndexManager().pieceRemoved(p, this);
     pieces.remove(p);
+    boundsIndex.removePiece(p);
     theMap.repaint();
     GameModule.getGameModule().getIndexManager().pieceRemoved(p, this);
   }
@@ -4048,8 +4132,34 @@ public class Map extends AbstractToolbarItem implements GameComponent, MouseList
   public static class View extends JPanel {
     private static final long serialVersionUID = 1L;
 
+    /** If true, each map view draws an overlay showing how long it took to paint */
+    private static boolean showPaintTimes = false;
+
     protected Map map;
 
+    private long lastPaintNanos;
+    private double averagePaintNanos;
+    private final Dimension lastPaintSize = new Dimension();
+    private int lastPiecesDrawn;
+    private final Rectangle paintTimesBounds = new Rectangle();
+
+    /**
+     * Turn the paint timing overlay on or off for all map views. The overlay shows the time taken
+     * by the last paint, a moving average, the size of the region repainted and how many
+     * pieces or stacks were drawn.
+     * @param show true to show the overlay
+     */
+    public static void setShowPaintTimes(boolean show) {
+      showPaintTimes = show;
+      for (final Map m : getMapList()) {
+        m.getView().repaint();
+      }
+    }
+
+    public static boolean isShowPaintTimes() {
+      return showPaintTimes;
+    }
+
     /**
      * Create our view
      * @param m lets us know what Map we represent
@@ -4072,6 +4182,19 @@ public class Map extends AbstractToolbarItem implements GameComponent, MouseList
 
       final Graphics2D g2d = (Graphics2D) g;
 
+      // Only the damaged part of the view needs drawing: everything
+      // outside the clip would be discarded anyway.
+      Rectangle dirty = getVisibleRect();
+      final Rectangle clip = g2d.getClipBounds();
+      if (clip != null) {
+        dirty = dirty.intersection(clip);
+        if (dirty.isEmpty()) {
+          return;
+        }
+      }
+
+      final long start = System.nanoTime();
+
       g2d.addRenderingHints(SwingUtils.FONT_HINTS);
       g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING,
                            RenderingHints.VALUE_ANTIALIAS_ON);
@@ -4085,13 +4208,56 @@ public class Map extends AbstractToolbarItem implements GameComponent, MouseList
       final AffineTransform orig_t = g2d.getTransform();
       g2d.setTransform(SwingUtils.descaleTransform(orig_t));
 
-      final Rectangle r = map.componentToDrawing(getVisibleRect(), os_scale);
+      final Rectangle r = map.componentToDrawing(dirty, os_scale);
+      // Pad by a pixel so rounding at fractional OS scales doesn't leave seams
+      r.grow(1, 1);
 
       g2d.setColor(map.bgColor);
       g2d.fillRect(r.x, r.y, r.width, r.height);
       map.paintRegion(g2d, r);
 
       g2d.setTransform(orig_t);
+
+      if (showPaintTimes) {
+        drawPaintTimes(g2d, System.nanoTime() - start, dirty);
+      }
+    }
+
+    /**
+     * Draw the paint timing overlay in the top left corner of the view
+     * @param g2d target graphics object, in component coordinates
+     * @param nanos time taken by the paint just completed
+     * @param dirty region that was repainted, in component coordinates
+     */
+    private void drawPaintTimes(Graphics2D g2d, long nanos, Rectangle dirty) {
+      // Repainting just the overlay to refresh it isn't a paint worth reporting, so keep the last real one
+      if (paintTimesBounds.isEmpty() || !paintTimesBounds.contains(dirty)) {
+        lastPaintNanos = nanos;
+        averagePaintNanos = averagePaintNanos == 0 ? nanos : 0.9 * averagePaintNanos + 0.1 * nanos;
+        lastPaintSize.setSize(dirty.width, dirty.height);
+        lastPiecesDrawn = map.piecesDrawn;
+      }
+
+      final String text = String.format(
+        "%.2f ms (avg %.2f ms)  %dx%d  %d pieces", //NON-NLS
+        lastPaintNanos / 1_000_000.0, averagePaintNanos / 1_000_000.0,
+        lastPaintSize.width, lastPaintSize.height, lastPiecesDrawn
+      );
+
+      final Rectangle vr = getVisibleRect();
+      final FontMetrics fm = g2d.getFontMetrics();
+      paintTimesBounds.setBounds(vr.x, vr.y, vr.width, fm.getHeight() + 4);
+
+      g2d.setColor(Color.BLACK);
+      g2d.fillRect(vr.x, vr.y, fm.stringWidth(text) + 8, fm.getHeight() + 4);
+      g2d.setColor(Color.WHITE);
+      g2d.drawString(text, vr.x + 4, vr.y + 2 + fm.getAscent());
+
+      // A partial repaint which missed the overlay leaves it showing stale
+      // numbers; request a repaint of just the overlay to refresh it.
+      if (!dirty.contains(paintTimesBounds)) {
+        repaint(paintTimesBounds);
+      }
     }
 
     /**
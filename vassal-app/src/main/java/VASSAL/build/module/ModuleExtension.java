@@ -19,6 +19,7 @@ package VASSAL.build.module;
 
 import VASSAL.Info;
 import VASSAL.build.AbstractBuildable;
+import VASSAL.build.BuildFileCache;
 import VASSAL.build.Buildable;
 import VASSAL.build.Builder;
 import VASSAL.build.GameModule;
@@ -42,7 +43,6 @@ import VASSAL.tools.version.VersionUtils;
 import net.miginfocom.swing.MigLayout;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.w3c.dom.Document;
 
 import javax.swing.AbstractAction;
 import javax.swing.Action;
@@ -57,11 +57,9 @@ import java.awt.event.ActionEvent;
 import java.io.BufferedInputStream;
 import java.io.ByteArrayInputStream;
 import java.io.File;
-import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
-import java.nio.file.NoSuchFileException;
 import java.util.UUID;
 
 /**
@@ -133,22 +131,23 @@ public class ModuleExtension extends AbstractBuildable implements GameComponent,
         data.getVassalVersion()), "3.5" // NON-NLS
       ) < 0 ? GameModule.BUILDFILE_OLD : GameModule.BUILDFILE;
 
-    try (BufferedInputStream in = new BufferedInputStream(archive.getInputStream(buildFile))) {
-      try {
-        final Document doc = Builder.createDocument(in);
-        if (doc != null) {
-          build(doc.getDocumentElement());
-        }
+    try {
+      if (!archive.contains(buildFile)) {
+        // This is not necessarily an error; it's normal with new extensions
+        logger.info("File {} not found in archive", buildFile); //NON-NLS
       }
-      catch (IOException e) {
-        logger.error("Error while loading XML data from file {}", buildFile, e); //NON-NLS
-        throw new ExtensionsLoader.LoadExtensionException(e);
+      else {
+        try (Builder.ElementSource source = BuildFileCache.open(
+               () -> new BufferedInputStream(archive.getInputStream(buildFile)))) {
+          build(source.getRootElement());
+          source.build(this);
+        }
+        catch (IOException e) {
+          logger.error("Error while loading XML data from file {}", buildFile, e); //NON-NLS
+          throw new ExtensionsLoader.LoadExtensionException(e);
+        }
       }
     }
-    catch (FileNotFoundException | NoSuchFileException e) {
-      // This is not necessarily an error; it's normal with new extensions
-      logger.info("File {} not found in archive", buildFile); //NON-NLS
-    }
     catch (IOException e) {
       logger.error("Error while reading file {} from archive", buildFile, e); //NON-NLS
     }
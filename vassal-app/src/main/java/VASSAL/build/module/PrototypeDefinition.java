@@ -166,8 +166,17 @@ public class PrototypeDefinition extends AbstractConfigurable
    * @return Created Piece
    */
   public GamePiece getPiece(PropertySource props) {
-    final String def = props == null ? pieceDefinition : new FormattedString(pieceDefinition).getText(props, this, "Editor.Prototype.component_type");
-    return getPiece(def);
+    return getPiece(getPieceDefinition(props));
+  }
+
+  /**
+   * For the case when the piece definition is a Message Format, expand the definition using the given properties
+   *
+   * @param props PropertySource providing property values
+   * @return Expanded piece definition
+   */
+  public String getPieceDefinition(PropertySource props) {
+    return props == null ? pieceDefinition : new FormattedString(pieceDefinition).getText(props, this, "Editor.Prototype.component_type");
   }
 
   protected GamePiece getPiece(String def) {
@@ -26,6 +26,7 @@ import VASSAL.build.module.documentation.HelpFile;
 import VASSAL.build.module.folder.PrototypeFolder;
 import VASSAL.build.widget.PieceSlot;
 import VASSAL.configure.Configurer;
+import VASSAL.counters.PrototypeExpansionCache;
 import VASSAL.i18n.ComponentI18nData;
 import VASSAL.i18n.Resources;
 
@@ -98,11 +99,13 @@ public class PrototypesContainer extends AbstractConfigurable {
   // Rebuild prototype cross-reference
   private void rebuildPrototypeMap() {
     definitions.clear();
+    PrototypeExpansionCache.clear();
     GameModule.getGameModule().getAllDescendantComponentsOf(PrototypeDefinition.class).forEach((def) -> definitions.put(def.getConfigureName(), def));
   }
 
   public void addDefinition(PrototypeDefinition def) {
     definitions.put(def.getConfigureName(), def);
+    PrototypeExpansionCache.clear();
     def.addPropertyChangeListener(evt -> {
       if (NAME_PROPERTY.equals(evt.getPropertyName())) {
         // When a prototype is renamed we need to rebuild the prototype map, so that if there was a duplicate of the same name it will re-establish its presence
@@ -169,6 +172,7 @@ public class PrototypesContainer extends AbstractConfigurable {
 
   public void resetCache() {
     resetCache(this);
+    PrototypeExpansionCache.clear();
 
     resetPieceCache(GameModule.getGameModule());
   }
@@ -0,0 +1,257 @@
+/*
+ *
+ * Copyright (c) 2026 by The VASSAL Development Team
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License (LGPL) as published by the Free Software Foundation.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, copies are available
+ * at http://www.opensource.org.
+ */
+package VASSAL.build.module.index;
+
+import VASSAL.counters.GamePiece;
+
+import java.awt.Point;
+import java.awt.Rectangle;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.function.LongConsumer;
+import java.util.function.Supplier;
+
+/**
+ * A coarse spatial index of the bounding boxes of the top-level pieces on a Map (unstacked pieces, Stacks and
+ * Decks), used to find the pieces that might lie under a point before running an exact
+ * {@link VASSAL.counters.PieceFinder} test on them.
+ *
+ * The Map is divided into square cells, and each piece is recorded in every cell its bounding box overlaps.
+ * The index never searches the Map for pieces which have changed: each {@link #update} recalculates only the
+ * bounding boxes of the pieces added or invalidated since the last one. The owning Map must therefore tell the
+ * index of every piece it gains or loses, and invalidate a piece whenever it moves or its bounds may have changed.
+ * See {@link VASSAL.build.module.Map#pieceBoundsChanged}.
+ *
+ * The index does not record drawing order. Callers still walk the Map's own piece list (so layer order is always
+ * current) and use {@link #isCandidate} to skip pieces that cannot be under the point. Pieces the index has never
+ * seen are always candidates.
+ */
+public class PieceBoundsIndex {
+
+  /** Size in map pixels of the square cells the index is divided into */
+  private static final int CELL_SIZE = 128;
+
+  /** Pieces overlapping more cells than this are not bucketed, but are always candidates */
+  private static final int MAX_CELLS = 256;
+
+  /** Current bounding box of each indexed piece, in map coordinates */
+  private final java.util.Map<GamePiece, Rectangle> bounds = new IdentityHashMap<>();
+
+  /** Pieces overlapping each cell, keyed by cell coordinates */
+  private final java.util.Map<Long, List<GamePiece>> cells = new HashMap<>();
+
+  /** Pieces which are too large (or have no bounds) to bucket */
+  private final Set<GamePiece> unbucketed = Collections.newSetFromMap(new IdentityHashMap<>());
+
+  /** Pieces whose bounds must be recalculated before the next query */
+  private final Set<GamePiece> dirty = Collections.newSetFromMap(new IdentityHashMap<>());
+
+  private boolean valid = false;
+
+  /**
+   * Discard the whole index. It will be rebuilt on the next call to {@link #update}
+   */
+  public synchronized void invalidate() {
+    valid = false;
+    dirty.clear();
+  }
+
+  /**
+   * Mark every indexed piece whose bounds overlap a region as needing its bounds recalculated
+   *
+   * @param r Region of the Map, in map coordinates
+   */
+  public synchronized void invalidate(Rectangle r) {
+    if (!valid || r == null) {
+      return;
+    }
+
+    // Cheaper to start again than to visit every cell of a very large region
+    if ((long) r.width * r.height > (long) MAX_CELLS * 16 * CELL_SIZE * CELL_SIZE) {
+      invalidate();
+      return;
+    }
+
+    forEachCell(r, key -> {
+      final List<GamePiece> list = cells.get(key);
+      if (list != null) {
+        for (final GamePiece p : list) {
+          if (r.intersects(bounds.get(p))) {
+            dirty.add(p);
+          }
+        }
+      }
+    });
+  }
+
+  /**
+   * Mark an indexed piece as needing its bounds recalculated, because it has moved or its size or shape has changed.
+   * Pieces which are not in the index are ignored.
+   *
+   * @param p Piece
+   */
+  public synchronized void invalidate(GamePiece p) {
+    if (valid && bounds.containsKey(p)) {
+      dirty.add(p);
+    }
+  }
+
+  /**
+   * Add a piece which has just been placed on the Map. Its bounds are calculated on the next {@link #update}.
+   *
+   * @param p Piece
+   */
+  public synchronized void addPiece(GamePiece p) {
+    if (valid) {
+      dirty.add(p);
+    }
+  }
+
+  /**
+   * Remove a piece from the index
+   *
+   * @param p Piece
+   */
+  public synchronized void removePiece(GamePiece p) {
+    dirty.remove(p);
+    final Rectangle r = bounds.remove(p);
+    if (r != null && !unbucketed.remove(p)) {
+      forEachCell(r, key -> {
+        final List<GamePiece> list = cells.get(key);
+        if (list != null) {
+          list.remove(p);
+          if (list.isEmpty()) {
+            cells.remove(key);
+          }
+        }
+      });
+    }
+  }
+
+  /**
+   * Bring the index up to date before a query, rebuilding it from scratch if it has been invalidated,
+   * or otherwise recalculating the bounds of only those pieces which are new or dirty
+   *
+   * @param pieces Supplies all top-level pieces currently on the Map, asked for only if the index must be rebuilt
+   */
+  public synchronized void update(Supplier<GamePiece[]> pieces) {
+    if (!valid) {
+      bounds.clear();
+      cells.clear();
+      unbucketed.clear();
+      dirty.clear();
+      for (final GamePiece p : pieces.get()) {
+        index(p);
+      }
+      valid = true;
+      return;
+    }
+
+    if (dirty.isEmpty()) {
+      return;
+    }
+    final List<GamePiece> changed = new ArrayList<>(dirty);
+    for (final GamePiece p : changed) {
+      removePiece(p);
+      index(p);
+    }
+  }
+
+  /**
+   * @return true if the index has been built and not since discarded
+   */
+  public synchronized boolean isValid() {
+    return valid;
+  }
+
+  /**
+   * Return the set of indexed pieces whose bounding boxes contain the point. Call {@link #update} first.
+   *
+   * @param pt Point in map coordinates
+   * @return Pieces which may lie under the point
+   */
+  public synchronized Set<GamePiece> getCandidates(Point pt) {
+    final Set<GamePiece> candidates = Collections.newSetFromMap(new IdentityHashMap<>());
+    final List<GamePiece> list = cells.get(key(Math.floorDiv(pt.x, CELL_SIZE), Math.floorDiv(pt.y, CELL_SIZE)));
+    if (list != null) {
+      for (final GamePiece p : list) {
+        if (bounds.get(p).contains(pt)) {
+          candidates.add(p);
+        }
+      }
+    }
+    candidates.addAll(unbucketed);
+    return candidates;
+  }
+
+  /**
+   * @param p Piece to check
+   * @param candidates Result of {@link #getCandidates} for the point being tested
+   * @return true if the piece needs an exact test: it either overlaps the point, or is not in the index at all
+   */
+  public synchronized boolean isCandidate(GamePiece p, Set<GamePiece> candidates) {
+    return candidates.contains(p) || !bounds.containsKey(p);
+  }
+
+  /**
+   * @return Number of pieces currently in the index
+   */
+  public synchronized int getCount() {
+    return bounds.size();
+  }
+
+  private void index(GamePiece p) {
+    final Rectangle r = p.boundingBox();
+    final Point pos = p.getPosition();
+    r.translate(pos.x, pos.y);
+    bounds.put(p, r);
+
+    final long w = Math.floorDiv(r.x + r.width - 1, CELL_SIZE) - Math.floorDiv(r.x, CELL_SIZE) + 1;
+    final long h = Math.floorDiv(r.y + r.height - 1, CELL_SIZE) - Math.floorDiv(r.y, CELL_SIZE) + 1;
+    if (r.isEmpty() || w * h > MAX_CELLS) {
+      unbucketed.add(p);
+    }
+    else {
+      forEachCell(r, key -> cells.computeIfAbsent(key, k -> new ArrayList<>()).add(p));
+    }
+  }
+
+  private void forEachCell(Rectangle r, LongConsumer action) {
+    if (r.isEmpty()) {
+      return;
+    }
+
+    final int x1 = Math.floorDiv(r.x, CELL_SIZE);
+    final int y1 = Math.floorDiv(r.y, CELL_SIZE);
+    final int x2 = Math.floorDiv(r.x + r.width - 1, CELL_SIZE);
+    final int y2 = Math.floorDiv(r.y + r.height - 1, CELL_SIZE);
+    for (int x = x1; x <= x2; x++) {
+      for (int y = y1; y <= y2; y++) {
+        action.accept(key(x, y));
+      }
+    }
+  }
+
+  private static long key(int cellX, int cellY) {
+    return ((long) cellX << 32) | (cellY & 0xffffffffL);
+  }
+}
@@ -57,6 +57,7 @@ import VASSAL.i18n.Resources;
 import VASSAL.search.HTMLImageFinder;
 import VASSAL.tools.FormattedString;
 import VASSAL.tools.NamedKeyStroke;
+import VASSAL.tools.image.ImageUtils;
 import VASSAL.tools.image.LabelUtils;
 import VASSAL.tools.swing.SwingUtils;
 
@@ -84,11 +85,13 @@ import java.awt.event.MouseEvent;
 import java.awt.event.MouseListener;
 import java.awt.event.MouseMotionListener;
 import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Predicate;
 
 /**
  * This is a {@link Drawable} class that draws the counters horizontally when
@@ -251,6 +254,10 @@ public class CounterDetailViewer extends AbstractConfigurable implements Drawabl
 
   private int excessWidth = 0;
 
+  /** Composed image of the pieces last shown, and the values it was composed from */
+  private BufferedImage pieceImage;
+  private List<Object> pieceImageKey;
+
   @Deprecated(since = "2023-02-15", forRemoval = true)
   public static boolean isDrawingMouseOver() {
     return Map.getMapList().stream().anyMatch(Map::isDrawingMouseOver);
@@ -525,53 +532,86 @@ public class CounterDetailViewer extends AbstractConfigurable implements Drawabl
       borderOffset += borderWidth;
     }
 
-    Object owner = null;
-    for (final GamePiece piece : pieces) {
-      // Draw the next piece
-      // pt is the location of the left edge of the piece
-      final Rectangle pieceBounds = getBounds(piece);
-      if (unrotatePieces) {
-        piece.setProperty(Properties.USE_UNROTATED_SHAPE, Boolean.TRUE);
-      }
+    // The pieces are composed into an image which is reused for as long as they
+    // and the scale are unchanged, so that repainting the map under the viewer
+    // does not redraw every piece at magnification.
+    final List<Object> imageKey = getPieceImageKey(pieces, graphicsZoom * os_scale, dbounds);
+    final Point imageOrigin = new Point(dbounds.x - 3, dbounds.y - 3);
+    final boolean composing = graphicsZoom > 0.0 && !pieces.isEmpty() && !imageKey.equals(pieceImageKey);
+    if (composing) {
+      int width = dbounds.width + 5;
+      for (final GamePiece piece : pieces) {
+        width += (int) Math.ceil(getBounds(piece).width * graphicsZoom * os_scale);
+      }
+      pieceImage = ImageUtils.createCompatibleTranslucentImage(width, dbounds.height + 5);
+      pieceImageKey = imageKey;
+      final Graphics2D ig = pieceImage.createGraphics();
+      ig.setRenderingHints(g2d.getRenderingHints());
+      ig.translate(-imageOrigin.x, -imageOrigin.y);
+
+      // Compose the pieces left to right, in the same places as the text drawn beneath them below
+      final Rectangle pbounds = new Rectangle(dbounds);
+      int pieceOffset = borderOffset;
+      Object owner = null;
+      for (final GamePiece piece : pieces) {
+        // Draw the next piece
+        // pt is the location of the left edge of the piece
+        final Rectangle pieceBounds = getBounds(piece);
 
-      g.setClip(dbounds.x - 3, dbounds.y - 3, dbounds.width + 5, dbounds.height + 5);
-      final Stack parent = piece.getParent();
-      if (parent instanceof Deck) {
-        owner = piece.getProperty(Properties.OBSCURED_BY);
-        final boolean faceDown = ((Deck) parent).isFaceDown();
-        piece.setProperty(Properties.OBSCURED_BY, faceDown ? Deck.NO_USER : null);
-      }
+        if (unrotatePieces) {
+          piece.setProperty(Properties.USE_UNROTATED_SHAPE, Boolean.TRUE);
+        }
+
+        ig.setClip(pbounds.x - 3, pbounds.y - 3, pbounds.width + 5, pbounds.height + 5);
+        final Stack parent = piece.getParent();
+        if (parent instanceof Deck) {
+          owner = piece.getProperty(Properties.OBSCURED_BY);
+          final boolean faceDown = ((Deck) parent).isFaceDown();
+          piece.setProperty(Properties.OBSCURED_BY, faceDown ? Deck.NO_USER : null);
+        }
 
-      if (graphicsZoom > 0.0) {
         int yOffset = (int) (pieceBounds.y * graphicsZoom * os_scale);
         if (centerPiecesVertically) {
-          yOffset -= dbounds.height/2 - (int) (pieceBounds.height * graphicsZoom * os_scale) / 2;
+          yOffset -= pbounds.height/2 - (int) (pieceBounds.height * graphicsZoom * os_scale) / 2;
         }
         else {
           yOffset -= (int) (borderWidth * os_scale);
         }
         piece.draw(
-          g,
-          dbounds.x - (int) (pieceBounds.x * graphicsZoom * os_scale) + (int) (borderOffset * os_scale),
-          dbounds.y - yOffset,
+          ig,
+          pbounds.x - (int) (pieceBounds.x * graphicsZoom * os_scale) + (int) (pieceOffset * os_scale),
+          pbounds.y - yOffset,
           comp,
           graphicsZoom * os_scale
         );
 
-        if (isStopAfterShowing()) {
-          map.setAnyMouseoverDrawn(true);
+        if (parent instanceof Deck) {
+          piece.setProperty(Properties.OBSCURED_BY, owner);
         }
-      }
 
-      if (parent instanceof Deck) {
-        piece.setProperty(Properties.OBSCURED_BY, owner);
-      }
+        if (unrotatePieces) {
+          piece.setProperty(Properties.USE_UNROTATED_SHAPE, Boolean.FALSE);
+        }
 
-      if (unrotatePieces) {
-        piece.setProperty(Properties.USE_UNROTATED_SHAPE, Boolean.FALSE);
+        pbounds.translate((int) Math.ceil(pieceBounds.width * graphicsZoom * os_scale), 0);
+        pieceOffset += borderWidth;
       }
+      ig.dispose();
+    }
 
-      g.setClip(oldClip);
+    // Draw the pieces before any text beneath them, so that the text ends up on top
+    if (graphicsZoom > 0.0 && !pieces.isEmpty()) {
+      g.drawImage(pieceImage, imageOrigin.x, imageOrigin.y, comp);
+    }
+
+    for (final GamePiece piece : pieces) {
+      final Rectangle pieceBounds = getBounds(piece);
+
+      if (graphicsZoom > 0.0) {
+        if (isStopAfterShowing()) {
+          map.setAnyMouseoverDrawn(true);
+        }
+      }
 
       // Draw text underneath counters if any is specified
       if (isTextUnderCounters()) {
@@ -631,6 +671,26 @@ public class CounterDetailViewer extends AbstractConfigurable implements Drawabl
   }
 
 
+  /**
+   * @return the values on which the appearance of the composed image of the pieces depends
+   */
+  private List<Object> getPieceImageKey(List<GamePiece> pieces, double scale, Rectangle dbounds) {
+    final List<Object> key = new ArrayList<>();
+    key.add(scale);
+    key.add(dbounds.width);
+    key.add(dbounds.height);
+    key.add(excessWidth);
+    key.add(borderWidth);
+    key.add(centerPiecesVertically);
+    key.add(unrotatePieces);
+    for (final GamePiece piece : pieces) {
+      key.add(piece);
+      key.add(piece.getProperty(Properties.VISIBLE_STATE));
+      key.add(piece.getParent() instanceof Deck && ((Deck) piece.getParent()).isFaceDown());
+    }
+    return key;
+  }
+
   boolean useInnerTop = false; // Whether to count top of pieces box as an "inner" border
   boolean useInnerBottom = false; // Whether to count bottom of pieces box as an "inner" border
 
@@ -914,6 +974,10 @@ public class CounterDetailViewer extends AbstractConfigurable implements Drawabl
   protected void showDetails() {
     final double zoom = getZoom();
 
+    // Compose the pieces afresh each time the viewer is shown
+    pieceImage = null;
+    pieceImageKey = null;
+
     displayablePieces = getDisplayablePieces();
 
     final int eligiblePieces = displayablePieces.size();
@@ -941,7 +1005,8 @@ public class CounterDetailViewer extends AbstractConfigurable implements Drawabl
       graphicsVisible = false;
     }
 
-    map.repaint();
+    // Nothing on the map has changed, so only the view needs repainting
+    view.repaint();
   }
 
   protected double getZoom() {
@@ -954,18 +1019,24 @@ public class CounterDetailViewer extends AbstractConfigurable implements Drawabl
    */
   protected List<GamePiece> getDisplayablePieces() {
     final GamePiece[] allPieces = map.getPieces(); // All pieces from bottom up
+    final Point pt = map.componentToMap(currentMousePosition.getPoint());
 
-    final Visitor visitor = new Visitor(new Filter(), map,
-      map.componentToMap(currentMousePosition.getPoint()),
+    final Visitor visitor = new Visitor(new Filter(), map, pt,
       showOverlap, showNumberFromDeck, showDeckMasked, showOnlyTopOfStack
     );
     final DeckVisitorDispatcher dispatcher = new DeckVisitorDispatcher(visitor);
+    final Predicate<GamePiece> underPoint = map.getPiecesAtPointFilter(pt);
 
     /*
      * Process pieces from the top down to make it easier to check for top layer
      * only.
      */
     for (int i = allPieces.length - 1; i >= 0; i--) {
+      // Until a piece has been found, the Visitor only accepts pieces under the point.
+      // After that it accepts pieces at the same position, which a bounds test can't rule out.
+      if (visitor.foundPieceAt == null && !underPoint.test(allPieces[i])) {
+        continue;
+      }
       dispatcher.accept(allPieces[i]);
     }
 
@@ -1283,7 +1354,7 @@ public class CounterDetailViewer extends AbstractConfigurable implements Drawabl
   protected void hideDetails() {
     graphicsVisible = false;
     textVisible = false;
-    map.repaint();
+    view.repaint();
   }
 
   /**
@@ -63,6 +63,7 @@ import java.awt.Stroke;
 import java.awt.TexturePaint;
 import java.awt.geom.AffineTransform;
 import java.awt.geom.Area;
+import java.awt.geom.Rectangle2D;
 import java.awt.image.BufferedImage;
 import java.io.File;
 import java.util.Arrays;
@@ -147,6 +148,8 @@ public class MapShader extends AbstractToolbarItem implements GameComponent, Dra
   protected int borderOpacity = 100;
 
   protected Area shape;
+  /** The part of the map being drawn, while the shade is built for {@link #draw} */
+  private Rectangle2D visibleBounds;
   protected Rectangle patternRect = new Rectangle();
 
   protected ImageOp srcOp;
@@ -194,18 +197,33 @@ public class MapShader extends AbstractToolbarItem implements GameComponent, Dra
       return;
     }
 
-    Area area = getShadeShape(map);
-    if (area.isEmpty()) {
-      return;
-    }
-
     final Graphics2D g2d = (Graphics2D) g;
     final double os_scale = g2d.getDeviceConfiguration().getDefaultTransform().getScaleX();
     final double zoom = map.getZoom() * os_scale;
 
+    // Only the pieces whose areas reach the part of the map being drawn need be added to the shade
+    final Rectangle clip = g.getClipBounds();
+    if (clip != null) {
+      final double pad = (border ? borderWidth : 0) + 1;
+      visibleBounds = new Rectangle2D.Double(clip.x / zoom - pad, clip.y / zoom - pad,
+                                             clip.width / zoom + 2 * pad, clip.height / zoom + 2 * pad);
+    }
+
+    Area area;
+    try {
+      area = getShadeShape(map);
+    }
+    finally {
+      visibleBounds = null;
+    }
+
+    if (area.isEmpty()) {
+      return;
+    }
+
     if (zoom != 1.0) {
-      area = new Area(AffineTransform.getScaleInstance(zoom, zoom)
-                                     .createTransformedShape(area));
+      // Transforming the Area allocates less than building a new Area from a transformed Shape
+      area = area.createTransformedArea(AffineTransform.getScaleInstance(zoom, zoom));
     }
 
     final Composite oldComposite = g2d.getComposite();
@@ -279,6 +297,12 @@ public class MapShader extends AbstractToolbarItem implements GameComponent, Dra
     else {
       final ShadedPiece shaded = (ShadedPiece) Decorator.getDecorator(piece, ShadedPiece.class);
       if (shaded != null) {
+        if (visibleBounds != null) {
+          final Rectangle2D bounds = shaded.getAreaBounds(this);
+          if (bounds != null && !bounds.intersects(visibleBounds)) {
+            return;
+          }
+        }
         final Area shape = shaded.getArea(this);
         if (shape != null) {
           if (type.equals(FG_TYPE)) {
@@ -956,6 +980,16 @@ public class MapShader extends AbstractToolbarItem implements GameComponent, Dra
      * @return the Area contributed by the piece
      */
     Area getArea(MapShader shader);
+
+    /**
+     * Returns bounds which contain the Area that {@link #getArea} would return, without building it, so that
+     * pieces whose Areas are out of view can be skipped. Area is assumed to be at zoom factor 1.0
+     * @param shader Map Shader
+     * @return the bounds, an empty rectangle if the piece contributes nothing, or null if not known
+     */
+    default Rectangle2D getAreaBounds(MapShader shader) {
+      return null;
+    }
   }
 
   /**
@@ -1,6 +1,8 @@
 package VASSAL.build.module.map.boardPicker.board;
 
 import java.awt.Point;
+import java.awt.Shape;
+import java.awt.geom.AffineTransform;
 import java.awt.geom.Area;
 
 /*
@@ -32,4 +34,17 @@ public interface GeometricGrid extends MapGrid {
    * @return
    */
   Area getGridShape(Point center, int range);
+
+  /**
+   * Return the shape {@link #getGridShape} would return, but centred on (0, 0), to be translated to the
+   * center by the caller. Grids whose shape is the same wherever it is centred return a shared shape, without
+   * building a new Area each time, so the shape returned must not be modified.
+   * @param center the center of the tiles
+   * @param range the number of tiles outward from the center to include
+   * @return the shape, centred on (0, 0), or null if {@link #getGridShape} would return null
+   */
+  default Shape getGridShapeTemplate(Point center, int range) {
+    final Area a = getGridShape(center, range);
+    return a == null ? null : a.createTransformedArea(AffineTransform.getTranslateInstance(-center.x, -center.y));
+  }
 }
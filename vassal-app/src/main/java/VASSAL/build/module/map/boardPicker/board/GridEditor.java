@@ -136,6 +136,7 @@ public abstract class GridEditor extends JDialog implements MouseListener, KeyLi
     okButton.addActionListener(e -> {
       cancelSetMode();
       setVisible(false);
+      GameModule.getGameModule().noteModified();
 /*
       GameModule.getGameModule()
                 .getDataArchive().clearTransformedImageCache();
@@ -585,6 +585,18 @@ public class HexGrid extends AbstractConfigurable
 
   @Override
   public Area getGridShape(Point center, int range) {
+    return getRangeShape(range).createTransformedArea(AffineTransform.getTranslateInstance(center.x, center.y));
+  }
+
+  @Override
+  public Shape getGridShapeTemplate(Point center, int range) {
+    return getRangeShape(range);
+  }
+
+  /**
+   * @return The shape of the hexes within range of the hex at (0, 0), shared by every caller
+   */
+  private Area getRangeShape(int range) {
     Area shape = shapeCache.get(range);
     if (shape == null) {
       //Choose a starting point
@@ -618,7 +630,6 @@ public class HexGrid extends AbstractConfigurable
         AffineTransform.getTranslateInstance(0 - origin.x, 0 - origin.y));
       shapeCache.put(range, shape);
     }
-    shape = new Area(AffineTransform.getTranslateInstance(center.x, center.y).createTransformedShape(shape));
     return shape;
   }
 
@@ -19,6 +19,7 @@ package VASSAL.build.module.map.boardPicker.board;
 
 import VASSAL.build.AbstractConfigurable;
 import VASSAL.build.Buildable;
+import VASSAL.build.GameModule;
 import VASSAL.build.module.documentation.HelpFile;
 import VASSAL.build.module.documentation.HelpWindow;
 import VASSAL.build.module.map.boardPicker.Board;
@@ -94,6 +95,7 @@ import java.awt.event.WindowAdapter;
 import java.awt.event.WindowEvent;
 import java.awt.image.BufferedImage;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -114,12 +116,16 @@ public class RegionGrid extends AbstractConfigurable implements MapGrid, Configu
 
   protected GridNumbering gridNumbering;
 
+  // Index of the Regions by origin and by name, built when first needed after the Regions change
+  private volatile RegionIndex regionIndex;
+
   public Map<Point, Region> getRegionList() {
     return regionList;
   }
 
   public void addRegion(Region a) {
     regionList.put(a.getOrigin(), a);
+    regionsChanged();
     if (inConfig && regionConfigurer != null) {
       regionConfigurer.view.repaint();
     }
@@ -127,13 +133,32 @@ public class RegionGrid extends AbstractConfigurable implements MapGrid, Configu
 
   public void removeRegion(Region a) {
     regionList.remove(a.getOrigin());
+    regionsChanged();
   }
 
   public void removeAllRegions() {
     regionList.clear();
+    regionsChanged();
     buildComponents.clear();
   }
 
+  /**
+   * A Region has been added, removed, moved or renamed, so the index of the Regions must be rebuilt
+   */
+  public void regionsChanged() {
+    regionIndex = null;
+  }
+
+  private RegionIndex getRegionIndex() {
+    RegionIndex index = regionIndex;
+    // The Region list is visible to subclasses, so also check it has not been changed directly
+    if (index == null || index.size != regionList.size()) {
+      index = new RegionIndex(regionList);
+      regionIndex = index;
+    }
+    return index;
+  }
+
   /**
    * @return Parent zone (if any) of this grid.
    */
@@ -367,21 +392,8 @@ public class RegionGrid extends AbstractConfigurable implements MapGrid, Configu
   // Internal routine to find closest point for region name reporting
   //
   protected Point doSnap(Point p) {
-    double distSq, minDistSq = Double.MAX_VALUE;
-    Point snapPoint = p;
-
-    // Iterate over each grid point and determine the closest.
-    for (final Point checkPoint : regionList.keySet()) {
-      distSq =
-          (p.x - checkPoint.x) * (p.x - checkPoint.x)
-          + (p.y - checkPoint.y) * (p.y - checkPoint.y);
-      if (distSq < minDistSq) {
-        minDistSq = distSq;
-        snapPoint = checkPoint;
-      }
-    }
-
-    return new Point(snapPoint);
+    final Point snapPoint = getRegionIndex().nearest(p);
+    return snapPoint != null ? snapPoint : new Point(p);
   }
 
   @Override
@@ -421,12 +433,7 @@ public class RegionGrid extends AbstractConfigurable implements MapGrid, Configu
    * Return Region by Name
    */
   public Region findRegion(String name) {
-    for (final Region checkRegion : regionList.values()) {
-      if (checkRegion.getConfigureName().equals(name)) {
-        return checkRegion;
-      }
-    }
-    return null;
+    return getRegionIndex().byName.get(name);
   }
 
   //
@@ -465,6 +472,149 @@ public class RegionGrid extends AbstractConfigurable implements MapGrid, Configu
     r.setSelected(false);
   }
 
+  /**
+   * Index of the Regions of a grid, to find the Region nearest a point, and a Region by name, without
+   * checking every Region. The origins of the Regions are sorted into a grid of square cells, sized so that each
+   * cell holds two origins on average, and the cells are searched in rings outwards from the cell holding the
+   * point, until no unsearched cell can hold a nearer origin.
+   */
+  private static class RegionIndex {
+    private final int size;
+    private final Map<String, Region> byName = new HashMap<>();
+
+    private final int minX;
+    private final int minY;
+    private final int cell;
+    private final int cols;
+    private final int rows;
+
+    // Origins sorted by cell; the origins in cell (col, row) are at [start[i], start[i + 1]), i = row * cols + col
+    private final int[] start;
+    private final int[] xs;
+    private final int[] ys;
+
+    RegionIndex(Map<Point, Region> regions) {
+      size = regions.size();
+
+      for (final Region r : regions.values()) {
+        byName.putIfAbsent(r.getConfigureName(), r);
+      }
+
+      int x0 = Integer.MAX_VALUE, y0 = Integer.MAX_VALUE, x1 = Integer.MIN_VALUE, y1 = Integer.MIN_VALUE;
+      for (final Point p : regions.keySet()) {
+        x0 = Math.min(x0, p.x);
+        y0 = Math.min(y0, p.y);
+        x1 = Math.max(x1, p.x);
+        y1 = Math.max(y1, p.y);
+      }
+      minX = x0;
+      minY = y0;
+
+      final long w = size == 0 ? 1 : (long) x1 - x0 + 1;
+      final long h = size == 0 ? 1 : (long) y1 - y0 + 1;
+      cell = (int) Math.min(Integer.MAX_VALUE, Math.max(1, (long) Math.ceil(Math.sqrt(2.0 * w * h / Math.max(1, size)))));
+      cols = (int) ((w + cell - 1) / cell);
+      rows = (int) ((h + cell - 1) / cell);
+
+      // Counting sort of the origins by cell
+      start = new int[cols * rows + 1];
+      final int[] cells = new int[size];
+      int n = 0;
+      for (final Point p : regions.keySet()) {
+        cells[n] = cellOf(p.x, p.y);
+        ++start[cells[n] + 1];
+        ++n;
+      }
+      for (int i = 1; i < start.length; ++i) {
+        start[i] += start[i - 1];
+      }
+
+      xs = new int[size];
+      ys = new int[size];
+      final int[] next = Arrays.copyOf(start, start.length - 1);
+      n = 0;
+      for (final Point p : regions.keySet()) {
+        final int i = next[cells[n++]]++;
+        xs[i] = p.x;
+        ys[i] = p.y;
+      }
+    }
+
+    private int cellOf(int x, int y) {
+      return (int) ((y - (long) minY) / cell) * cols + (int) ((x - (long) minX) / cell);
+    }
+
+    /**
+     * @return The Region origin nearest p, or null if there are no Regions
+     */
+    Point nearest(Point p) {
+      if (size == 0) {
+        return null;
+      }
+
+      final int cx = (int) Math.max(0, Math.min(cols - 1, Math.floorDiv(p.x - (long) minX, cell)));
+      final int cy = (int) Math.max(0, Math.min(rows - 1, Math.floorDiv(p.y - (long) minY, cell)));
+
+      long bestDistSq = Long.MAX_VALUE;
+      int best = -1;
+
+      for (int r = 0; ; ++r) {
+        final int c0 = cx - r;
+        final int c1 = cx + r;
+        final int r0 = cy - r;
+        final int r1 = cy + r;
+
+        // Search the cells of the ring
+        for (int row = Math.max(0, r0); row <= Math.min(rows - 1, r1); ++row) {
+          final boolean wholeRow = row == r0 || row == r1;
+          final int step = wholeRow ? 1 : c1 - c0;
+          for (int col = wholeRow ? Math.max(0, c0) : c0; col <= Math.min(cols - 1, c1); col += step) {
+            if (col < 0) {
+              continue;
+            }
+            final int i = row * cols + col;
+            for (int j = start[i]; j < start[i + 1]; ++j) {
+              final long dx = xs[j] - (long) p.x;
+              final long dy = ys[j] - (long) p.y;
+              final long distSq = dx * dx + dy * dy;
+              if (distSq < bestDistSq) {
+                bestDistSq = distSq;
+                best = j;
+              }
+            }
+          }
+        }
+
+        // Every cell searched?
+        if (c0 <= 0 && r0 <= 0 && c1 >= cols - 1 && r1 >= rows - 1) {
+          break;
+        }
+
+        // Can an unsearched cell hold a nearer origin?
+        if (best >= 0) {
+          long bound = Long.MAX_VALUE;
+          if (c0 > 0) {
+            bound = Math.min(bound, p.x - (minX + (long) c0 * cell));
+          }
+          if (c1 < cols - 1) {
+            bound = Math.min(bound, minX + (long) (c1 + 1) * cell - p.x);
+          }
+          if (r0 > 0) {
+            bound = Math.min(bound, p.y - (minY + (long) r0 * cell));
+          }
+          if (r1 < rows - 1) {
+            bound = Math.min(bound, minY + (long) (r1 + 1) * cell - p.y);
+          }
+          if (bound > 0 && (double) bound * bound >= bestDistSq) {
+            break;
+          }
+        }
+      }
+
+      return new Point(xs[best], ys[best]);
+    }
+  }
+
   public static class Config extends JFrame implements MouseListener, MouseMotionListener, ActionListener, KeyListener {
     private static final long serialVersionUID = 1L;
 
@@ -525,7 +675,12 @@ public class RegionGrid extends AbstractConfigurable implements MapGrid, Configu
 
       final JButton okButton =
         new JButton(Resources.getString(Resources.OK));
-      okButton.addActionListener(e -> close());
+      okButton.addActionListener(e -> {
+        if (dirty) {
+          GameModule.getGameModule().noteModified();
+        }
+        close();
+      });
       buttonPanel.add(okButton);
 
       final JButton canButton =
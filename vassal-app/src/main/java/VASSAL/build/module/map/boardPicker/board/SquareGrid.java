@@ -404,6 +404,18 @@ public class SquareGrid extends AbstractConfigurable implements GeometricGrid, G
 
   @Override
   public Area getGridShape(Point center, int range) {
+    return getRangeShape(range).createTransformedArea(AffineTransform.getTranslateInstance(center.x, center.y));
+  }
+
+  @Override
+  public Shape getGridShapeTemplate(Point center, int range) {
+    return getRangeShape(range);
+  }
+
+  /**
+   * @return The shape of the squares within range of the square at (0, 0), shared by every caller
+   */
+  private Area getRangeShape(int range) {
     Area shape = shapeCache.get(range);
     if (shape == null) {
       shape = getSingleSquareShape(0, 0);
@@ -421,7 +433,6 @@ public class SquareGrid extends AbstractConfigurable implements GeometricGrid, G
       }
       shapeCache.put(range, shape);
     }
-    shape = new Area(AffineTransform.getTranslateInstance(center.x, center.y).createTransformedShape(shape));
     return shape;
   }
 
@@ -327,6 +327,24 @@ public class ZonedGrid extends AbstractConfigurable implements GeometricGrid, Gr
     return a;
   }
 
+  @Override
+  public Shape getGridShapeTemplate(Point center, int range) {
+    Shape s = null;
+    final Zone z = findZone(center);
+    if (z != null
+      && z.getGrid() instanceof GeometricGrid) {
+      s = ((GeometricGrid)z.getGrid()).getGridShapeTemplate(center, range);
+    }
+    if (s == null
+      && background instanceof GeometricGrid) {
+      s = ((GeometricGrid)background).getGridShapeTemplate(center, range);
+    }
+    if (s == null) {
+      s = new Ellipse2D.Double(-range, -range, range * 2, range * 2);
+    }
+    return s;
+  }
+
   public Zone findZone(Point p) {
     for (final Zone zone : zones) {
       if (zone.contains(p)) {
@@ -48,6 +48,7 @@ import VASSAL.i18n.TranslatableConfigurerFactory;
 import VASSAL.script.expression.Auditable;
 import VASSAL.tools.AdjustableSpeedScrollPane;
 import VASSAL.tools.FormattedString;
+import VASSAL.tools.NotificationBatch;
 import VASSAL.tools.SequenceEncoder;
 import VASSAL.tools.swing.FlowLabel;
 import VASSAL.tools.swing.SwingUtils;
@@ -109,7 +110,7 @@ public class Zone extends AbstractConfigurable implements GridContainer, Mutable
   protected boolean useParentGrid;
   protected PropertyChangeListener globalPropertyListener;
   protected MutablePropertiesContainer propsContainer = new Impl();
-  protected PropertyChangeListener repaintOnPropertyChange = evt -> repaint();
+  protected PropertyChangeListener repaintOnPropertyChange = evt -> NotificationBatch.notify(this, this::repaint);
   /*
    * Cache as much as possible to minimise the number of Affine Transformations that need to be performed.
    */
@@ -20,7 +20,6 @@ package VASSAL.build.module.metadata;
 import java.io.BufferedInputStream;
 import java.io.InputStream;
 import java.io.IOException;
-import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 
 import org.slf4j.Logger;
@@ -75,6 +74,10 @@ public class ExtensionMetaData extends AbstractMetaData {
     read(zip);
   }
 
+  ExtensionMetaData(MetaDataEntries entries) {
+    read(entries);
+  }
+
   public String getModuleName() {
     return moduleData == null ? "" : moduleData.getName();
   }
@@ -142,14 +145,28 @@ public class ExtensionMetaData extends AbstractMetaData {
    */
   public void read(ZipFile zip) {
     try (zip) {
+      read(MetaDataEntries.of(zip));
+    }
+    catch (final IOException e) {
+      logger.error("", e);
+    }
+  }
+
+  /**
+   * Read and validate an Extension from its entries.
+   *
+   * @param entries Entries of the Extension file
+   */
+  void read(MetaDataEntries entries) {
+    try {
       // Try to parse the metadata. Failure is not catastrophic, we can
       // treat it like an old-style module with no metadata and parse
       // the first lines of the buildFile.
       final DefaultHandler handler;
 
-      ZipEntry data = zip.getEntry(getZipEntryName());
-      if (data == null) {
-        data = zip.getEntry(GameModule.BUILDFILE_OLD);
+      String data = getZipEntryName();
+      if (!entries.hasEntry(data)) {
+        data = GameModule.BUILDFILE_OLD;
         handler = new ExtensionBuildFileXMLHandler();
       }
       else {
@@ -157,7 +174,7 @@ public class ExtensionMetaData extends AbstractMetaData {
       }
 
       // parse! parse!
-      try (InputStream zin = zip.getInputStream(data);
+      try (InputStream zin = entries.getInputStream(data);
            BufferedInputStream in = new BufferedInputStream(zin)) {
         synchronized (parser) {
           parser.setContentHandler(handler);
@@ -172,7 +189,7 @@ public class ExtensionMetaData extends AbstractMetaData {
       // built when reading the buildFile, overwrite if we find a real
       // module metadata file
       final ModuleMetaData buildFileModuleData = moduleData;
-      moduleData = new ModuleMetaData(zip);
+      moduleData = new ModuleMetaData(entries);
       //FIXME this looks like "something wrong is happening" - checking null right after we assign it?
       if (moduleData == null) {
         moduleData = buildFileModuleData;
@@ -186,6 +203,7 @@ public class ExtensionMetaData extends AbstractMetaData {
     }
   }
 
+
   /**
    * XML Handler for parsing an Extension metadata file
    */
@@ -0,0 +1,404 @@
+/*
+ *
+ * Copyright (c) 2026 by The VASSAL Development Team
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License (LGPL) as published by the Free Software Foundation.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, copies are available
+ * at http://www.opensource.org.
+ */
+package VASSAL.build.module.metadata;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.ZipException;
+import java.util.zip.ZipFile;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import VASSAL.Info;
+import VASSAL.tools.imports.ImportAction;
+
+/**
+ * A persistent cache of the metadata of Module, Extension and Saved Game files, so that the Module Manager
+ * does not need to open every file it lists each time it starts or a folder is refreshed.
+ *
+ * Rather than the metadata itself, the cache records the few archive entries the metadata was read from: which
+ * entries were looked for, and the contents of those that were read. A file whose path, size and modification
+ * time are unchanged is then read by replaying its recorded entries through {@link MetaDataFactory}, which
+ * parses only a few small XML documents and never opens the archive. Entries larger than {@link #MAX_ENTRY}
+ * are not recorded, and files with such entries are simply read directly each time.
+ *
+ * Files which are not Zip archives are passed to {@link ImportAction} and are not cached.
+ *
+ * The cache is safe to use from several threads at once, and is written to disk by {@link #save}.
+ */
+public class MetaDataCache {
+  private static final Logger log = LoggerFactory.getLogger(MetaDataCache.class);
+
+  private static final int MAGIC = 0x564d4443; // VMDC
+  private static final int VERSION = 1;
+
+  private static final String CACHE_FILE = "metadata.cache"; //NON-NLS
+
+  /** Largest entry which will be recorded */
+  private static final int MAX_ENTRY = 256 * 1024;
+
+  private static final java.util.Map<String, Record> records = new ConcurrentHashMap<>();
+  private static boolean loaded = false;
+  private static volatile boolean dirty = false;
+
+  private MetaDataCache() {
+  }
+
+  /**
+   * Return the metadata of a file, reading the file only if it has changed since it was last read.
+   *
+   * @param file Module, Extension or Saved Game file
+   * @return MetaData object, or null if the file is not a VASSAL Module, Extension or Save Game
+   * @see MetaDataFactory#buildMetaData(File)
+   */
+  public static AbstractMetaData buildMetaData(File file) {
+    // Check the file exists and is a file
+    if (file == null || !file.isFile()) {
+      return null;
+    }
+
+    load();
+
+    final String path = file.getAbsolutePath();
+    final long size = file.length();
+    final long modified = file.lastModified();
+
+    final Record cached = records.get(path);
+    if (cached != null && cached.size == size && cached.modified == modified) {
+      try {
+        return MetaDataFactory.buildMetaData(cached.replay());
+      }
+      catch (CacheMiss | IOException e) {
+        // The metadata classes asked for something different this time, so read the file itself
+        log.debug("Metadata cache miss for {}", path); //NON-NLS
+      }
+    }
+
+    final Record record = new Record(size, modified);
+    final AbstractMetaData data;
+    try (ZipFile zip = new ZipFile(file)) {
+      data = MetaDataFactory.buildMetaData(record.record(MetaDataEntries.of(zip)));
+    }
+    catch (final ZipException e) {
+      // It is not a Zip file, check for an Importable file
+      return ImportAction.buildMetaData(file);
+    }
+    catch (final IOException e) {
+      log.error("", e);
+      return null;
+    }
+
+    if (record.cacheable) {
+      records.put(path, record);
+      dirty = true;
+    }
+    else {
+      records.remove(path);
+    }
+
+    return data;
+  }
+
+  /**
+   * Write the cache to disk if it has changed, discarding the records of any files which no longer exist
+   */
+  public static synchronized void save() {
+    if (!dirty) {
+      return;
+    }
+    dirty = false;
+
+    final File file = getCacheFile();
+    File temp = null;
+    try {
+      Files.createDirectories(file.getParentFile().toPath());
+      temp = File.createTempFile("metadata", ".tmp", file.getParentFile()); //NON-NLS
+      try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp.toPath())))) {
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+
+        final java.util.Map<String, Record> current = new HashMap<>(records);
+        current.keySet().removeIf(path -> !new File(path).isFile());
+        out.writeInt(current.size());
+        for (final java.util.Map.Entry<String, Record> e : current.entrySet()) {
+          out.writeUTF(e.getKey());
+          e.getValue().write(out);
+        }
+      }
+      Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+      temp = null;
+    }
+    catch (IOException e) {
+      // Failing to save the cache only means the files will be read again next time
+      log.warn("Unable to save metadata cache {}", file, e); //NON-NLS
+    }
+    finally {
+      if (temp != null) {
+        try {
+          Files.deleteIfExists(temp.toPath());
+        }
+        catch (IOException ignored) {
+          // Nothing more to do
+        }
+      }
+    }
+  }
+
+  private static File getCacheFile() {
+    return new File(Info.getCacheDir(), CACHE_FILE);
+  }
+
+  private static synchronized void load() {
+    if (loaded) {
+      return;
+    }
+    loaded = true;
+
+    final File file = getCacheFile();
+    if (!file.isFile()) {
+      return;
+    }
+
+    try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file.toPath())))) {
+      if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+        throw new IOException("Not a metadata cache"); //NON-NLS
+      }
+      for (int n = in.readInt(); n > 0; --n) {
+        final String path = in.readUTF();
+        records.putIfAbsent(path, Record.read(in));
+      }
+    }
+    catch (IOException e) {
+      log.warn("Discarding unreadable metadata cache {}", file, e); //NON-NLS
+      records.clear();
+      dirty = true;
+    }
+  }
+
+  /**
+   * Thrown when replayed entries are asked for something which was not recorded
+   */
+  private static class CacheMiss extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+  }
+
+  /**
+   * The archive entries the metadata of one file was read from
+   */
+  private static class Record {
+    private final long size;
+    private final long modified;
+
+    /** Whether each entry looked for was present */
+    private final java.util.Map<String, Boolean> present = new ConcurrentHashMap<>();
+
+    /** Complete contents of each entry read */
+    private final java.util.Map<String, byte[]> contents = new ConcurrentHashMap<>();
+
+    private boolean cacheable = true;
+
+    Record(long size, long modified) {
+      this.size = size;
+      this.modified = modified;
+    }
+
+    /**
+     * @return Entries which pass through to the given entries, recording whatever is asked of them
+     */
+    MetaDataEntries record(MetaDataEntries entries) {
+      return new MetaDataEntries() {
+        @Override
+        public boolean hasEntry(String name) {
+          final boolean has = entries.hasEntry(name);
+          if (name != null) {
+            present.put(name, has);
+          }
+          return has;
+        }
+
+        @Override
+        public InputStream getInputStream(String name) throws IOException {
+          final InputStream in;
+          try {
+            in = entries.getInputStream(name);
+          }
+          catch (IOException e) {
+            cacheable = false;
+            throw e;
+          }
+          if (name == null) {
+            cacheable = false;
+            return in;
+          }
+          present.put(name, in != null);
+          return in == null ? null : new RecordingInputStream(name, in);
+        }
+      };
+    }
+
+    /**
+     * @return Entries which answer from the recording alone
+     */
+    MetaDataEntries replay() {
+      return new MetaDataEntries() {
+        @Override
+        public boolean hasEntry(String name) {
+          final Boolean has = present.get(name);
+          if (has == null) {
+            throw new CacheMiss();
+          }
+          return has;
+        }
+
+        @Override
+        public InputStream getInputStream(String name) {
+          if (!hasEntry(name)) {
+            return null;
+          }
+          final byte[] b = contents.get(name);
+          if (b == null) {
+            throw new CacheMiss();
+          }
+          return new ByteArrayInputStream(b);
+        }
+      };
+    }
+
+    void write(DataOutputStream out) throws IOException {
+      out.writeLong(size);
+      out.writeLong(modified);
+      out.writeInt(present.size());
+      for (final java.util.Map.Entry<String, Boolean> e : present.entrySet()) {
+        out.writeUTF(e.getKey());
+        final byte[] b = contents.get(e.getKey());
+        // -2 for absent, -1 for present but not read
+        out.writeInt(!e.getValue() ? -2 : b == null ? -1 : b.length);
+        if (b != null) {
+          out.write(b);
+        }
+      }
+    }
+
+    static Record read(DataInputStream in) throws IOException {
+      final Record r = new Record(in.readLong(), in.readLong());
+      for (int n = in.readInt(); n > 0; --n) {
+        final String name = in.readUTF();
+        final int length = in.readInt();
+        r.present.put(name, length != -2);
+        if (length >= 0) {
+          final byte[] b = new byte[length];
+          in.readFully(b);
+          r.contents.put(name, b);
+        }
+      }
+      return r;
+    }
+
+    /**
+     * Records the complete contents of an entry. Readers may stop part of the way through an entry, so the
+     * remainder is read when the stream is closed, so that the recording can answer any later reader.
+     */
+    private class RecordingInputStream extends FilterInputStream {
+      private final String name;
+      private ByteArrayOutputStream buf = new ByteArrayOutputStream();
+
+      RecordingInputStream(String name, InputStream in) {
+        super(in);
+        this.name = name;
+      }
+
+      @Override
+      public int read() throws IOException {
+        final int b = super.read();
+        if (b >= 0) {
+          keep(new byte[] { (byte) b }, 0, 1);
+        }
+        return b;
+      }
+
+      @Override
+      public int read(byte[] b, int off, int len) throws IOException {
+        final int n = super.read(b, off, len);
+        if (n > 0) {
+          keep(b, off, n);
+        }
+        return n;
+      }
+
+      @Override
+      public long skip(long n) throws IOException {
+        // Skipped bytes must still be recorded
+        final byte[] b = new byte[(int) Math.min(n, 8192)];
+        final int r = read(b, 0, b.length);
+        return Math.max(r, 0);
+      }
+
+      @Override
+      public boolean markSupported() {
+        return false;
+      }
+
+      @Override
+      public void close() throws IOException {
+        try {
+          if (buf != null && cacheable) {
+            final byte[] b = new byte[8192];
+            while (buf != null && read(b, 0, b.length) >= 0) {
+              // Keep reading to the end of the entry
+            }
+            if (buf != null) {
+              contents.put(name, buf.toByteArray());
+              buf = null;
+            }
+          }
+        }
+        catch (IOException e) {
+          cacheable = false;
+        }
+        finally {
+          super.close();
+        }
+      }
+
+      private void keep(byte[] b, int off, int len) {
+        if (buf == null) {
+          return;
+        }
+        if (buf.size() + len > MAX_ENTRY) {
+          cacheable = false;
+          buf = null;
+          return;
+        }
+        buf.write(b, off, len);
+      }
+    }
+  }
+}
@@ -0,0 +1,62 @@
+/*
+ *
+ * Copyright (c) 2026 by The VASSAL Development Team
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License (LGPL) as published by the Free Software Foundation.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, copies are available
+ * at http://www.opensource.org.
+ */
+package VASSAL.build.module.metadata;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * The entries of a Module, Extension or Saved Game archive that its metadata is read from. Normally these
+ * come straight from the archive, but they may also be replayed from the {@link MetaDataCache}.
+ */
+interface MetaDataEntries {
+
+  /**
+   * @param name Entry name
+   * @return true if the archive has the entry
+   */
+  boolean hasEntry(String name);
+
+  /**
+   * @param name Entry name
+   * @return Stream of the contents of the entry, or null if the archive does not have it
+   * @throws IOException if the entry cannot be read
+   */
+  InputStream getInputStream(String name) throws IOException;
+
+  /**
+   * @param zip Archive
+   * @return The entries of a Zip archive
+   */
+  static MetaDataEntries of(ZipFile zip) {
+    return new MetaDataEntries() {
+      @Override
+      public boolean hasEntry(String name) {
+        return name != null && zip.getEntry(name) != null;
+      }
+
+      @Override
+      public InputStream getInputStream(String name) throws IOException {
+        final ZipEntry entry = name == null ? null : zip.getEntry(name);
+        return entry == null ? null : zip.getInputStream(entry);
+      }
+    };
+  }
+}
@@ -23,7 +23,6 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
-import java.util.zip.ZipEntry;
 import java.util.zip.ZipException;
 import java.util.zip.ZipFile;
 
@@ -59,56 +58,65 @@ public class MetaDataFactory {
 
     try (ZipFile zip = new ZipFile(file)) {
       // Check it is a Zip file
+      return buildMetaData(MetaDataEntries.of(zip));
+    }
+    catch (final ZipException e) {
+      // It is not a Zip file, check for an Importable file
+      return ImportAction.buildMetaData(file);
+    }
+    catch (final IOException e) {
+      logger.error("", e);
+    }
 
-      // Check if it is a Save Game file
-      ZipEntry entry = zip.getEntry(GameState.SAVEFILE_ZIP_ENTRY);
-      if (entry != null) {
-        return new SaveMetaData(zip);
-      }
+    return null;
+  }
 
-      // Check if it has a buildFile
-      ZipEntry buildFileEntry = zip.getEntry(GameModule.BUILDFILE);
-      if (buildFileEntry == null) {
-        buildFileEntry = zip.getEntry(GameModule.BUILDFILE_OLD);
-        if (buildFileEntry == null) {
-          return null;
-        }
-      }
+  /**
+   * Build the appropriate MetaData class from the entries of a Zip archive.
+   *
+   * @param entries Entries of the archive
+   * @return MetaData object, or null if the archive is not a VASSAL Module, Extension or Save Game
+   * @throws IOException if the archive cannot be read
+   */
+  static AbstractMetaData buildMetaData(MetaDataEntries entries) throws IOException {
+    // Check if it is a Save Game file
+    if (entries.hasEntry(GameState.SAVEFILE_ZIP_ENTRY)) {
+      return new SaveMetaData(entries);
+    }
 
-      // It's either a module or an Extension, check for existence of metadata
-      entry = zip.getEntry(ExtensionMetaData.ZIP_ENTRY_NAME);
-      if (entry != null) {
-        return new ExtensionMetaData(zip);
+    // Check if it has a buildFile
+    String buildFileEntry = GameModule.BUILDFILE;
+    if (!entries.hasEntry(buildFileEntry)) {
+      buildFileEntry = GameModule.BUILDFILE_OLD;
+      if (!entries.hasEntry(buildFileEntry)) {
+        return null;
       }
+    }
 
-      entry = zip.getEntry(ModuleMetaData.ZIP_ENTRY_NAME);
-      if (entry != null) {
-        return new ModuleMetaData(zip);
-      }
+    // It's either a module or an Extension, check for existence of metadata
+    if (entries.hasEntry(ExtensionMetaData.ZIP_ENTRY_NAME)) {
+      return new ExtensionMetaData(entries);
+    }
+
+    if (entries.hasEntry(ModuleMetaData.ZIP_ENTRY_NAME)) {
+      return new ModuleMetaData(entries);
+    }
 
-      // read the first few lines of the buildFile
-      try (InputStream zin = zip.getInputStream(buildFileEntry);
-           InputStreamReader isr = new InputStreamReader(zin, StandardCharsets.UTF_8);
-           BufferedReader br = new BufferedReader(isr)) {
-        for (int i = 0; i < 10; i++) {
-          final String s = br.readLine();
-          if (s.indexOf(BUILDFILE_MODULE_ELEMENT1) > 0
-              || s.indexOf(BUILDFILE_MODULE_ELEMENT2) > 0) {
-            return new ModuleMetaData(zip);
-          }
-          else if (s.indexOf(BUILDFILE_EXTENSION_ELEMENT) > 0) {
-            return new ExtensionMetaData(zip);
-          }
+    // read the first few lines of the buildFile
+    try (InputStream zin = entries.getInputStream(buildFileEntry);
+         InputStreamReader isr = new InputStreamReader(zin, StandardCharsets.UTF_8);
+         BufferedReader br = new BufferedReader(isr)) {
+      for (int i = 0; i < 10; i++) {
+        final String s = br.readLine();
+        if (s.indexOf(BUILDFILE_MODULE_ELEMENT1) > 0
+            || s.indexOf(BUILDFILE_MODULE_ELEMENT2) > 0) {
+          return new ModuleMetaData(entries);
+        }
+        else if (s.indexOf(BUILDFILE_EXTENSION_ELEMENT) > 0) {
+          return new ExtensionMetaData(entries);
         }
       }
     }
-    catch (final ZipException e) {
-      // It is not a Zip file, check for an Importable file
-      return ImportAction.buildMetaData(file);
-    }
-    catch (final IOException e) {
-      logger.error("", e);
-    }
 
     return null;
   }
@@ -30,7 +30,6 @@ import org.xml.sax.helpers.DefaultHandler;
 import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 
 /**
@@ -57,6 +56,10 @@ public class ModuleMetaData extends AbstractMetaData {
     read(zip);
   }
 
+  ModuleMetaData(MetaDataEntries entries) {
+    read(entries);
+  }
+
   public ModuleMetaData(GameModule module) {
     super();
     nameAttr = new Attribute(module, GameModule.MODULE_NAME);
@@ -111,18 +114,32 @@ public class ModuleMetaData extends AbstractMetaData {
    * @param zip Module File
    */
   public void read(ZipFile zip) {
+    try (zip) {
+      read(MetaDataEntries.of(zip));
+    }
+    catch (final IOException e) {
+      logger.error("", e);
+    }
+  }
+
+  /**
+   * Read and validate a Module from its entries.
+   *
+   * @param entries Entries of the Module file
+   */
+  void read(MetaDataEntries entries) {
     version = "";
 
-    try (zip) {
+    try {
       // Try to parse the metadata. Failure is not catastrophic, we can
       // treat it like an old-style module with no metadata and parse
       // the first lines of the buildFile
       final DefaultHandler handler;
 
-      ZipEntry data = zip.getEntry(ZIP_ENTRY_NAME);
-      if (data == null) {
-        data = zip.getEntry(GameModule.BUILDFILE_OLD);
-        if (data == null) return;
+      String data = ZIP_ENTRY_NAME;
+      if (!entries.hasEntry(data)) {
+        data = GameModule.BUILDFILE_OLD;
+        if (!entries.hasEntry(data)) return;
 
         handler = new ModuleBuildFileXMLHandler();
       }
@@ -130,7 +147,7 @@ public class ModuleMetaData extends AbstractMetaData {
         handler = new MetadataXMLHandler();
       }
 
-      try (InputStream zin = zip.getInputStream(data);
+      try (InputStream zin = entries.getInputStream(data);
            BufferedInputStream in = new BufferedInputStream(zin)) {
         synchronized (parser) {
           parser.setContentHandler(handler);
@@ -22,7 +22,6 @@ import java.awt.event.KeyEvent;
 import java.io.BufferedInputStream;
 import java.io.InputStream;
 import java.io.IOException;
-import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 
 import javax.swing.JButton;
@@ -144,6 +143,10 @@ public class SaveMetaData extends AbstractMetaData {
     read(zip);
   }
 
+  SaveMetaData(MetaDataEntries entries) {
+    read(entries);
+  }
+
   public String getModuleName() {
     return moduleData == null ? "" : moduleData.getName();
   }
@@ -210,16 +213,29 @@ public class SaveMetaData extends AbstractMetaData {
    */
   public void read(ZipFile zip) {
     try (zip) {
+      read(MetaDataEntries.of(zip));
+    }
+    catch (final IOException e) {
+      logger.error("", e);
+    }
+  }
+
+  /**
+   * Read and validate a Saved Game/Log from its entries.
+   *
+   * @param entries Entries of the Saved Game file
+   */
+  void read(MetaDataEntries entries) {
+    try {
       // Try to parse the metadata. Failure is not catastrophic, we can
       // treat it like an old-style save with no metadata.
-      final ZipEntry data = zip.getEntry(getZipEntryName());
-      if (data == null) return;
+      if (!entries.hasEntry(getZipEntryName())) return;
 
       // set up the handler
       final XMLHandler handler = new XMLHandler();
 
       // parse! parse!
-      try (InputStream zin = zip.getInputStream(data);
+      try (InputStream zin = entries.getInputStream(getZipEntryName());
            BufferedInputStream in = new BufferedInputStream(zin)) {
         synchronized (parser) {
           parser.setContentHandler(handler);
@@ -231,7 +247,7 @@ public class SaveMetaData extends AbstractMetaData {
       }
 
       // read the matching Module data
-      moduleData = new ModuleMetaData(zip);
+      moduleData = new ModuleMetaData(entries);
     }
     catch (final IOException | SAXException e) {
       logger.error("", e);
@@ -96,6 +96,7 @@ public class PieceSlot extends Widget implements MouseListener, KeyListener {
   protected int width, height;
   protected String gpId = ""; // Unique PieceSlot Id
   protected GpIdSupport gpidSupport;
+  private boolean used = false; // Has the expanded piece been asked for other than by PieceSlotWarmUp
 
 
   public PieceSlot() {
@@ -198,6 +199,23 @@ public class PieceSlot extends Widget implements MouseListener, KeyListener {
    * @return expanded piece
    */
   protected GamePiece getExpandedPiece() {
+    if (!used) {
+      used = true;
+      PieceSlotWarmUp.recordFirstUse(expanded != null);
+    }
+    return expandPiece();
+  }
+
+  /**
+   * Decode and expand the piece ahead of its first use
+   * @return the expanded piece, or null if it could not be cached
+   */
+  GamePiece warmUp() {
+    expandPiece();
+    return expanded;
+  }
+
+  private GamePiece expandPiece() {
     if (expanded == null) {
       final GamePiece p = getPiece();
       if (p != null) {  // Possible when PlaceMarker is building
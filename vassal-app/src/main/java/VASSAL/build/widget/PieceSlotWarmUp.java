@@ -0,0 +1,233 @@
+/*
+ *
+ * Copyright (c) 2026 by The VASSAL Development Team
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License (LGPL) as published by the Free Software Foundation.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, copies are available
+ * at http://www.opensource.org.
+ */
+package VASSAL.build.widget;
+
+import java.awt.Graphics2D;
+import java.awt.GraphicsEnvironment;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.swing.SwingUtilities;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import VASSAL.build.GameModule;
+import VASSAL.counters.GamePiece;
+import VASSAL.i18n.Localization;
+import VASSAL.search.ImageSearchTarget;
+import VASSAL.tools.concurrent.Exec;
+import VASSAL.tools.image.DecodedImageCache;
+import VASSAL.tools.image.ImageUtils;
+import VASSAL.tools.imageop.Op;
+import VASSAL.tools.imageop.SourceOp;
+
+/**
+ * Prepares the pieces of every {@link PieceSlot} in a module in the background once the module has loaded,
+ * so that opening a palette, inventory or refresh for the first time does not stall while each slot decodes
+ * its definition and expands its prototypes.
+ *
+ * Decoding and expanding pieces is not thread-safe, so slots are prepared on the Event Dispatch Thread a
+ * few at a time, giving way to other events between each batch. The images the pieces use are then loaded
+ * into the image cache in parallel on the shared worker pool, which is safe to do off the EDT. Once they
+ * are all loaded, each slot's icon is rendered offscreen at the palette's scale, again a few at a time on
+ * the EDT, so that the pieces have made their scaled images before the palette is first shown.
+ *
+ * Expanded pieces are only cached once translation is complete, so the warm-up must not be started before then.
+ */
+public class PieceSlotWarmUp {
+  private static final Logger log = LoggerFactory.getLogger(PieceSlotWarmUp.class);
+
+  /** Number of slots to prepare each time the EDT is visited */
+  private static final int SLOTS_PER_STEP = 20;
+
+  private static final AtomicInteger readyAtFirstUse = new AtomicInteger();
+  private static final AtomicInteger notReadyAtFirstUse = new AtomicInteger();
+
+  private final GameModule module;
+  private final Set<String> images = new HashSet<>();
+  private List<PieceSlot> slots;
+  private final List<PieceSlot> warmedSlots = new ArrayList<>();
+  private final List<CompletableFuture<Void>> loads = new ArrayList<>();
+  private int next = 0;
+  private int warmed = 0;
+  private int nextRender = 0;
+  private int rendered = 0;
+  private double renderScale = 0;
+  private long start;
+
+  private PieceSlotWarmUp(GameModule module) {
+    this.module = module;
+  }
+
+  /**
+   * Start warming up the piece slots of a module which has finished loading and translating. The counts of slots
+   * ready or not at their first use start again from zero.
+   *
+   * @param module Module
+   */
+  public static void start(GameModule module) {
+    if (module == null) {
+      return;
+    }
+    // Count the first uses of this module's slots only
+    readyAtFirstUse.set(0);
+    notReadyAtFirstUse.set(0);
+    if (!Localization.getInstance().isTranslationComplete()) {
+      log.debug("Translation incomplete, not warming up piece slots"); //NON-NLS
+      return;
+    }
+    SwingUtilities.invokeLater(new PieceSlotWarmUp(module)::step);
+  }
+
+  /**
+   * Record whether a slot's piece had already been prepared the first time it was used
+   *
+   * @param ready true if the slot's expanded piece was already cached
+   */
+  static void recordFirstUse(boolean ready) {
+    (ready ? readyAtFirstUse : notReadyAtFirstUse).incrementAndGet();
+  }
+
+  /**
+   * @return Number of slots whose pieces were ready the first time they were used
+   */
+  public static int getReadyAtFirstUse() {
+    return readyAtFirstUse.get();
+  }
+
+  /**
+   * @return Number of slots whose pieces had to be prepared the first time they were used
+   */
+  public static int getNotReadyAtFirstUse() {
+    return notReadyAtFirstUse.get();
+  }
+
+  private void step() {
+    // Give up if the module has been closed in the meantime
+    if (GameModule.getGameModule() != module) {
+      return;
+    }
+
+    if (slots == null) {
+      start = System.currentTimeMillis();
+      slots = module.getAllDescendantComponentsOf(PieceSlot.class);
+    }
+
+    final List<String> found = new ArrayList<>();
+    for (final int end = Math.min(next + SLOTS_PER_STEP, slots.size()); next < end; ++next) {
+      final PieceSlot slot = slots.get(next);
+      final GamePiece piece = slot.warmUp();
+      if (piece == null) {
+        continue;
+      }
+      ++warmed;
+      warmedSlots.add(slot);
+
+      // Use the expanded piece, so that the images from its prototypes are found too
+      if (piece instanceof ImageSearchTarget) {
+        final Set<String> names = new HashSet<>();
+        ((ImageSearchTarget) piece).addImageNamesRecursively(names);
+        for (final String name : names) {
+          if (name != null && !name.isEmpty() && images.add(name)) {
+            found.add(name);
+          }
+        }
+      }
+    }
+
+    // Resolve the image paths here, but load the images themselves on the worker pool
+    for (final String name : found) {
+      try {
+        final SourceOp op = Op.load(name);
+        loads.add(CompletableFuture.runAsync(op::getImage, Exec.ex));
+      }
+      catch (RuntimeException e) {
+        log.debug("Unable to preload image {}", name, e); //NON-NLS
+      }
+    }
+
+    if (next < slots.size()) {
+      SwingUtilities.invokeLater(this::step);
+    }
+    else {
+      // Render the icons once all the images they need are loaded, so that the EDT never waits for one
+      CompletableFuture.allOf(loads.toArray(new CompletableFuture<?>[0]))
+        .whenComplete((v, e) -> SwingUtilities.invokeLater(this::render));
+    }
+  }
+
+  /**
+   * Draw a few of the slots' pieces at the size the palette will draw them, so that any scaled images they
+   * need are made and kept by the pieces ready for when the palette is first painted
+   */
+  private void render() {
+    if (GameModule.getGameModule() != module) {
+      return;
+    }
+
+    if (renderScale == 0) {
+      renderScale = GraphicsEnvironment.isHeadless() ? 1.0 :
+        GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice()
+          .getDefaultConfiguration().getDefaultTransform().getScaleX();
+    }
+
+    for (final int end = Math.min(nextRender + SLOTS_PER_STEP, warmedSlots.size()); nextRender < end; ++nextRender) {
+      final PieceSlot slot = warmedSlots.get(nextRender);
+      try {
+        final GamePiece piece = slot.warmUp();
+        if (piece == null) {
+          continue;
+        }
+        final Rectangle r = piece.boundingBox();
+        if (r.isEmpty()) {
+          continue;
+        }
+        final double scale = renderScale * slot.getScale();
+        final BufferedImage icon = ImageUtils.createCompatibleTranslucentImage(
+          Math.max(1, (int) Math.ceil(r.width * scale)), Math.max(1, (int) Math.ceil(r.height * scale)));
+        final Graphics2D g = icon.createGraphics();
+        try {
+          piece.draw(g, (int) (-r.x * scale), (int) (-r.y * scale), null, scale);
+        }
+        finally {
+          g.dispose();
+        }
+        ++rendered;
+      }
+      catch (RuntimeException e) {
+        log.debug("Unable to render piece slot {}", slot.getConfigureName(), e); //NON-NLS
+      }
+    }
+
+    if (nextRender < warmedSlots.size()) {
+      SwingUtilities.invokeLater(this::render);
+    }
+    else {
+      log.info("Warmed up {} of {} piece slots, {} images and {} icons in {} ms; {} slots were used before they were ready", //NON-NLS
+        warmed, slots.size(), images.size(), rendered, System.currentTimeMillis() - start, getNotReadyAtFirstUse());
+      DecodedImageCache.logStatistics();
+    }
+  }
+}
@@ -0,0 +1,246 @@
+/*
+ *
+ * Copyright (c) 2026 by The VASSAL Development Team
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License (LGPL) as published by the Free Software Foundation.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, copies are available
+ * at http://www.opensource.org.
+ */
+package VASSAL.command;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import VASSAL.build.BadDataReport;
+import VASSAL.build.GameModule;
+import VASSAL.build.module.GlobalOptions;
+import VASSAL.counters.BoundsTracker;
+import VASSAL.counters.Decorator;
+import VASSAL.counters.GamePiece;
+import VASSAL.counters.Properties;
+import VASSAL.counters.StateMergeable;
+import VASSAL.tools.ErrorDialog;
+import VASSAL.tools.SequenceEncoder;
+
+/**
+ * A compact form of {@link ChangePiece}, which carries only the states of the traits of a {@link GamePiece} which
+ * have changed, rather than the complete state of the piece before and after. Traits are identified by their
+ * position in the piece, counting inwards from the outermost trait, with the innermost piece (normally a
+ * {@link VASSAL.counters.BasicPiece}) last.
+ *
+ * Applying a ChangePieceDelta is equivalent to merging the states with {@link StateMergeable#mergeState}, as
+ * {@link ChangePiece} does: only the traits whose states changed are set.
+ *
+ * Created by {@link ChangeTracker} for pieces made only of traits which use the standard {@link Decorator} state
+ * handling. Its undo Command is another ChangePieceDelta with the new and old states reversed.
+ */
+public class ChangePieceDelta extends Command {
+  private static final java.util.Map<Class<?>, Boolean> trackable = new ConcurrentHashMap<>();
+
+  private final String id;
+  private final int traitCount;
+  private final SortedMap<Integer, String> newStates;
+  private final SortedMap<Integer, String> oldStates;
+  private Command undo;
+
+  /**
+   * @param id the id of the {@link GamePiece} to change
+   * @param traitCount the number of traits in the piece, including the innermost piece
+   * @param oldStates the previous state of each trait changed, by position
+   * @param newStates the new state of each trait changed, by position
+   */
+  public ChangePieceDelta(String id, int traitCount, SortedMap<Integer, String> oldStates, SortedMap<Integer, String> newStates) {
+    this.id = id;
+    this.traitCount = traitCount;
+    this.oldStates = oldStates;
+    this.newStates = newStates;
+  }
+
+  /**
+   * @param id the id of the {@link GamePiece} to change
+   * @param oldTraitStates the previous state of every trait, as returned by {@link #getTraitStates}
+   * @param newTraitStates the new state of every trait, as returned by {@link #getTraitStates}
+   */
+  public ChangePieceDelta(String id, String[] oldTraitStates, String[] newTraitStates) {
+    this(id, newTraitStates.length, new TreeMap<>(), new TreeMap<>());
+    for (int i = 0; i < newTraitStates.length; ++i) {
+      if (!newTraitStates[i].equals(oldTraitStates[i])) {
+        oldStates.put(i, oldTraitStates[i]);
+        newStates.put(i, newTraitStates[i]);
+      }
+    }
+  }
+
+  /**
+   * Return the state of each trait of a piece separately, if the piece's state can be changed trait by trait
+   *
+   * @param outer Outermost trait of the piece
+   * @return The state of each trait, counting inwards, with the state of the innermost piece last, or null if
+   * the piece has no traits, or has a trait which handles the states of the traits inside it itself
+   */
+  public static String[] getTraitStates(GamePiece outer) {
+    final List<String> states = new ArrayList<>();
+    GamePiece p = outer;
+    while (p instanceof Decorator) {
+      if (!isTrackable(p.getClass())) {
+        return null;
+      }
+      states.add(((Decorator) p).myGetState());
+      p = ((Decorator) p).getInner();
+    }
+    if (states.isEmpty() || p == null) {
+      return null;
+    }
+    states.add(p.getState());
+    return states.toArray(new String[0]);
+  }
+
+  /**
+   * @param traitStates The state of each trait, as returned by {@link #getTraitStates}
+   * @return The complete state of the piece, as returned by {@link GamePiece#getState}
+   */
+  public static String getState(String[] traitStates) {
+    String state = traitStates[traitStates.length - 1];
+    for (int i = traitStates.length - 2; i >= 0; --i) {
+      state = new SequenceEncoder(traitStates[i], '\t').append(state).getValue();
+    }
+    return state;
+  }
+
+  private static boolean isTrackable(Class<?> c) {
+    return trackable.computeIfAbsent(c, k -> {
+      try {
+        return k.getMethod("getState").getDeclaringClass() == Decorator.class &&
+          k.getMethod("setState", String.class).getDeclaringClass() == Decorator.class &&
+          k.getMethod("mergeState", String.class, String.class).getDeclaringClass() == Decorator.class;
+      }
+      catch (NoSuchMethodException e) {
+        return false;
+      }
+    });
+  }
+
+  /**
+   * Sets the changed traits of the {@link GamePiece} to their new states
+   */
+  @Override
+  protected void executeCommand() {
+    final GamePiece target = GameModule.getGameModule().getGameState().getPieceForId(id);
+    if (target == null) {
+      return;
+    }
+
+    final List<GamePiece> traits = new ArrayList<>(traitCount);
+    GamePiece p = target;
+    while (p instanceof Decorator && isTrackable(p.getClass())) {
+      traits.add(p);
+      p = ((Decorator) p).getInner();
+    }
+    if (p instanceof Decorator || p == null || traits.size() + 1 != traitCount) {
+      ErrorDialog.dataWarning(new BadDataReport("Piece does not have the traits being changed", target.getName())); //NON-NLS
+      return;
+    }
+    traits.add(p);
+
+    final BoundsTracker bounds = new BoundsTracker();
+    bounds.addPiece(target);
+    for (final java.util.Map.Entry<Integer, String> e : newStates.entrySet()) {
+      final GamePiece trait = traits.get(e.getKey());
+      if (trait instanceof Decorator) {
+        ((Decorator) trait).mySetState(e.getValue());
+      }
+      else if (trait instanceof StateMergeable) {
+        ((StateMergeable) trait).mergeState(e.getValue(), oldStates.get(e.getKey()));
+      }
+      else {
+        trait.setState(e.getValue());
+      }
+    }
+    bounds.addPiece(target);
+    bounds.repaint();
+
+    if (target.getMap() != null
+      && GlobalOptions.getInstance().centerOnOpponentsMove()
+      && !Boolean.TRUE.equals(target.getProperty(Properties.INVISIBLE_TO_ME))) {
+      target.getMap().ensureVisible(target.getMap().selectionBoundsOf(target));
+    }
+  }
+
+  @Override
+  public Command append(Command c) {
+    Command last = this;
+    final Command[] sub = getSubCommands();
+    if (sub.length > 0) {
+      last = sub[sub.length - 1];
+    }
+    if (c instanceof ChangePieceDelta && last instanceof ChangePieceDelta) {
+      final ChangePieceDelta next = (ChangePieceDelta) c;
+      final ChangePieceDelta prev = (ChangePieceDelta) last;
+      if (next.id != null && next.id.equals(prev.id) && next.traitCount == prev.traitCount) {
+        // As for ChangePiece, keep the earliest old state and the latest new state of each trait
+        for (final java.util.Map.Entry<Integer, String> e : next.newStates.entrySet()) {
+          prev.oldStates.putIfAbsent(e.getKey(), next.oldStates.get(e.getKey()));
+          prev.newStates.put(e.getKey(), e.getValue());
+        }
+        prev.undo = null;
+        for (final Command command : next.getSubCommands()) {
+          append(command);
+        }
+        return this;
+      }
+    }
+    return super.append(c);
+  }
+
+  @Override
+  protected Command myUndoCommand() {
+    if (undo == null) {
+      undo = new ChangePieceDelta(id, traitCount, new TreeMap<>(newStates), new TreeMap<>(oldStates));
+    }
+    return undo;
+  }
+
+  public String getId() {
+    return id;
+  }
+
+  public int getTraitCount() {
+    return traitCount;
+  }
+
+  /**
+   * @return The new state of each trait changed, by position
+   */
+  public SortedMap<Integer, String> getNewStates() {
+    return newStates;
+  }
+
+  /**
+   * @return The previous state of each trait changed, by position
+   */
+  public SortedMap<Integer, String> getOldStates() {
+    return oldStates;
+  }
+
+  @Override
+  public boolean isNull() {
+    return newStates.equals(oldStates) && isAtomic();
+  }
+
+  @Override
+  public String getDetails() {
+    return "id=" + id + ",oldStates=" + oldStates + ",newStates=" + newStates; //NON-NLS
+  }
+}
@@ -17,6 +17,9 @@
  */
 package VASSAL.command;
 
+import java.util.Arrays;
+
+import VASSAL.build.module.GlobalOptions;
 import VASSAL.counters.Decorator;
 import VASSAL.counters.GamePiece;
 
@@ -24,21 +27,43 @@ import VASSAL.counters.GamePiece;
  * Utility class for generating {@link ChangePiece} commands.
  * To use, construct a new ChangeTracker, make any changes
  * to the target {@link VASSAL.counters.GamePiece}, then invoke {@link #getChangeCommand}
+ *
+ * If the module allows compact commands (see {@link GlobalOptions#isCompactCommands()}), the states of the
+ * piece's traits are tracked separately where possible, and the change is given as a {@link ChangePieceDelta}
+ * carrying only the states of the traits which changed.
  */
 public class ChangeTracker {
   private final GamePiece piece;
   private final String oldState;
+  private final String[] oldTraitStates;
 
   public ChangeTracker(GamePiece p) {
-    oldState = Decorator.getOutermost(p).getState();
+    final GamePiece outer = Decorator.getOutermost(p);
+    oldTraitStates = GlobalOptions.getInstance().isCompactCommands() ? ChangePieceDelta.getTraitStates(outer) : null;
+    oldState = oldTraitStates == null ? outer.getState() : null;
     piece = p;
   }
 
   public Command getChangeCommand() {
-    return new ChangePiece(piece.getId(), oldState, Decorator.getOutermost(piece).getState());
+    final GamePiece outer = Decorator.getOutermost(piece);
+    if (oldTraitStates != null) {
+      final String[] newTraitStates = ChangePieceDelta.getTraitStates(outer);
+      if (newTraitStates != null && newTraitStates.length == oldTraitStates.length) {
+        return new ChangePieceDelta(piece.getId(), oldTraitStates, newTraitStates);
+      }
+      // The traits of the piece have changed, so only the complete state will do
+      return new ChangePiece(piece.getId(), ChangePieceDelta.getState(oldTraitStates), outer.getState());
+    }
+    return new ChangePiece(piece.getId(), oldState, outer.getState());
   }
 
   public boolean isChanged() {
-    return !oldState.equals(Decorator.getOutermost(piece).getState());
+    final GamePiece outer = Decorator.getOutermost(piece);
+    if (oldTraitStates != null) {
+      final String[] newTraitStates = ChangePieceDelta.getTraitStates(outer);
+      return newTraitStates == null ? !ChangePieceDelta.getState(oldTraitStates).equals(outer.getState()) :
+        !Arrays.equals(oldTraitStates, newTraitStates);
+    }
+    return !oldState.equals(outer.getState());
   }
 }
@@ -22,6 +22,8 @@ import java.util.List;
 import java.util.ListIterator;
 
 import VASSAL.tools.ErrorDialog;
+import VASSAL.tools.NotificationBatch;
+import VASSAL.tools.Profiler;
 import VASSAL.tools.ThrowableUtils;
 import VASSAL.build.module.GameComponent;
 
@@ -54,27 +56,39 @@ public abstract class Command {
 
   /**
    * Execute this command by first invoking {@link #executeCommand}, then
-   * invoking itself recursively on all subcommands.
+   * invoking itself recursively on all subcommands. Notifications such as
+   * map repaints are deferred until the whole command has been executed
+   * (see {@link NotificationBatch}).
    */
   public void execute() {
+    NotificationBatch.begin();
     try {
-      executeCommand();
-    }
-    catch (Throwable t) {
-      handleFailure(t);
-
-      final List<Command> oldSeq = seq;
-      stripSubCommands();
-      seq = oldSeq;
-    }
-
-    for (final Command cmd : seq) {
+      final long start = Profiler.start();
       try {
-        cmd.execute();
+        executeCommand();
       }
       catch (Throwable t) {
         handleFailure(t);
+
+        final List<Command> oldSeq = seq;
+        stripSubCommands();
+        seq = oldSeq;
+      }
+      if (start != 0) {
+        Profiler.record(Profiler.Category.EXECUTE, getClass(), start);
       }
+
+      for (final Command cmd : seq) {
+        try {
+          cmd.execute();
+        }
+        catch (Throwable t) {
+          handleFailure(t);
+        }
+      }
+    }
+    finally {
+      NotificationBatch.end();
     }
   }
 
@@ -105,6 +105,8 @@ import javax.swing.event.PopupMenuEvent;
 import javax.swing.event.PopupMenuListener;
 import javax.swing.event.TreeExpansionEvent;
 import javax.swing.event.TreeExpansionListener;
+import javax.swing.event.TreeModelEvent;
+import javax.swing.event.TreeModelListener;
 import javax.swing.event.TreeSelectionEvent;
 import javax.swing.event.TreeSelectionListener;
 import javax.swing.tree.DefaultMutableTreeNode;
@@ -143,11 +145,12 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Enumeration;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.WeakHashMap;
 import java.util.function.Consumer;
-import java.util.function.Predicate;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
@@ -219,6 +222,7 @@ public class ConfigureTree extends JTree implements PropertyChangeListener, Mous
   protected JCheckBox searchAdvanced;
 
   private final SearchParameters searchParameters;
+  private final SearchIndex searchIndex = new SearchIndex();
   protected static Chatter chatter;
 
   @Deprecated(since = "2022-08-08", forRemoval = true)
@@ -246,6 +250,7 @@ public class ConfigureTree extends JTree implements PropertyChangeListener, Mous
     this.editorWindow = editorWindow;
     setShowsRootHandles(true);
     setModel(new DefaultTreeModel(buildTreeNode(root)));
+    getModel().addTreeModelListener(searchIndex);
     setCellRenderer(buildRenderer());
     addMouseListener(this);
     addMouseMotionListener(this);
@@ -656,6 +661,10 @@ public class ConfigureTree extends JTree implements PropertyChangeListener, Mous
    * @return a list of search nodes
    */
   private List<DefaultMutableTreeNode> getSearchNodes(DefaultMutableTreeNode root) {
+    if (root == getModel().getRoot()) {
+      return searchIndex.getNodes(root);
+    }
+
     final List<DefaultMutableTreeNode> searchNodes = new ArrayList<>();
 
     final Enumeration<?> e = root.preorderEnumeration();
@@ -665,12 +674,222 @@ public class ConfigureTree extends JTree implements PropertyChangeListener, Mous
     return searchNodes;
   }
 
-  private static int getBookmark(List<DefaultMutableTreeNode> searchNodes, DefaultMutableTreeNode targetNode) {
-    return IntStream
-            .range(0, searchNodes.size())
-            .filter(i -> searchNodes.get(i) == targetNode)
-            .findFirst()
-            .orElse(-1);
+  /**
+   * @param targetNode - a node of our module's tree
+   * @return the position of the node in the list of search nodes, or -1 if it is not in the tree
+   */
+  private int getBookmark(DefaultMutableTreeNode targetNode) {
+    return searchIndex.indexOf((DefaultMutableTreeNode) getModel().getRoot(), targetNode);
+  }
+
+  /**
+   * Keeps the preorder list of the nodes of the tree, and the searchable strings of each node, so that a
+   * search need neither walk the tree nor extract the strings from every component and trait again.
+   * The strings of a node are extracted when it is first searched, and discarded whenever the node is
+   * changed, as it is when edited. The node list is rebuilt when nodes are added or removed.
+   */
+  private static class SearchIndex implements TreeModelListener {
+    private List<DefaultMutableTreeNode> nodes;
+    private final Map<DefaultMutableTreeNode, Integer> positions = new IdentityHashMap<>();
+    private final Map<DefaultMutableTreeNode, SearchEntry> entries = new WeakHashMap<>();
+
+    /** Incremented whenever anything in the index changes, so that search results can be reused until then */
+    private int version = 0;
+
+    List<DefaultMutableTreeNode> getNodes(DefaultMutableTreeNode root) {
+      if (nodes == null) {
+        nodes = new ArrayList<>();
+        positions.clear();
+        final Enumeration<?> e = root.preorderEnumeration();
+        while (e.hasMoreElements()) {
+          final DefaultMutableTreeNode node = (DefaultMutableTreeNode) e.nextElement();
+          positions.put(node, nodes.size());
+          nodes.add(node);
+        }
+      }
+      return nodes;
+    }
+
+    int indexOf(DefaultMutableTreeNode root, DefaultMutableTreeNode node) {
+      getNodes(root);
+      return node == null ? -1 : positions.getOrDefault(node, -1);
+    }
+
+    SearchEntry getEntry(DefaultMutableTreeNode node) {
+      return entries.computeIfAbsent(node, SearchEntry::new);
+    }
+
+    int getVersion() {
+      return version;
+    }
+
+    private void invalidate(Object node) {
+      if (node instanceof DefaultMutableTreeNode) {
+        final Enumeration<?> e = ((DefaultMutableTreeNode) node).preorderEnumeration();
+        while (e.hasMoreElements()) {
+          entries.remove(e.nextElement());
+        }
+      }
+    }
+
+    @Override
+    public void treeNodesChanged(TreeModelEvent e) {
+      if (e.getChildren() == null) {
+        entries.remove(e.getTreePath().getLastPathComponent());
+      }
+      else {
+        for (final Object child : e.getChildren()) {
+          entries.remove(child);
+        }
+      }
+      ++version;
+    }
+
+    @Override
+    public void treeNodesInserted(TreeModelEvent e) {
+      // Moved nodes may have a new parent, which can change what they match
+      for (final Object child : e.getChildren()) {
+        invalidate(child);
+      }
+      nodes = null;
+      ++version;
+    }
+
+    @Override
+    public void treeNodesRemoved(TreeModelEvent e) {
+      nodes = null;
+      ++version;
+    }
+
+    @Override
+    public void treeStructureChanged(TreeModelEvent e) {
+      entries.clear();
+      nodes = null;
+      ++version;
+    }
+  }
+
+  /**
+   * The searchable strings of a single node of the tree
+   */
+  private static class SearchEntry {
+    private final String name;
+    private final String description;
+    private final String typeName;
+    private final String parentTypeName;
+    private final String displayName;
+    private final Map<String, String> attributes = new HashMap<>();
+
+    /** The searchable components and traits of the node, in search order, or null if it is not a SearchTarget */
+    private final List<SearchTargetEntry> targets;
+
+    SearchEntry(DefaultMutableTreeNode node) {
+      final Configurable c = (Configurable) node.getUserObject();
+      name = c.getConfigureName();
+      description = c instanceof ComponentDescription ? ((ComponentDescription) c).getDescription() : null;
+      typeName = getConfigureName(c.getClass());
+      displayName = getConfigureName(c);
+
+      final DefaultMutableTreeNode pNode = (DefaultMutableTreeNode) node.getParent();
+      parentTypeName = pNode == null ? null : getConfigureName(((Configurable) pNode.getUserObject()).getClass());
+
+      final String[] attrs;
+      if (CLASS_MODULE.equals(typeName)) {
+        attrs = new String[] { DESCRIPTION, MODULE_OTHER1_PROPERTY, MODULE_OTHER2_PROPERTY };
+      }
+      else if (CLASS_HELP_MENU.equals(parentTypeName)) {
+        attrs = new String[] { "startingPage", "pdfFile", "textFile" }; //NON-NLS
+      }
+      else {
+        attrs = new String[0];
+      }
+      for (final String attr : attrs) {
+        attributes.put(attr, c.getAttributeValueString(attr));
+      }
+
+      if (!(c instanceof SearchTarget)) {
+        targets = null;
+        return;
+      }
+
+      GamePiece p;
+      boolean protoskip;
+      if (c instanceof GamePiece) {
+        p = (GamePiece) c;
+        protoskip = false;
+      }
+      else if (c instanceof PieceSlot) {
+        p = ((PieceSlot)c).getPiece();
+        protoskip = false;
+      }
+      else if (c instanceof PrototypeDefinition) {
+        p = ((PrototypeDefinition)c).getPiece();
+        protoskip = true;
+      }
+      else {
+        targets = Collections.singletonList(new SearchTargetEntry(null, (SearchTarget) c));
+        return;
+      }
+
+      // Traits are searched inner-to-outer (BasicPiece-on-out), so that user sees the traits hit in the same
+      // order they're listed in the PieceDefiner window.
+      final List<GamePiece> pieces = new ArrayList<>();
+      pieces.add(p);
+      while (p instanceof Decorator) {
+        p = ((Decorator) p).getInner();
+        pieces.add(p);
+      }
+      Collections.reverse(pieces);
+
+      targets = new ArrayList<>();
+      for (final GamePiece piece : pieces) {
+        if (!protoskip) { // Skip the fake "Basic Piece" on a Prototype definition
+          targets.add(new SearchTargetEntry(
+            piece instanceof EditablePiece ? (EditablePiece) piece : null,
+            piece instanceof SearchTarget ? (SearchTarget) piece : null
+          ));
+        }
+        protoskip = false;
+      }
+    }
+  }
+
+  /**
+   * The searchable strings of a single component or trait
+   */
+  private static class SearchTargetEntry {
+    private final boolean trait;
+    private final String description;
+    private final boolean searchTarget;
+    private final List<String> expressions;
+    private final List<String> properties;
+    private final List<String> keys;
+    private final List<String> menus;
+    private final List<String> messages;
+
+    SearchTargetEntry(EditablePiece trait, SearchTarget st) {
+      this.trait = trait != null;
+      description = trait == null ? null : trait.getDescription();
+
+      searchTarget = st != null;
+      expressions = st == null ? null : st.getExpressionList();
+      properties = st == null ? null : st.getPropertyList();
+      menus = st == null ? null : st.getMenuTextList();
+      messages = st == null ? null : st.getFormattedStringList();
+
+      final List<NamedKeyStroke> namedKeys = st == null ? null : st.getNamedKeyStrokeList();
+      if (namedKeys == null) {
+        keys = null;
+      }
+      else {
+        keys = new ArrayList<>();
+        for (final NamedKeyStroke k : namedKeys) {
+          if (k != null) {
+            keys.add(k.isNamed() ? k.getName() : KeyNamer.getKeyString(k.getStroke()));
+          }
+        }
+      }
+    }
   }
 
 
@@ -1805,12 +2024,7 @@ public class ConfigureTree extends JTree implements PropertyChangeListener, Mous
 
       // if node changes, we'll need the current Index.
       if (newNodeSelected) {
-        selectedNodeIndex = getBookmark(
-          (List<DefaultMutableTreeNode>) getSearchNodes(
-            (DefaultMutableTreeNode) selectedNode.getRoot()
-          ),
-          selectedNode
-        );
+        selectedNodeIndex = getBookmark(selectedNode);
       }
     }
   }
@@ -2247,6 +2461,11 @@ public class ConfigureTree extends JTree implements PropertyChangeListener, Mous
     private int traitIndex;
     private final List<Integer> breadCrumbs = new ArrayList<>();
 
+    /** Positions of the nodes matching the last search, and the search and index version they are for */
+    private List<Integer> matches;
+    private Pattern matchesPattern;
+    private int matchesVersion;
+
     /**
      * Constructs a new {@link SearchAction}
      *
@@ -2664,28 +2883,19 @@ public class ConfigureTree extends JTree implements PropertyChangeListener, Mous
 
       // Position at the current node
       if (currentNode != null) {
-        bookmark = getBookmark(searchNodes, currentNode);
+        bookmark = configureTree.getBookmark(currentNode);
       }
 
       // find the next node
-      final Predicate<DefaultMutableTreeNode> nodeMatchesSearchString = node -> checkNode(node, regexPattern);
-
-      lastFoundNode =
-        searchNodes
-          .stream()
-          .skip(bookmark + 1)
-          .filter(nodeMatchesSearchString)
-          .findFirst()
-          .orElse(null);
-
-      if (lastFoundNode == null) {
-        lastFoundNode =
-                searchNodes
-                        .stream()
-                        .limit(bookmark + 1)
-                        .filter(nodeMatchesSearchString)
-                        .findFirst()
-                        .orElse(null);
+      final List<Integer> found = getMatches(regexPattern);
+      final int next = firstMatchAfter(found, bookmark);
+
+      if (next < found.size()) {
+        lastFoundNode = searchNodes.get(found.get(next));
+      }
+      else {
+        // wrap around to the first match, unless it is after where we started
+        lastFoundNode = !found.isEmpty() && found.get(0) <= bookmark ? searchNodes.get(found.get(0)) : null;
 
         breadCrumbs.clear();
         nodeListIndex = 0;
@@ -2693,7 +2903,7 @@ public class ConfigureTree extends JTree implements PropertyChangeListener, Mous
 
       // Determine precise bookmark for back-track record (might be a child of the node within which the search was performed)
       if (lastFoundNode != null) {
-        bookmark = getBookmark(searchNodes, lastFoundNode);
+        bookmark = configureTree.getBookmark(lastFoundNode);
       }
 
       // track the node just found
@@ -2714,8 +2924,38 @@ public class ConfigureTree extends JTree implements PropertyChangeListener, Mous
     * @return how many total nodes match the search string
     */
     private int getNumMatches(Pattern regexPattern) {
-      final List<DefaultMutableTreeNode> searchNodes = configureTree.getSearchNodes((DefaultMutableTreeNode)configureTree.getModel().getRoot());
-      return (int) searchNodes.stream().filter(node -> checkNode(node, regexPattern)).count();
+      return getMatches(regexPattern).size();
+    }
+
+    /**
+     * Find every node matching the search, reusing the last result while neither the search nor the tree has
+     * changed, so that finding the next match does not search the whole tree again.
+     *
+     * @param regexPattern - our regex pattern derived from the search panel. A new one is made whenever the search parameters change.
+     * @return the positions of the matching nodes in the list of search nodes, in ascending order
+     */
+    private List<Integer> getMatches(Pattern regexPattern) {
+      final int version = configureTree.searchIndex.getVersion();
+      if (matches == null || matchesPattern != regexPattern || matchesVersion != version) {
+        final List<DefaultMutableTreeNode> searchNodes = configureTree.getSearchNodes((DefaultMutableTreeNode)configureTree.getModel().getRoot());
+        matches = new ArrayList<>();
+        for (int i = 0; i < searchNodes.size(); ++i) {
+          if (checkNode(searchNodes.get(i), regexPattern)) {
+            matches.add(i);
+          }
+        }
+        matchesPattern = regexPattern;
+        matchesVersion = version;
+      }
+      return matches;
+    }
+
+    /**
+     * @return the position in the list of matches of the first match after the bookmark, or the size of the list if there is none
+     */
+    private static int firstMatchAfter(List<Integer> found, int bookmark) {
+      final int i = Collections.binarySearch(found, bookmark + 1);
+      return i >= 0 ? i : -(i + 1);
     }
 
     /**
@@ -2724,85 +2964,65 @@ public class ConfigureTree extends JTree implements PropertyChangeListener, Mous
      * @return value of nodeListIndex
      */
     private int initSearchPosition(Pattern regexPattern) {
-      final List<DefaultMutableTreeNode> searchNodes = configureTree.getSearchNodes((DefaultMutableTreeNode)configureTree.getModel().getRoot());
       final DefaultMutableTreeNode currentNode = (DefaultMutableTreeNode)configureTree.getLastSelectedPathComponent();
+      final int current = configureTree.getBookmark(currentNode);
 
       breadCrumbs.clear();
-      int i = 0;
-
-      do {
-        if (checkNode(searchNodes.get(i), regexPattern)) {
-          breadCrumbs.add(i);
+      for (final int i : getMatches(regexPattern)) {
+        if (i > current) {
+          break;
         }
-      } while (searchNodes.get(i++) != currentNode);
+        breadCrumbs.add(i);
+      }
 
       return  breadCrumbs.size();
     }
 
     /**
-     * @param st - Search target (usually Decorator or AbstractConfigurable)
+     * @param st - Searchable strings of a search target (usually Decorator or AbstractConfigurable)
      * @param regexPattern - our regex pattern derived from the search panel
      * @return true if the node matches our searchString based on search configuration
      */
-    private boolean checkSearchTarget(SearchTarget st, Pattern regexPattern) {
+    private boolean checkSearchTarget(SearchTargetEntry st, Pattern regexPattern) {
       if (searchParameters.isMatchExpressions() || searchParameters.isMatchFull()) {
-        final List<String> exps = st.getExpressionList();
-        if (exps != null) {
-          for (final String s : exps) {
-            if (!StringUtils.isEmpty(s) && checkString(s, regexPattern)) {
-              return true;
-            }
-          }
+        if (checkStrings(st.expressions, regexPattern)) {
+          return true;
         }
       }
 
       if (searchParameters.isMatchProperties() || searchParameters.isMatchFull()) {
-        final List<String> props = st.getPropertyList();
-        if (props != null) {
-          for (final String s : props) {
-            if (!StringUtils.isEmpty(s) && checkString(s, regexPattern)) {
-              return true;
-            }
-          }
+        if (checkStrings(st.properties, regexPattern)) {
+          return true;
         }
       }
 
       if (searchParameters.isMatchKeys() || searchParameters.isMatchFull()) {
-        final List<NamedKeyStroke> keys = st.getNamedKeyStrokeList();
-        if (keys != null) {
-          for (final NamedKeyStroke k : keys) {
-            if (k != null) {
-              final String s = k.isNamed() ? k.getName() : KeyNamer.getKeyString(k.getStroke());
-              if (!StringUtils.isEmpty(s) && checkString(s, regexPattern)) {
-                return true;
-              }
-            }
-          }
+        if (checkStrings(st.keys, regexPattern)) {
+          return true;
         }
       }
 
       if (searchParameters.isMatchMenus() || searchParameters.isMatchFull()) {
-        final List<String> menus = st.getMenuTextList();
-        if (menus != null) {
-          for (final String s : menus) {
-            if (!StringUtils.isEmpty(s) && checkString(s, regexPattern)) {
-              return true;
-            }
-          }
+        if (checkStrings(st.menus, regexPattern)) {
+          return true;
         }
       }
 
       if (searchParameters.isMatchMessages() || searchParameters.isMatchFull()) {
-        final List<String> msgs = st.getFormattedStringList();
-        if (msgs != null) {
-          for (final String s : msgs) {
-            if (!StringUtils.isEmpty(s) && checkString(s, regexPattern)) {
-              return true;
-            }
+        return checkStrings(st.messages, regexPattern);
+      }
+
+      return false;
+    }
+
+    private boolean checkStrings(List<String> strings, Pattern regexPattern) {
+      if (strings != null) {
+        for (final String s : strings) {
+          if (!StringUtils.isEmpty(s) && checkString(s, regexPattern)) {
+            return true;
           }
         }
       }
-
       return false;
     }
 
@@ -2812,7 +3032,6 @@ public class ConfigureTree extends JTree implements PropertyChangeListener, Mous
      * @return true if the node matches our search
      */
     private boolean checkNode(DefaultMutableTreeNode node, Pattern regexPattern) {
-      final Configurable c = (Configurable) node.getUserObject();
       final boolean showName = (searchParameters.isMatchNames() || !searchParameters.isMatchAdvanced());  // name is default (i.e. unless filtered out)
       final boolean showTypes = (searchParameters.isMatchTypes() || !searchParameters.isMatchAdvanced());  // type [class] is default (i.e. unless filtered out)
 
@@ -2824,23 +3043,20 @@ public class ConfigureTree extends JTree implements PropertyChangeListener, Mous
         }
       }
 
+      final SearchEntry entry = configureTree.searchIndex.getEntry(node);
+
       if (showName) {
-        final String objectName = c.getConfigureName();
-        if (objectName != null && checkString(objectName, regexPattern)) {
+        if (entry.name != null && checkString(entry.name, regexPattern)) {
           return true;
         }
-        if (c instanceof ComponentDescription) {
-          // Selecting names includes description in detection.
-          final String desc = ((ComponentDescription) c).getDescription();
-          if ((desc != null) && checkString(desc, regexPattern)) {
-            return true;
-          }
+        // Selecting names includes description in detection.
+        if ((entry.description != null) && checkString(entry.description, regexPattern)) {
+          return true;
         }
       }
 
       if (showTypes) {
-        final String className = getConfigureName(c.getClass());
-        if ((className != null) && checkString(className, regexPattern)) {
+        if ((entry.typeName != null) && checkString(entry.typeName, regexPattern)) {
           return true;
         }
       }
@@ -2851,117 +3067,75 @@ public class ConfigureTree extends JTree implements PropertyChangeListener, Mous
 
       //  Special processing to include select items in full search despite not being a SearchTarget
       // Is module descriptor ?
-      if (getConfigureName(c.getClass()).equals(CLASS_MODULE)) {
+      if (CLASS_MODULE.equals(entry.typeName)) {
         // [Module] - Name, Description & Additional infos fields within the Module component
         if (searchParameters.isMatchFull() || searchParameters.isMatchMenus()) {
           // check UI content
 
           if (!showName) {       // not if already captured by name
-            final String objectName = c.getConfigureName();
-            if (objectName != null && checkString(objectName, regexPattern)) {
+            if (entry.name != null && checkString(entry.name, regexPattern)) {
               return true;
             }
           }
 
-          final String desc = c.getAttributeValueString(DESCRIPTION);
+          final String desc = entry.attributes.get(DESCRIPTION);
           if (desc != null && checkString(desc, regexPattern)) {
             return true;
           }
 
-          final String moduleOther1 = c.getAttributeValueString(MODULE_OTHER1_PROPERTY);
+          final String moduleOther1 = entry.attributes.get(MODULE_OTHER1_PROPERTY);
           if (moduleOther1 != null && checkString(moduleOther1, regexPattern)) {
             return true;
           }
 
-          final String moduleOther2 = c.getAttributeValueString(MODULE_OTHER2_PROPERTY);
+          final String moduleOther2 = entry.attributes.get(MODULE_OTHER2_PROPERTY);
           if (moduleOther2 != null) {
             return checkString(moduleOther2, regexPattern);
           }
         }
       }
-      else {
-        final DefaultMutableTreeNode pNode = (DefaultMutableTreeNode) node.getParent();
-        final Configurable p = (Configurable) pNode.getUserObject();
+      else if (CLASS_HELP_MENU.equals(entry.parentTypeName)) {
+        // [Help Menu]
+        // Menu is also the Name, so only catch here if not already caught as Name
 
-        if (getConfigureName(p.getClass()).equals(CLASS_HELP_MENU)) {
-          // [Help Menu]
-          // Menu is also the Name, so only catch here if not already caught as Name
+        if (!showName && (searchParameters.isMatchFull() || searchParameters.isMatchMenus())) {
+          return checkString(entry.displayName, regexPattern);
+        }
 
-          if (!showName && (searchParameters.isMatchFull() || searchParameters.isMatchMenus())) {
-            return checkString(getConfigureName(c), regexPattern);
+        if (searchParameters.isMatchFull() || searchParameters.isMatchExpressions()) {
+          // content will be categorised as Expressions... each is a separate component
+          final String startPage = entry.attributes.get("startingPage");
+          if (startPage != null) {
+            return checkString(startPage, regexPattern);
           }
 
-          if (searchParameters.isMatchFull() || searchParameters.isMatchExpressions()) {
-            // content will be categorised as Expressions... each is a separate component
-            final String startPage = c.getAttributeValueString("startingPage");
-            if (startPage != null) {
-              return checkString(startPage, regexPattern);
-            }
-
-            final String pdfFile = c.getAttributeValueString("pdfFile");
-            if (pdfFile != null) {
-              return checkString(pdfFile, regexPattern);
-            }
+          final String pdfFile = entry.attributes.get("pdfFile");
+          if (pdfFile != null) {
+            return checkString(pdfFile, regexPattern);
+          }
 
-            final String textFile = c.getAttributeValueString("textFile");
-            if (textFile != null) {
-              return checkString(textFile, regexPattern);
-            }
+          final String textFile = entry.attributes.get("textFile");
+          if (textFile != null) {
+            return checkString(textFile, regexPattern);
           }
         }
       }
 
-      if (!(c instanceof SearchTarget)) {
-        return false;
-      }
-
       // From here down we are only searching inside SearchTarget objects (Piece/Prototypes, or searchable AbstractConfigurables)
-      GamePiece p;
-      boolean protoskip;
-      if (c instanceof GamePiece) {
-        p = (GamePiece) c;
-        protoskip = false;
-      }
-      else if (c instanceof PieceSlot) {
-        p = ((PieceSlot)c).getPiece();
-        protoskip = false;
-      }
-      else if (c instanceof PrototypeDefinition) {
-        p = ((PrototypeDefinition)c).getPiece();
-        protoskip = true;
-      }
-      else {
-        return checkSearchTarget((SearchTarget) c, regexPattern);
-      }
-
-      // We're going to search Decorator from inner-to-outer (BasicPiece-on-out), so that user sees the traits hit in
-      // the same order they're listed in the PieceDefiner window. So we first traverse them in the "normal" direction
-      // outer to inner and make a list in the order we want to traverse it (for architectural reasons, just traversing
-      // with getOuter() would take us inside of prototypes inside a piece, which we don't want).
-      final List<GamePiece> pieces = new ArrayList<>();
-      pieces.add(p);
-      while (p instanceof Decorator) {
-        p = ((Decorator) p).getInner();
-        pieces.add(p);
+      if (entry.targets == null) {
+        return false;
       }
-      Collections.reverse(pieces);
 
-      for (final GamePiece piece : pieces) {
-        if (!protoskip) { // Skip the fake "Basic Piece" on a Prototype definition
-          if (searchParameters.isMatchTraits() && (piece instanceof EditablePiece)) {
-            final String desc = ((EditablePiece) piece).getDescription();
-            if ((desc != null) && checkString(desc, regexPattern)) {
-              return true;
-            }
+      for (final SearchTargetEntry target : entry.targets) {
+        if (searchParameters.isMatchTraits() && target.trait) {
+          if ((target.description != null) && checkString(target.description, regexPattern)) {
+            return true;
           }
+        }
 
-          if (piece instanceof SearchTarget) {
-            if (checkSearchTarget((SearchTarget)piece, regexPattern)) {
-              return true;
-            }
-          }
+        if (target.searchTarget && checkSearchTarget(target, regexPattern)) {
+          return true;
         }
-        protoskip = false;
       }
 
       return false;
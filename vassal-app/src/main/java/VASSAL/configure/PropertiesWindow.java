@@ -62,27 +62,7 @@ public class PropertiesWindow extends JDialog {
 
   protected void initialize(final Configurable target, HelpWindow helpWindow) {
     this.target = target;
-    originalState = target.getBuildElement(Builder.createNewDocument());
-    Node child = originalState.getFirstChild();
-    while (child != null) {
-      final Node nextChild = child.getNextSibling();
-      if (Node.ELEMENT_NODE == child.getNodeType()) {
-        // Cull Buildables from the state.
-        try {
-          final Class<?> c = GameModule.getGameModule().getDataArchive().loadClass(((Element)child).getTagName());
-          if (Buildable.class.isAssignableFrom(c)) {
-            originalState.removeChild(child);
-          }
-        }
-        catch (ClassNotFoundException e) {
-          // This element doesn't correspond to a class. Skip it.
-        }
-        catch (LinkageError e) {
-          ErrorDialog.bug(e);
-        }
-      }
-      child = nextChild;
-    }
+    originalState = getState();
 
     setLayout(new MigLayout("ins panel,wrap 1", "[grow,fill]", "[align top,grow][]")); // NON-NLS
     configurer = target.getConfigurer();
@@ -173,6 +153,37 @@ public class PropertiesWindow extends JDialog {
 
   public void save() {
     configurer.getValue();
+    if (!getState().isEqualNode(originalState)) {
+      GameModule.getGameModule().noteModified();
+    }
     dispose();
   }
+
+  /**
+   * @return the XML element for the target's own configuration, without any of its child components
+   */
+  private Element getState() {
+    final Element state = target.getBuildElement(Builder.createNewDocument());
+    Node child = state.getFirstChild();
+    while (child != null) {
+      final Node nextChild = child.getNextSibling();
+      if (Node.ELEMENT_NODE == child.getNodeType()) {
+        // Cull Buildables from the state.
+        try {
+          final Class<?> c = GameModule.getGameModule().getDataArchive().loadClass(((Element)child).getTagName());
+          if (Buildable.class.isAssignableFrom(c)) {
+            state.removeChild(child);
+          }
+        }
+        catch (ClassNotFoundException e) {
+          // This element doesn't correspond to a class. Skip it.
+        }
+        catch (LinkageError e) {
+          ErrorDialog.bug(e);
+        }
+      }
+      child = nextChild;
+    }
+    return state;
+  }
 }
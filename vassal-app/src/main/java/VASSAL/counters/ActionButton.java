@@ -64,6 +64,8 @@ import java.beans.PropertyChangeEvent;
 import java.beans.PropertyChangeListener;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -145,6 +147,11 @@ public class ActionButton extends Decorator implements EditablePiece, Loopable {
     return super.getProperty(key);
   }
 
+  @Override
+  protected Collection<String> getOwnedPropertyNames() {
+    return Collections.singletonList(LAUNCH_POPUP_MENU);
+  }
+
   @Override
   public Object getLocalizedProperty(Object key) {
     if (LAUNCH_POPUP_MENU.equals(key)) {
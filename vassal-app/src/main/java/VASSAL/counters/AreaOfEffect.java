@@ -57,8 +57,11 @@ import java.awt.Shape;
 import java.awt.geom.AffineTransform;
 import java.awt.geom.Area;
 import java.awt.geom.Ellipse2D;
+import java.awt.geom.Rectangle2D;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 
@@ -74,6 +77,33 @@ public class AreaOfEffect extends Decorator implements TranslatablePiece, MapSha
   protected static final float defaultTransparencyLevel = 0.3F;
   protected static final int defaultRadius = 1;
 
+  /**
+   * Whether a class overrides {@link #getArea()} or {@link #getArea(MapShader)}, in which case its bounds cannot be
+   * predicted
+   */
+  private static final ClassValue<Boolean> AREA_OVERRIDDEN = new ClassValue<>() {
+    @Override
+    protected Boolean computeValue(Class<?> type) {
+      for (Class<?> c = type; c != AreaOfEffect.class; c = c.getSuperclass()) {
+        if (declares(c) || declares(c, MapShader.class)) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    private boolean declares(Class<?> c, Class<?>... parameterTypes) {
+      try {
+        c.getDeclaredMethod("getArea", parameterTypes); //NON-NLS
+        return true;
+      }
+      catch (NoSuchMethodException e) {
+        // Not declared here
+        return false;
+      }
+    }
+  };
+
   protected Color transparencyColor;
   protected float transparencyLevel;
   protected int radius;
@@ -258,7 +288,7 @@ public class AreaOfEffect extends Decorator implements TranslatablePiece, MapSha
       // The transparency is only drawn on a Map.View component. Only the
       // GamePiece is drawn within other windows (Counter Palette, etc.).
       if (obs instanceof Map.View && getMap() != null) {
-        Area a = getArea();
+        final Area a = getArea();
         if (a != null) {
           final Graphics2D g2d = (Graphics2D) g;
 
@@ -268,10 +298,8 @@ public class AreaOfEffect extends Decorator implements TranslatablePiece, MapSha
           final Composite oldComposite = g2d.getComposite();
           g2d.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, transparencyLevel));
 
-          if (zoom != 1.0) {
-            a = new Area(AffineTransform.getScaleInstance(zoom, zoom).createTransformedShape(a));
-          }
-          g2d.fill(a);
+          // Filling the scaled outline needs no second Area to be built
+          g2d.fill(zoom == 1.0 ? a : AffineTransform.getScaleInstance(zoom, zoom).createTransformedShape(a));
 
 
           g2d.setColor(oldColor);
@@ -285,6 +313,23 @@ public class AreaOfEffect extends Decorator implements TranslatablePiece, MapSha
   }
 
   protected Area getArea() {
+    final AffineTransform t = new AffineTransform();
+    final Shape template = getAreaTemplate(t);
+    if (template == null) {
+      return null;
+    }
+    // Transforming an Area allocates less than building a new Area from a transformed Shape
+    return template instanceof Area ?
+      ((Area) template).createTransformedArea(t) : new Area(t.createTransformedShape(template));
+  }
+
+  /**
+   * Find the shape of the area, centered on (0, 0), and the transform which places it on the map.
+   * The shape may be shared, so must not be modified.
+   * @param t Set to the transform from the shape to map co-ords
+   * @return the shape, or null if the piece is not on a map
+   */
+  private Shape getAreaTemplate(AffineTransform t) {
     final Map map = getMap();
     if (map == null) {
       return null;
@@ -297,7 +342,7 @@ public class AreaOfEffect extends Decorator implements TranslatablePiece, MapSha
     final Board board = map.findBoard(mapPosition);
     final MapGrid grid = board == null ? null : board.getGrid();
 
-    Area a;
+    t.setToTranslation(mapPosition.x, mapPosition.y);
     if (grid instanceof GeometricGrid) {
       final GeometricGrid gGrid = (GeometricGrid) grid;
 
@@ -305,25 +350,15 @@ public class AreaOfEffect extends Decorator implements TranslatablePiece, MapSha
       final Point boardPosition = new Point(
         mapPosition.x - boardBounds.x, mapPosition.y - boardBounds.y);
 
-      a = gGrid.getGridShape(boardPosition, myRadius); // In board co-ords
-      final AffineTransform t = AffineTransform.getTranslateInstance(
-        boardBounds.x, boardBounds.y); // Translate back to map co-ords
-
       final double mag = board.getMagnification();
       if (mag != 1.0) {
-        t.translate(boardPosition.x, boardPosition.y);
         t.scale(mag, mag);
-        t.translate(-boardPosition.x, -boardPosition.y);
       }
-      a = a.createTransformedArea(t);
+      return gGrid.getGridShapeTemplate(boardPosition, myRadius);
     }
     else {
-      a = new Area(
-        new Ellipse2D.Double(mapPosition.x - myRadius,
-                             mapPosition.y - myRadius,
-                             myRadius * 2, myRadius * 2));
+      return new Ellipse2D.Double(-myRadius, -myRadius, myRadius * 2, myRadius * 2);
     }
-    return a;
   }
 
   protected int getRadius() {
@@ -427,6 +462,30 @@ public class AreaOfEffect extends Decorator implements TranslatablePiece, MapSha
     return a;
   }
 
+  @Override
+  public Rectangle2D getAreaBounds(MapShader shader) {
+    if (AREA_OVERRIDDEN.get(getClass())) {
+      return null;
+    }
+    Rectangle2D bounds = new Rectangle2D.Double();
+    final MapShader.ShadedPiece shaded = (MapShader.ShadedPiece) getDecorator(piece, MapShader.ShadedPiece.class);
+    if (shaded != null) {
+      bounds = shaded.getAreaBounds(shader);
+      if (bounds == null) {
+        return null;
+      }
+    }
+    if ((alwaysActive || isActive()) && shader.getConfigureName().equals(mapShaderName)) {
+      final AffineTransform t = new AffineTransform();
+      final Shape template = getAreaTemplate(t);
+      if (template != null) {
+        final Rectangle2D myBounds = t.createTransformedShape(template.getBounds2D()).getBounds2D();
+        bounds = bounds.isEmpty() ? myBounds : bounds.createUnion(myBounds);
+      }
+    }
+    return bounds;
+  }
+
   /**
    * Return the active state of the trait
    * @param key Property name
@@ -443,6 +502,11 @@ public class AreaOfEffect extends Decorator implements TranslatablePiece, MapSha
     return super.getProperty(key);
   }
 
+  @Override
+  protected Collection<String> getOwnedPropertyNames() {
+    return Collections.singletonList(name + ACTIVE);
+  }
+
   @Override
   public Object getLocalizedProperty(Object key) {
     if (key.equals(name + ACTIVE) || key.equals(Properties.VISIBLE_STATE)) {
@@ -30,6 +30,7 @@ import java.awt.Graphics;
 import java.awt.Rectangle;
 import java.awt.Shape;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 
@@ -81,6 +82,11 @@ public class BasicName extends Decorator implements TranslatablePiece {
     return super.getProperty(key);
   }
 
+  @Override
+  protected Collection<String> getOwnedPropertyNames() {
+    return List.of(BasicPiece.BASIC_NAME, BasicPiece.LOCALIZED_BASIC_NAME);
+  }
+
   @Override
   public List<String> getPropertyList() {
     return getPropertyNames();
@@ -60,6 +60,8 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Basic class for representing a physical component of the game. Can be e.g. a counter, a card, or an overlay.
@@ -112,6 +114,12 @@ public class BasicPiece extends AbstractImageFinder implements TranslatablePiece
   public static final String STACK_SIZE = "StackSize";
   public static final String UNIQUE_ID = "UniqueID";
 
+  /** The named properties answered by {@link #getPublicProperty} */
+  private static final Set<Object> PUBLIC_PROPERTIES = Set.of(
+    Properties.KEY_COMMANDS, LOCATION_NAME, PIECE_NAME, LOCALIZED_PIECE_NAME, CURRENT_MAP, DECK_NAME, DECK_POSITION,
+    CURRENT_BOARD, CURRENT_ZONE, CURRENT_X, CURRENT_Y, PIECE_UID, UNIQUE_ID, STACK_POS, STACK_SIZE, Properties.VISIBLE_STATE
+  );
+
 
   @Deprecated(since = "2022-08-08", forRemoval = true)
   public static Font POPUP_MENU_FONT = new Font(Font.DIALOG, Font.PLAIN, 11);
@@ -139,6 +147,12 @@ public class BasicPiece extends AbstractImageFinder implements TranslatablePiece
    */
   private java.util.Map<Object, Object> persistentProps;
 
+  /** The Board, Zone and location name at this piece's position, if they have been looked up */
+  private LocationCache locationCache;
+
+  private static final LongAdder locationCacheHits = new LongAdder();
+  private static final LongAdder locationCacheMisses = new LongAdder();
+
   /** @deprecated Moved into own traits, retained for backward compatibility */
   @Deprecated(since = "2021-12-01", forRemoval = true)
   private char cloneKey;
@@ -247,6 +261,10 @@ public class BasicPiece extends AbstractImageFinder implements TranslatablePiece
     else if (LOCALIZED_BASIC_NAME.equals(key)) {
       return getRealLocalizedName();
     }
+    else if (Properties.OUTER.equals(key)) {
+      // Set by our Decorator, if we have one. Never look further afield, as the location of the piece would be looked up.
+      return props == null ? null : props.get(key);
+    }
     else
         return getPublicProperty(key);
   }
@@ -256,11 +274,17 @@ public class BasicPiece extends AbstractImageFinder implements TranslatablePiece
    * @param key String key of property to be returned.
    */
   public Object getPublicProperty(Object key) {
+    if (key == null || !PUBLIC_PROPERTIES.contains(key)) {
+      // Most lookups are for the piece's own or global properties, so skip straight to them
+      return getPieceOrGlobalProperty(key);
+    }
+
     if (Properties.KEY_COMMANDS.equals(key)) {
       return getKeyCommands();
     }
     else if (LOCATION_NAME.equals(key)) {
-      return getMap() == null ? "" : getMap().locationName(getPosition());
+      final Map m = getMap();
+      return m == null ? "" : getLocationCache(m).getLocationName();
     }
     else if (PIECE_NAME.equals(key)) {
       return Decorator.getOutermost(this).getName();
@@ -286,8 +310,9 @@ public class BasicPiece extends AbstractImageFinder implements TranslatablePiece
       }
     }
     else if (CURRENT_BOARD.equals(key)) {
-      if (getMap() != null) {
-        final Board b = getMap().findBoard(getPosition());
+      final Map m = getMap();
+      if (m != null) {
+        final Board b = getLocationCache(m).getBoard();
         if (b != null) {
           return b.getName();
         }
@@ -295,8 +320,9 @@ public class BasicPiece extends AbstractImageFinder implements TranslatablePiece
       return "";
     }
     else if (CURRENT_ZONE.equals(key)) {
-      if (getMap() != null) {
-        final Zone z = getMap().findZone(getPosition());
+      final Map m = getMap();
+      if (m != null) {
+        final Zone z = getLocationCache(m).getZone();
         if (z != null) {
           return z.getName();
         }
@@ -335,6 +361,13 @@ public class BasicPiece extends AbstractImageFinder implements TranslatablePiece
       return "";
     }
 
+    return getPieceOrGlobalProperty(key);
+  }
+
+  /**
+   * Look up a property which is not one of the named properties supported by BasicPiece
+   */
+  private Object getPieceOrGlobalProperty(Object key) {
     // Check for a property in the scratch-pad properties
     Object prop = props == null ? null : props.get(key);
 
@@ -346,7 +379,7 @@ public class BasicPiece extends AbstractImageFinder implements TranslatablePiece
     // Check for higher level properties. Each level if it exists will check the higher level if required.
     if (prop == null) {
       final Map map = getMap();
-      final Zone zone = (map == null ? null : map.findZone(getPosition()));
+      final Zone zone = (map == null ? null : getLocationCache(map).getZone());
       if (zone != null) {
         prop = zone.getProperty(key);
       }
@@ -398,7 +431,8 @@ public class BasicPiece extends AbstractImageFinder implements TranslatablePiece
       return getProperty(key);
     }
     else if (LOCATION_NAME.equals(key)) {
-      return getMap() == null ? "" : getMap().localizedLocationName(getPosition());
+      final Map m = getMap();
+      return m == null ? "" : getLocationCache(m).getLocalizedLocationName();
     }
     else if (PIECE_NAME.equals(key)) {
       return Decorator.getOutermost(this).getName();
@@ -421,8 +455,9 @@ public class BasicPiece extends AbstractImageFinder implements TranslatablePiece
       }
     }
     else if (CURRENT_BOARD.equals(key)) {
-      if (getMap() != null) {
-        final Board b = getMap().findBoard(getPosition());
+      final Map m = getMap();
+      if (m != null) {
+        final Board b = getLocationCache(m).getBoard();
         if (b != null) {
           return b.getLocalizedName();
         }
@@ -430,8 +465,9 @@ public class BasicPiece extends AbstractImageFinder implements TranslatablePiece
       return "";
     }
     else if (CURRENT_ZONE.equals(key)) {
-      if (getMap() != null) {
-        final Zone z = getMap().findZone(getPosition());
+      final Map m = getMap();
+      if (m != null) {
+        final Zone z = getLocationCache(m).getZone();
         if (z != null) {
           return z.getLocalizedName();
         }
@@ -449,7 +485,7 @@ public class BasicPiece extends AbstractImageFinder implements TranslatablePiece
     // Check for higher level properties. Each level if it exists will check the higher level if required.
     if (prop == null) {
       final Map map = getMap();
-      final Zone zone = (map == null ? null : map.findZone(getPosition()));
+      final Zone zone = (map == null ? null : getLocationCache(map).getZone());
       if (zone != null) {
         prop = zone.getLocalizedProperty(key);
       }
@@ -637,6 +673,34 @@ public class BasicPiece extends AbstractImageFinder implements TranslatablePiece
     return getParent() == null ? new Point(pos) : getParent().getPosition();
   }
 
+  /**
+   * @param m The map this piece is on
+   * @return The location-derived properties of this piece, looked up again only if it has moved
+   */
+  private LocationCache getLocationCache(Map m) {
+    final Point p = getPosition();
+    LocationCache c = locationCache;
+    if (c == null || !c.isFor(m, p)) {
+      c = new LocationCache(m, p);
+      locationCache = c;
+    }
+    return c;
+  }
+
+  /**
+   * @return Number of times the Board, Zone or location name of any piece has been answered from its cache
+   */
+  public static long getLocationCacheHits() {
+    return locationCacheHits.sum();
+  }
+
+  /**
+   * @return Number of times the Board, Zone or location name of any piece has had to be looked up on its map
+   */
+  public static long getLocationCacheMisses() {
+    return locationCacheMisses.sum();
+  }
+
   /**
    * @param p Sets the location of this piece on its {@link Map}
    */
@@ -647,6 +711,7 @@ public class BasicPiece extends AbstractImageFinder implements TranslatablePiece
     }
     pos = p;
     if (getMap() != null && getParent() == null) {
+      getMap().pieceBoundsChanged(Decorator.getOutermost(this));
       getMap().repaint(getMap().boundingBoxOf(Decorator.getOutermost(this)));
     }
   }
@@ -1259,4 +1324,78 @@ public class BasicPiece extends AbstractImageFinder implements TranslatablePiece
   public void addLocalImageNames(Collection<String> s) {
     if (imageName != null) s.add(imageName);
   }
+
+  /**
+   * The Board, Zone and location name at a piece's position, which are needed by many property lookups and
+   * filters but are slow to find. Each is looked up on the map when first needed, and then kept until the
+   * piece moves to a different position or map, or the boards of its map are changed.
+   */
+  private static class LocationCache {
+    private final Map map;
+    private final int boardsVersion;
+    private final Point pos;
+
+    private boolean boardFound;
+    private Board board;
+    private boolean zoneFound;
+    private Zone zone;
+    private String locationName;
+    private String localizedLocationName;
+
+    LocationCache(Map map, Point pos) {
+      this.map = map;
+      this.boardsVersion = map.getBoardsVersion();
+      this.pos = pos;
+    }
+
+    boolean isFor(Map m, Point p) {
+      return map == m && boardsVersion == m.getBoardsVersion() && pos.equals(p);
+    }
+
+    Board getBoard() {
+      if (boardFound) {
+        locationCacheHits.increment();
+      }
+      else {
+        locationCacheMisses.increment();
+        board = map.findBoard(pos);
+        boardFound = true;
+      }
+      return board;
+    }
+
+    Zone getZone() {
+      if (zoneFound) {
+        locationCacheHits.increment();
+      }
+      else {
+        locationCacheMisses.increment();
+        zone = map.findZone(pos);
+        zoneFound = true;
+      }
+      return zone;
+    }
+
+    String getLocationName() {
+      if (locationName != null) {
+        locationCacheHits.increment();
+      }
+      else {
+        locationCacheMisses.increment();
+        locationName = map.locationName(pos);
+      }
+      return locationName;
+    }
+
+    String getLocalizedLocationName() {
+      if (localizedLocationName != null) {
+        locationCacheHits.increment();
+      }
+      else {
+        locationCacheMisses.increment();
+        localizedLocationName = map.localizedLocationName(pos);
+      }
+      return localizedLocationName;
+    }
+  }
 }
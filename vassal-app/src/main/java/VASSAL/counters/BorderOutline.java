@@ -34,6 +34,8 @@ import java.awt.Graphics;
 import java.awt.Rectangle;
 import java.awt.Shape;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 
@@ -261,6 +263,11 @@ public class BorderOutline extends Decorator implements TranslatablePiece {
     return super.getProperty(key);
   }
 
+  @Override
+  protected Collection<String> getOwnedPropertyNames() {
+    return Collections.emptyList();
+  }
+
   @Override
   public Object getLocalizedProperty(Object key) {
     if (key.equals(Properties.VISIBLE_STATE)) {
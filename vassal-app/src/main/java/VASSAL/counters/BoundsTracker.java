@@ -17,8 +17,9 @@
  */
 package VASSAL.counters;
 
-import java.util.HashSet;
-import java.util.Set;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 
 import VASSAL.build.module.Map;
 
@@ -26,13 +27,14 @@ import VASSAL.build.module.Map;
  * Records the bounding boxes of GamePieces.  Use addPiece() to
  * record the bounding box of a GamePiece at a certain time.  Use
  * repaint() to repaint the appropriate areas of the maps to which the
- * added pieces belonged.
+ * added pieces belonged, and have those maps look up the bounds of the
+ * added pieces again.
  */
 public class BoundsTracker {
-  private final Set<Map> maps;
+  private final java.util.Map<Map, List<GamePiece>> maps;
 
   public BoundsTracker() {
-    maps = new HashSet<>();
+    maps = new HashMap<>();
   }
 
   public void clear() {
@@ -41,12 +43,16 @@ public class BoundsTracker {
 
   public void addPiece(GamePiece p) {
     if (p.getMap() != null) {
-      maps.add(p.getMap());
+      maps.computeIfAbsent(p.getMap(), m -> new ArrayList<>()).add(p);
     }
   }
 
   public void repaint() {
-    for (final Map m : maps) {
+    for (final java.util.Map.Entry<Map, List<GamePiece>> e : maps.entrySet()) {
+      final Map m = e.getKey();
+      for (final GamePiece p : e.getValue()) {
+        m.pieceBoundsChanged(p);
+      }
       m.repaint();
     }
   }
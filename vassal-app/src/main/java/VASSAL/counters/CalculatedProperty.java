@@ -36,6 +36,8 @@ import java.awt.Graphics;
 import java.awt.Rectangle;
 import java.awt.Shape;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 
@@ -196,6 +198,11 @@ public class CalculatedProperty extends Decorator implements EditablePiece, Loop
     return super.getProperty(key);
   }
 
+  @Override
+  protected Collection<String> getOwnedPropertyNames() {
+    return Collections.singletonList(name);
+  }
+
   @Override
   public Object getLocalizedProperty(Object key) {
     if (name.length() > 0 && name.equals(key)) {
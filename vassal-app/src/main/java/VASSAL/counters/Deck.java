@@ -20,6 +20,7 @@ package VASSAL.counters;
 import VASSAL.build.BadDataReport;
 import VASSAL.build.GameModule;
 import VASSAL.build.module.Chatter;
+import VASSAL.build.module.GlobalOptions;
 import VASSAL.build.module.Map;
 import VASSAL.build.module.PlayerRoster;
 import VASSAL.build.module.map.DeckGlobalKeyCommand;
@@ -79,11 +80,12 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.NoSuchElementException;
-import java.util.Objects;
 import java.util.Random;
+import java.util.zip.CRC32;
 
 /**
  * A collection of pieces that behaves like a deck, i.e.: Doesn't move.
@@ -138,6 +140,8 @@ public class Deck extends Stack implements PlayerRoster.SideChangeListener {
   protected int maxStack = 10;
   protected CountExpression[] countExpressions = new CountExpression[0];
   protected boolean expressionCounting = false;
+  private int[] expressionCounts = new int[0]; // Number of pieces matching each of the countExpressions
+  private boolean countingSuspended = false; // True while the whole contents are being replaced, to be counted afterwards
   protected List<GamePiece> nextDraw = null;
   protected KeyCommand[] commands;
   protected List<DeckGlobalKeyCommand> globalCommands = new ArrayList<>();
@@ -349,17 +353,24 @@ public class Deck extends Stack implements PlayerRoster.SideChangeListener {
   * to be counted.  These are held in the String[] countExpressions.
   */
   private void updateCountsAll() {
-    if (!doesExpressionCounting() || getMap() == null) {
+    if (!doesExpressionCounting() || getMap() == null || countingSuspended) {
       return;
     }
-    //Clear out all of the registered count expressions
+    //Count all of the pieces matching the expressions specified in this deck, then set each property just once
+    Arrays.fill(expressionCounts, 0);
+    for (int i = 0; i < pieceCount; ++i) {
+      final GamePiece p = contents[i];
+      if (p != null) {
+        for (int index = 0; index < countExpressions.length; index++) {
+          if (countExpressions[index].accept(p, this)) {
+            expressionCounts[index]++;
+          }
+        }
+      }
+    }
     for (int index = 0; index < countExpressions.length; index++) {
-      expressionProperties.get(index).setPropertyValue("0"); //$NON-NLS-1$
+      expressionProperties.get(index).setPropertyValue(String.valueOf(expressionCounts[index]));
     }
-    //Increase all of the pieces with expressions specified in this deck
-    asList().stream()
-            .filter(Objects::nonNull)
-            .forEach(p -> updateCounts(p, true));
   }
 
   /**
@@ -392,34 +403,14 @@ public class Deck extends Stack implements PlayerRoster.SideChangeListener {
    * @param increase if true, increase the count; if false, decrease.
    */
   private void updateCounts(GamePiece p, boolean increase) {
-    if (!doesExpressionCounting() || getMap() == null) {
+    if (!doesExpressionCounting() || getMap() == null || countingSuspended) {
       return;
     }
     //test all the expressions for this deck
     for (int index = 0; index < countExpressions.length; index++) {
-      final MutableProperty.Impl prop = expressionProperties.get(index);
-      final FormattedString formatted = new FormattedString(countExpressions[index].getExpression());
-      final String evaluated = formatted.getText(p, (Auditable) this, "Editor.DrawPile.count_express");
-      // If result is "true" then there was a beanshell expression and it evaluated to true. Otherwise try old-style.
-      // We also have to check explicitly against "false" because the PropertiesPieceFilter apparently accepts that as a match - old-style expressions are so cute
-      if ("true".equals(evaluated) || (!"false".equals(evaluated) && PropertiesPieceFilter.parse(evaluated).accept(p))) { //NON-NLS
-        final String mapProperty = prop.getPropertyValue();
-        if (mapProperty != null) {
-          int newValue;
-          try {
-            newValue = Integer.decode(mapProperty);
-          }
-          catch (NumberFormatException ignored) {
-            newValue = 0;
-          }
-          if (increase) {
-            newValue++;
-          }
-          else {
-            newValue--;
-          }
-          prop.setPropertyValue(String.valueOf(newValue));
-        }
+      if (countExpressions[index].accept(p, this)) {
+        expressionCounts[index] += increase ? 1 : -1;
+        expressionProperties.get(index).setPropertyValue(String.valueOf(expressionCounts[index]));
       }
     }
   }
@@ -876,6 +867,7 @@ public class Deck extends Stack implements PlayerRoster.SideChangeListener {
     }
 
     this.countExpressions = Arrays.copyOf(c, goodExpressionCount);
+    expressionCounts = new int[countExpressions.length];
     while (countExpressions.length > expressionProperties.size()) {
       expressionProperties.add(new MutableProperty.Impl("", this));
     }
@@ -1180,12 +1172,13 @@ public class Deck extends Stack implements PlayerRoster.SideChangeListener {
 
   /** Shuffle the contents of the Deck */
   public Command shuffle() {
-    final GamePiece[] a = new GamePiece[pieceCount];
-    System.arraycopy(contents, 0, a, 0, pieceCount);
-    final List<GamePiece> l = Arrays.asList(a);
+    final List<Integer> l = new ArrayList<>(pieceCount);
+    for (int i = 0; i < pieceCount; ++i) {
+      l.add(i);
+    }
     DragBuffer.getBuffer().clear();
     Collections.shuffle(l, gameModule.getRNG());
-    Command c = setContents(l);
+    Command c = reorder(l.stream().mapToInt(Integer::intValue).toArray());
     if (Map.isChangeReportingEnabled()) {
       c = c.append(reportCommand(shuffleMsgFormat, Resources.getString("Deck.shuffle"))); //$NON-NLS-1$
     }
@@ -1279,13 +1272,84 @@ public class Deck extends Stack implements PlayerRoster.SideChangeListener {
   /** Set the contents of this Deck to a Collection of GamePieces */
   public Command setContents(Collection<GamePiece> c) {
     final ChangeTracker track = new ChangeTracker(this);
-    removeAll();
-    for (final GamePiece child : c) {
-      insertChild(child, pieceCount);
+    // Count the new contents once they are all in place, rather than as each piece is removed and added
+    countingSuspended = true;
+    try {
+      removeAll();
+      for (final GamePiece child : c) {
+        insertChild(child, pieceCount);
+      }
     }
+    finally {
+      countingSuspended = false;
+    }
+    updateCountsAll();
     return track.getChangeCommand();
   }
 
+  /**
+   * Rearrange the contents of the Deck. Unlike {@link #setContents}, the Command returned identifies only the
+   * new order of the pieces already in the Deck, rather than the full contents of the Deck before and after.
+   * Clients older than 3.8 cannot decode that Command, so unless the module turns on
+   * {@link GlobalOptions#isCompactCommands()} the Deck is rearranged through {@link #setContents} instead.
+   *
+   * @param order For each position in the new order, the position in the current order of the piece to go there
+   * @return Command to rearrange the Deck in the same way
+   */
+  public Command reorder(int[] order) {
+    if (pieceCount < 2 || !isReordering(order)) {
+      return new NullCommand();
+    }
+    if (!GlobalOptions.getInstance().isCompactCommands()) {
+      final List<GamePiece> pieces = new ArrayList<>(pieceCount);
+      for (final int i : order) {
+        pieces.add(contents[i]);
+      }
+      return setContents(pieces);
+    }
+    final long oldChecksum = getOrderChecksum();
+    applyOrder(order);
+    return new ReorderCommand(getId(), order, oldChecksum, getOrderChecksum());
+  }
+
+  /**
+   * @return true if the given order is a rearrangement of the current contents of the Deck
+   */
+  private boolean isReordering(int[] order) {
+    if (order.length != pieceCount) {
+      return false;
+    }
+    final boolean[] seen = new boolean[pieceCount];
+    for (final int i : order) {
+      if (i < 0 || i >= pieceCount || seen[i]) {
+        return false;
+      }
+      seen[i] = true;
+    }
+    return true;
+  }
+
+  private void applyOrder(int[] order) {
+    final GamePiece[] current = Arrays.copyOf(contents, pieceCount);
+    for (int i = 0; i < pieceCount; ++i) {
+      contents[i] = current[order[i]];
+    }
+    contentsRearranged();
+  }
+
+  /**
+   * @return A checksum of the ids of the pieces in the Deck in their current order, so that a {@link ReorderCommand}
+   * can check it is rearranging the same pieces it was created for
+   */
+  private long getOrderChecksum() {
+    final CRC32 crc = new CRC32();
+    for (int i = 0; i < pieceCount; ++i) {
+      crc.update(String.valueOf(contents[i].getId()).getBytes(StandardCharsets.UTF_8));
+      crc.update(',');
+    }
+    return crc.getValue();
+  }
+
   @Override
   public String getState() {
     final SequenceEncoder se = new SequenceEncoder(';');
@@ -1356,11 +1420,11 @@ public class Deck extends Stack implements PlayerRoster.SideChangeListener {
 
   /** Reverse the order of the contents of the Deck */
   public Command reverse() {
-    final List<GamePiece> list = new ArrayList<>();
-    for (final Iterator<GamePiece> i = getPiecesReverseIterator(); i.hasNext(); ) {
-      list.add(i.next());
+    final int[] order = new int[pieceCount];
+    for (int i = 0; i < pieceCount; ++i) {
+      order[i] = pieceCount - 1 - i;
     }
-    Command c = setContents(list);
+    Command c = reorder(order);
     if (Map.isChangeReportingEnabled()) {
       c = c.append(reportCommand(reverseMsgFormat, Resources.getString("Deck.reverse")));
     }
@@ -2214,13 +2278,98 @@ public class Deck extends Stack implements PlayerRoster.SideChangeListener {
     }
   }
 
+  /**
+   * Rearranges the pieces in a Deck, for example when it is shuffled. The new order is given as the position
+   * in the old order of each piece, so the Command is much smaller than a {@link VASSAL.command.ChangePiece}
+   * giving the ids of every piece in the Deck before and after. It carries a checksum of the ids of the pieces
+   * in their old order, and does nothing if the Deck does not hold the same pieces in the same order.
+   */
+  public static class ReorderCommand extends Command {
+    private final String deckId;
+    private final int[] order;
+    private final long oldChecksum;
+    private long newChecksum;
+    private boolean newChecksumKnown;
+
+    /**
+     * @param deckId Id of the Deck
+     * @param order For each position in the new order, the position in the old order of the piece to go there
+     * @param oldChecksum Checksum of the pieces in the Deck in their old order
+     */
+    public ReorderCommand(String deckId, int[] order, long oldChecksum) {
+      this.deckId = deckId;
+      this.order = order;
+      this.oldChecksum = oldChecksum;
+    }
+
+    private ReorderCommand(String deckId, int[] order, long oldChecksum, long newChecksum) {
+      this(deckId, order, oldChecksum);
+      this.newChecksum = newChecksum;
+      newChecksumKnown = true;
+    }
+
+    @Override
+    protected void executeCommand() {
+      final GamePiece target = GameModule.getGameModule().getGameState().getPieceForId(deckId);
+      if (!(target instanceof Deck)) {
+        return;
+      }
+
+      final Deck deck = (Deck) target;
+      if (!deck.isReordering(order) || deck.getOrderChecksum() != oldChecksum) {
+        ErrorDialog.dataWarning(new BadDataReport("Deck contents do not match those being rearranged", deck.getDeckName())); //NON-NLS
+        return;
+      }
+
+      final BoundsTracker bounds = new BoundsTracker();
+      bounds.addPiece(deck);
+      deck.applyOrder(order);
+      newChecksum = deck.getOrderChecksum();
+      newChecksumKnown = true;
+      bounds.repaint();
+    }
+
+    @Override
+    protected Command myUndoCommand() {
+      if (!newChecksumKnown) {
+        return null;
+      }
+      final int[] inverse = new int[order.length];
+      for (int i = 0; i < order.length; ++i) {
+        inverse[order[i]] = i;
+      }
+      return new ReorderCommand(deckId, inverse, newChecksum, oldChecksum);
+    }
+
+    public String getDeckId() {
+      return deckId;
+    }
+
+    public int[] getOrder() {
+      return order;
+    }
+
+    public long getOldChecksum() {
+      return oldChecksum;
+    }
+
+    @Override
+    public String getDetails() {
+      return "deck=" + deckId + ",size=" + order.length; //NON-NLS
+    }
+  }
+
   /**
    * An object that parses expression strings from the config window
    */
   public static class CountExpression {
+    private static final int MAX_FILTERS = 64;
+
     private final String fullstring;
     private final String name;
     private final String expression;
+    private FormattedString format;
+    private final java.util.Map<String, PieceFilter> filters = new HashMap<>();
 
     public CountExpression(String expressionString) {
       final String[] split = expressionString.split("\\s*:\\s*", 2); //$NON-NLS-1$
@@ -2245,6 +2394,35 @@ public class Deck extends Stack implements PlayerRoster.SideChangeListener {
     public String getFullString() {
       return fullstring;
     }
+
+    /**
+     * Test whether a piece is counted by this expression. The expression is either a BeanShell expression, or an
+     * old-style expression (e.g. <code>type = infantry</code>), which may include <code>$property$</code> references
+     * to the piece's properties. The old-style filter parsed from each distinct expanded expression is kept, so
+     * that the expression is not parsed again for every piece counted.
+     *
+     * @param p Piece to test
+     * @param owner Deck counting the piece
+     * @return true if the piece is counted
+     */
+    public boolean accept(GamePiece p, Auditable owner) {
+      if (format == null) {
+        format = new FormattedString(expression);
+      }
+      final String evaluated = format.getText(p, owner, "Editor.DrawPile.count_express"); //NON-NLS
+      // If result is "true" then there was a beanshell expression and it evaluated to true. Otherwise try old-style.
+      // We also have to check explicitly against "false" because the PropertiesPieceFilter apparently accepts that as a match - old-style expressions are so cute
+      if ("true".equals(evaluated)) { //NON-NLS
+        return true;
+      }
+      if ("false".equals(evaluated)) { //NON-NLS
+        return false;
+      }
+      if (filters.size() >= MAX_FILTERS) {
+        filters.clear();
+      }
+      return filters.computeIfAbsent(evaluated, PropertiesPieceFilter::parse).accept(p);
+    }
   }
 
   /**
@@ -2301,14 +2479,16 @@ public class Deck extends Stack implements PlayerRoster.SideChangeListener {
       return c;
     }
 
-    // Create a mutable list containing all the pieces
-    final List<GamePiece> pieces = new ArrayList<>(Arrays.asList(contents).subList(0, pieceCount));
-
-    // Sort using the supplied SortParameters
-    Collections.sort(pieces, new SortParameterComparator(sortParameters));
+    // Sort the positions of the pieces using the supplied SortParameters
+    final SortParameterComparator comparator = new SortParameterComparator(sortParameters);
+    final Integer[] order = new Integer[pieceCount];
+    for (int i = 0; i < pieceCount; ++i) {
+      order[i] = i;
+    }
+    Arrays.sort(order, (a, b) -> comparator.compare(contents[a], contents[b]));
 
-    // Replace the contents of the Deck with the sorted List
-    c = c.append(setContents(pieces));
+    // Rearrange the contents of the Deck into the sorted order
+    c = c.append(reorder(Arrays.stream(order).mapToInt(Integer::intValue).toArray()));
 
     // Add the Chat message if reporting enabled
     if (Map.isChangeReportingEnabled() && ! reportFormat.getFormat().isEmpty()) {
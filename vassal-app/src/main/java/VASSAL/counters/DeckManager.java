@@ -47,16 +47,18 @@ public class DeckManager {
   public Command checkEmptyDecks(Command c) {
     final GameModule gm = GameModule.getGameModule();
     gm.pauseLogging();
+    try {
+      final List<Deck> decksEmpty = new ArrayList<>(deckEmptiedKeyQueue); // Defensively defensify
 
-    final List<Deck> decksEmpty = new ArrayList<>(deckEmptiedKeyQueue); // Defensively defensify
+      for (final Deck deck : decksEmpty) {
+        deck.sendEmptyKey();
+      }
 
-    for (final Deck deck : decksEmpty) {
-      deck.sendEmptyKey();
+      deckEmptiedKeyQueue.clear();
+    }
+    finally {
+      c = c.append(gm.resumeLogging());
     }
-
-    deckEmptiedKeyQueue.clear();
-
-    c = c.append(gm.resumeLogging());
     return c;
   }
 }
@@ -55,9 +55,11 @@ import java.awt.Point;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static VASSAL.counters.BasicPiece.BASIC_NAME;
 import static VASSAL.counters.BasicPiece.PIECE_NAME;
@@ -84,6 +86,70 @@ public abstract class Decorator extends AbstractImageFinder implements EditableP
   private Decorator dec;
   private boolean selected = false;
 
+  /** Largest number of property names remembered in a piece's dispatch table */
+  private static final int MAX_DISPATCH = 64;
+
+  private static final int PASSES_ALL = 0;
+  private static final int PASSES_UNOWNED = 1;
+  private static final int PASSES_NONE = 2;
+
+  /** How the getProperty of each trait class treats the properties it does not own */
+  private static final java.util.Map<Class<?>, Integer> propertyPassing = new ConcurrentHashMap<>();
+
+  /** The dispatch table of the piece this trait belongs to, shared by all its traits */
+  private PropertyDispatch dispatch;
+
+  /** Position of this trait in {@link #dispatch}, counting inwards from the outermost trait */
+  private int dispatchIndex;
+
+  /**
+   * For each property looked up on a piece, the first piece inside each of its traits which may answer it.
+   * Built on demand for the whole piece, and discarded when the piece's traits change.
+   */
+  private static final class PropertyDispatch {
+    private final Decorator[] traits;
+    private final GamePiece innermost;
+    private final java.util.Map<Object, GamePiece[]> next = new HashMap<>();
+    private boolean valid = true;
+
+    private PropertyDispatch(Decorator outermost) {
+      final List<Decorator> list = new ArrayList<>();
+      GamePiece p = outermost;
+      while (p instanceof Decorator) {
+        final Decorator d = (Decorator) p;
+        d.dispatch = this;
+        d.dispatchIndex = list.size();
+        list.add(d);
+        p = d.piece;
+      }
+      traits = list.toArray(new Decorator[0]);
+      innermost = p;
+    }
+
+    /**
+     * @param key Property name
+     * @return For each trait, counting inwards, the first piece inside it whose getProperty may answer the property
+     */
+    private GamePiece[] getNext(Object key) {
+      GamePiece[] n = next.get(key);
+      if (n == null) {
+        n = new GamePiece[traits.length];
+        GamePiece owner = innermost;
+        for (int i = traits.length - 1; i >= 0; --i) {
+          n[i] = owner;
+          if (!traits[i].passesProperty(key)) {
+            owner = traits[i];
+          }
+        }
+        if (next.size() >= MAX_DISPATCH) {
+          next.clear();
+        }
+        next.put(key, n);
+      }
+      return n;
+    }
+  }
+
   /** @param p Set the inner GamePiece -- usually the next Trait (Decorator) inward, or the BasicPiece itself. */
   public void setInner(GamePiece p) {
     piece = p;
@@ -92,6 +158,105 @@ public abstract class Decorator extends AbstractImageFinder implements EditableP
     }
 
     innermost = getInnermost(p);
+
+    // Both the piece we now belong to and the one p belonged to have changed
+    invalidatePropertyDispatch(this);
+    invalidatePropertyDispatch(p);
+  }
+
+  /**
+   * Discard a piece's record of which of its traits answer which properties. Called whenever traits are added
+   * to or removed from a piece, and must also be called when the type of an existing trait is changed in
+   * a way which changes its {@link #getOwnedPropertyNames}.
+   *
+   * @param p Any trait of the piece
+   */
+  public static void invalidatePropertyDispatch(GamePiece p) {
+    if (p instanceof Decorator) {
+      final PropertyDispatch d = ((Decorator) p).dispatch;
+      if (d != null) {
+        d.valid = false;
+      }
+    }
+  }
+
+  /**
+   * Return the names of the properties which this trait's {@link #getProperty} answers itself, rather than
+   * passing them inward by calling <code>super.getProperty</code> or <code>piece.getProperty</code>. Looking
+   * up any other property skips this trait entirely, going straight to the next trait inside it which may
+   * answer it, so that a lookup does not pass through every trait of a piece in turn.
+   *
+   * The names may depend only on the trait's type, not its state. The properties which every trait handles
+   * (e.g. {@link Properties#OUTER}) need not be included.
+   *
+   * Traits which do not override {@link #getProperty} never answer properties themselves. Those which do, but
+   * do not override this method, are assumed to be able to answer or alter any property.
+   *
+   * @return The names of the properties this trait answers, or null if it may answer or alter any property
+   */
+  protected Collection<String> getOwnedPropertyNames() {
+    return null;
+  }
+
+  /**
+   * @param key Property name
+   * @return true if this trait's getProperty would only pass the property inward
+   */
+  private boolean passesProperty(Object key) {
+    final int passing = propertyPassing.computeIfAbsent(getClass(), Decorator::findPropertyPassing);
+    if (passing == PASSES_ALL) {
+      return true;
+    }
+    if (passing == PASSES_NONE) {
+      return false;
+    }
+    final Collection<String> owned = getOwnedPropertyNames();
+    return owned != null && !owned.contains(key);
+  }
+
+  private static int findPropertyPassing(Class<?> c) {
+    final Class<?> getter;
+    try {
+      getter = c.getMethod("getProperty", Object.class).getDeclaringClass();
+    }
+    catch (NoSuchMethodException e) {
+      return PASSES_NONE;
+    }
+    if (getter == Decorator.class) {
+      return PASSES_ALL;
+    }
+
+    for (Class<?> k = c; k != Decorator.class; k = k.getSuperclass()) {
+      try {
+        k.getDeclaredMethod("getOwnedPropertyNames");
+        // Owned names declared above the class overriding getProperty may not include everything it answers
+        return getter.isAssignableFrom(k) ? PASSES_UNOWNED : PASSES_NONE;
+      }
+      catch (NoSuchMethodException e) {
+        // Keep looking
+      }
+    }
+    return PASSES_NONE;
+  }
+
+  /**
+   * @param key Property name
+   * @return The first piece inside this trait whose getProperty may answer the property
+   */
+  private GamePiece nextPropertyOwner(Object key) {
+    if (!(key instanceof String) || piece == null) {
+      return piece;
+    }
+
+    PropertyDispatch d = dispatch;
+    if (d == null || !d.valid) {
+      Decorator outer = this;
+      while (outer.dec != null) {
+        outer = outer.dec;
+      }
+      d = new PropertyDispatch(outer);
+    }
+    return d.getNext(key)[dispatchIndex];
   }
 
   /** @param m Each GamePiece belongs to a single {@link Map}. Default behavior for a trait is to pass the new map inward toward the BasicPiece. */
@@ -171,7 +336,7 @@ public abstract class Decorator extends AbstractImageFinder implements EditableP
       return getKeyCommands();
     }
     else if (Properties.VISIBLE_STATE.equals(key)) {
-      return myGetState() + piece.getProperty(key);
+      return myGetVisibleState() + piece.getProperty(key);
     }
     else if (Properties.SELECTED.equals(key)) {
       return selected;
@@ -180,7 +345,7 @@ public abstract class Decorator extends AbstractImageFinder implements EditableP
       return piece;
     }
     else {
-      return piece.getProperty(key);
+      return nextPropertyOwner(key).getProperty(key);
     }
   }
 
@@ -486,6 +651,19 @@ public abstract class Decorator extends AbstractImageFinder implements EditableP
    */
   public abstract String myGetState();
 
+  /**
+   * The "visible state" is the part of {@link #myGetState} which affects how the piece is drawn. Pieces of the same
+   * type whose visible states are equal share cached images, so traits whose state has no effect on the appearance
+   * of the piece may return an empty string. A trait whose state other traits can read as a property (and so draw,
+   * e.g. in a Text Label) must keep its state here.
+   *
+   * @return the state information of this trait alone which affects the appearance of the piece
+   * @see Properties#VISIBLE_STATE
+   */
+  protected String myGetVisibleState() {
+    return myGetState();
+  }
+
   /**
    * @return the state of a Trait/Decorator is a composition of {@link #myGetState} and the inner piece members' states
    *
@@ -58,6 +58,7 @@ import java.awt.event.InputEvent;
 import java.beans.PropertyChangeListener;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
@@ -154,6 +155,11 @@ public class DynamicProperty extends Decorator implements TranslatablePiece, Pro
     return super.getProperty(key);
   }
 
+  @Override
+  protected Collection<String> getOwnedPropertyNames() {
+    return Collections.singletonList(getKey());
+  }
+
   @Override
   public Object getLocalizedProperty(Object key) {
     if (key.equals(getKey())) {
@@ -858,6 +858,11 @@ public class Embellishment extends Decorator implements TranslatablePiece, Recur
     return super.getProperty(key);
   }
 
+  @Override
+  protected Collection<String> getOwnedPropertyNames() {
+    return List.of(name + IMAGE, name + NAME, name + LEVEL, name + ACTIVE);
+  }
+
   @Override
   public Object getLocalizedProperty(Object key) {
     if (key.equals(name + IMAGE) ||
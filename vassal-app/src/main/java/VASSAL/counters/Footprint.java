@@ -55,6 +55,8 @@ import java.awt.Stroke;
 import java.awt.image.BufferedImage;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
@@ -273,6 +275,11 @@ public class Footprint extends MovementMarkable {
     return super.getProperty(key);
   }
 
+  @Override
+  protected Collection<String> getOwnedPropertyNames() {
+    return Collections.singletonList(Properties.MOVED);
+  }
+
   /**
    * setMoved is called with an argument of true each time the piece is moved.
    * The argument is false when the unit is marked as not moved.
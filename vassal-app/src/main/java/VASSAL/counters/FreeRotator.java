@@ -67,6 +67,7 @@ import java.beans.PropertyChangeEvent;
 import java.beans.PropertyChangeListener;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Objects;
@@ -781,6 +782,11 @@ public class FreeRotator extends Decorator
     }
   }
 
+  @Override
+  protected Collection<String> getOwnedPropertyNames() {
+    return List.of(name + FACING, name + DEGREES);
+  }
+
   @Override
   public void mouseDragged(MouseEvent e) {
     if (SwingUtils.isMainMouseButtonDown(e) && !hasPieceMoved()) { // hasPieceMoved() protects from NPE if gone from map
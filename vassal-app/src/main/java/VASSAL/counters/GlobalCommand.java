@@ -37,6 +37,8 @@ import VASSAL.script.expression.FormattedStringExpression;
 import VASSAL.tools.ErrorDialog;
 import VASSAL.tools.FormattedString;
 import VASSAL.tools.NamedKeyStroke;
+import VASSAL.tools.NotificationBatch;
+import VASSAL.tools.Profiler;
 import VASSAL.tools.RecursionLimitException;
 import VASSAL.tools.RecursionLimiter;
 import VASSAL.tools.RecursionLimiter.Loopable;
@@ -276,11 +278,13 @@ public class GlobalCommand implements Auditable {
    * @return the corresponding {@link Command} that would reproduce all the things this GKC just did, on another client.
    */
   public Command apply(Map[] maps, PieceFilter filter, GlobalCommandTarget fastMatch, AuditTrail audit) {
+    final long start = Profiler.start();
     Command command = new NullCommand(); // We will chronicle our exploits in this command, so that others may repeat them later.
     setTarget((fastMatch != null) ? fastMatch : new GlobalCommandTarget()); // Set our Fast Match parameters
 
     // WARNING! DeckGlobalKeyCommand does *not* use this version of apply.
 
+    NotificationBatch.begin(); // Repaint once for all the pieces we change, rather than for each one
     try {
       if (reportSingle) {
         Map.setChangeReportingEnabled(false); // Disable individual reports, if specified
@@ -858,6 +862,10 @@ public class GlobalCommand implements Auditable {
       // single piece affected by this command. This command can be sent to other clients involved in the same
       // game to replicate all the stuff we just did.
       command = visitor.getCommand();
+
+      if (start != 0) {
+        Profiler.record(Profiler.Category.GLOBAL_COMMAND, getComponentName(), start);
+      }
     }
     catch (RecursionLimitException e) {
       // It is very easy to construct a set of GKC commands that fire each other off infinitely. This catches those.
@@ -871,6 +879,7 @@ public class GlobalCommand implements Auditable {
       if (suppressSounds) {
         GameModule.getGameModule().setSuppressSounds(false);
       }
+      NotificationBatch.end();
     }
 
     return command; // Here, eat this tasty command!
@@ -21,6 +21,7 @@ import VASSAL.command.Command;
 import VASSAL.i18n.Resources;
 import VASSAL.script.expression.AuditTrail;
 import VASSAL.script.expression.Auditable;
+import VASSAL.tools.Profiler;
 
 import javax.swing.KeyStroke;
 import java.util.HashSet;
@@ -151,7 +152,13 @@ public class GlobalCommandVisitor implements DeckVisitor {
       audit.addMessage(Resources.getString("Audit.gkc_applied_to", p.getComponentName()));
     }
 
-    if (filter == null || filter.accept(p, owner, audit)) {
+    final long start = Profiler.start();
+    final boolean accepted = filter == null || filter.accept(p, owner, audit);
+    if (start != 0) {
+      Profiler.record(Profiler.Category.FILTER, owner == null ? null : owner.getComponentTypeName(), start, accepted ? 1 : 0);
+    }
+
+    if (accepted) {
       if (visitingDeck) {
         p.setProperty(Properties.OBSCURED_BY, p.getProperty(Properties.OBSCURED_BY_PRE_DRAW));  // Bug 13433 restore correct OBSCURED_BY after checking filter
       }
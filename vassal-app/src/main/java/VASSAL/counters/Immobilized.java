@@ -33,6 +33,7 @@ import java.awt.Rectangle;
 import java.awt.Shape;
 import java.awt.event.InputEvent;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 
@@ -320,6 +321,12 @@ public class Immobilized extends Decorator implements EditablePiece {
     }
   }
 
+  @Override
+  protected Collection<String> getOwnedPropertyNames() {
+    return List.of(Properties.NO_STACK, Properties.TERRAIN, Properties.IGNORE_GRID, BASE_IGNORE_GRID,
+      Properties.SELECT_EVENT_FILTER, Properties.MOVE_EVENT_FILTER, Properties.NON_MOVABLE, Properties.BAND_SELECT_EVENT_FILTER);
+  }
+
   @Override
   public void draw(Graphics g, int x, int y, Component obs, double zoom) {
     piece.draw(g, x, y, obs, zoom);
@@ -200,6 +200,11 @@ public class Labeler extends Decorator implements TranslatablePiece, Loopable {
     }
   }
 
+  @Override
+  protected Collection<String> getOwnedPropertyNames() {
+    return Collections.singletonList(propertyName);
+  }
+
   @Override
   public String myGetType() {
     final SequenceEncoder se = new SequenceEncoder(';');
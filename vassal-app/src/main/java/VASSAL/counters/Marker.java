@@ -24,6 +24,7 @@ import java.awt.Rectangle;
 import java.awt.Shape;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 
@@ -102,6 +103,11 @@ public class Marker extends Decorator implements EditablePiece {
     return super.getProperty(key);
   }
 
+  @Override
+  protected Collection<String> getOwnedPropertyNames() {
+    return Arrays.asList(keys);
+  }
+
   @Override
   public Object getLocalizedProperty(Object key) {
     for (int i = 0; i < keys.length; ++i) {
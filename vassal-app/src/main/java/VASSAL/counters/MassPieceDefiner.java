@@ -179,6 +179,7 @@ public class MassPieceDefiner extends PieceDefiner {
       final PieceEditor template = ((EditablePiece) o).getEditor();
       final EditablePiece myPiece = (EditablePiece) this.inUseModel.elementAt(index);
       myPiece.mySetType(template.getType());
+      Decorator.invalidatePropertyDispatch(myPiece);
       if (myPiece instanceof Decorator) {
         ((Decorator) myPiece).mySetState(template.getState());
       }
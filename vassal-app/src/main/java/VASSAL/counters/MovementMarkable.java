@@ -46,6 +46,7 @@ import java.awt.Shape;
 import java.awt.geom.AffineTransform;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Objects;
@@ -275,6 +276,11 @@ public class MovementMarkable extends Decorator implements TranslatablePiece {
     }
   }
 
+  @Override
+  protected Collection<String> getOwnedPropertyNames() {
+    return Collections.singletonList(Properties.MOVED);
+  }
+
   @Override
   public void setProperty(Object key, Object val) {
     if (Properties.MOVED.equals(key)) {
@@ -1151,6 +1151,7 @@ public class PieceDefiner extends JPanel {
       final PieceEditor c = ed.getEditor();
       if (c != null) {
         p.mySetType(c.getType());
+        Decorator.invalidatePropertyDispatch(p);
         if (p instanceof Decorator) {
           ((Decorator) p).mySetState(c.getState());
         }
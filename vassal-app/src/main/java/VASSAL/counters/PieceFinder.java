@@ -20,6 +20,7 @@ package VASSAL.counters;
 import java.awt.Point;
 import java.awt.Shape;
 import java.util.Iterator;
+import java.util.Set;
 
 import VASSAL.build.module.Map;
 
@@ -31,6 +32,15 @@ public interface PieceFinder {
   /** Return the argument GamePiece (or one of its children if a Stack) found at the given point on the given Map */
   GamePiece select(Map map, GamePiece piece, Point pt);
 
+  /**
+   * @return true if {@link #select} can only return a piece whose bounding box contains the given point,
+   * allowing the Map to skip pieces nowhere near it. Finders that snap, or otherwise search beyond the point
+   * itself, must leave this false.
+   */
+  default boolean selectsOnlyPiecesAtPoint() {
+    return false;
+  }
+
   /** Return a Stack overlapping the given point */
   PieceFinder STACK_ONLY = new StackOnly();
 
@@ -115,6 +125,11 @@ public interface PieceFinder {
   }
 
   class Movable implements PieceFinder, DeckVisitor {
+    /** Finders known to only test piece shapes against the point. Subclasses may select by other criteria */
+    private static final Set<Class<?>> POINT_FINDERS = Set.of(
+      Movable.class, StackOnly.class, PieceInStack.class, DeckOrPieceInStack.class, MatOnly.class
+    );
+
     protected Shape[] shapes = new Shape[0];
     protected Map map;
     protected Point pt;
@@ -173,6 +188,11 @@ public interface PieceFinder {
       return selected;
     }
 
+    @Override
+    public boolean selectsOnlyPiecesAtPoint() {
+      return POINT_FINDERS.contains(getClass());
+    }
+
     @Override
     public GamePiece select(Map map, GamePiece piece, Point pt) {
       this.map = map;
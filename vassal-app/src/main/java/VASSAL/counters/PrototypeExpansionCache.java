@@ -0,0 +1,168 @@
+/*
+ *
+ * Copyright (c) 2026 by The VASSAL Development Team
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License (LGPL) as published by the Free Software Foundation.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, copies are available
+ * at http://www.opensource.org.
+ */
+package VASSAL.counters;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import VASSAL.tools.ReflectionUtils;
+
+/**
+ * A module-wide cache of fully expanded {@link VASSAL.build.module.PrototypeDefinition}s, shared by every
+ * {@link UsePrototype} trait, so that each distinct prototype is decoded and expanded only once rather than
+ * once for every piece that uses it.
+ *
+ * Expansions are keyed by prototype name and by the prototype's definition after any parameters have been
+ * substituted. Expanding a prototype also expands any prototypes nested within it, so the whole cache must be
+ * cleared whenever any prototype definition changes; {@link VASSAL.build.module.PrototypesContainer#resetCache}
+ * does this.
+ */
+public class PrototypeExpansionCache {
+
+  private static final java.util.Map<String, Expansion> expansions = new ConcurrentHashMap<>();
+
+  private PrototypeExpansionCache() {
+  }
+
+  /**
+   * Make the key under which a prototype's expansion is cached. Callers should keep the key for as long as the
+   * definition is unchanged, rather than make it again for every lookup.
+   *
+   * @param name Name of the prototype
+   * @param definition Definition of the prototype, with parameters substituted
+   * @return Key for {@link #get}
+   */
+  static String key(String name, String definition) {
+    return name + '\0' + definition;
+  }
+
+  /**
+   * Return the cached expansion of a prototype, expanding it first if need be. Expanding a prototype may
+   * itself look up nested prototypes in the cache.
+   *
+   * @param key Key of the prototype, from {@link #key}
+   * @param expand Supplies the prototype's piece, with nested prototypes not yet expanded
+   * @return Expansion of the prototype, or null if the prototype could not be built
+   */
+  static Expansion get(String key, Supplier<GamePiece> expand) {
+    Expansion e = expansions.get(key);
+    if (e == null) {
+      final GamePiece p = expand.get();
+      if (p == null) {
+        return null;
+      }
+      e = new Expansion(p);
+      final Expansion prev = expansions.putIfAbsent(key, e);
+      if (prev != null) {
+        e = prev;
+      }
+    }
+    return e;
+  }
+
+  /**
+   * Discard all cached expansions
+   */
+  public static void clear() {
+    expansions.clear();
+  }
+
+  /**
+   * @return Number of expansions currently cached
+   */
+  public static int size() {
+    return expansions.size();
+  }
+
+  /**
+   * The traits of a fully expanded prototype, from which new instances of the prototype can be made without
+   * decoding or expanding it again
+   */
+  static class Expansion {
+    private final String type;
+    private final List<Class<? extends Decorator>> classes = new ArrayList<>();
+    private final List<String> types = new ArrayList<>();
+    private final List<String> states = new ArrayList<>();
+
+    /** Expanded prototype, only kept when it contains traits that cannot be recreated from their type alone */
+    private GamePiece template;
+
+    Expansion(GamePiece p) {
+      type = p.getType().intern();
+
+      final GamePiece expanded = PieceCloner.getInstance().clonePiece(p);
+      for (GamePiece g = expanded; g instanceof Decorator; g = ((Decorator) g).getInner()) {
+        if (!(g instanceof EditablePiece)) {
+          template = expanded;
+          break;
+        }
+        classes.add(((Decorator) g).getClass());
+        types.add(((Decorator) g).myGetType());
+        states.add(((Decorator) g).myGetState());
+      }
+    }
+
+    /**
+     * @return Type of the prototype's piece, before nested prototypes were expanded
+     */
+    String getType() {
+      return type;
+    }
+
+    /**
+     * Create a new instance of the expanded prototype
+     *
+     * @param inner Piece to become the inner piece of the innermost trait of the prototype
+     * @return Outermost trait of the new instance, or null if the prototype has no traits
+     */
+    GamePiece instantiate(GamePiece inner) {
+      if (template != null) {
+        final GamePiece g = PieceCloner.getInstance().clonePiece(template);
+        final Decorator outer = (Decorator) Decorator.getInnermost(g).getProperty(Properties.OUTER);
+        if (outer == null) {
+          return null;
+        }
+        outer.setInner(inner);
+        return g;
+      }
+
+      if (classes.isEmpty()) {
+        return null;
+      }
+
+      GamePiece g = inner;
+      for (int i = classes.size() - 1; i >= 0; --i) {
+        final Decorator d;
+        try {
+          d = classes.get(i).getConstructor().newInstance();
+        }
+        catch (Throwable t) {
+          ReflectionUtils.handleNewInstanceFailure(t, classes.get(i));
+          return null;
+        }
+        d.setInner(g);
+        ((EditablePiece) d).mySetType(types.get(i));
+        d.mySetState(states.get(i));
+        g = d;
+      }
+      return g;
+    }
+  }
+}
@@ -107,6 +107,11 @@ public class ReportState extends Decorator implements TranslatablePiece {
     return Integer.toString(cycleIndex);
   }
 
+  @Override
+  protected String myGetVisibleState() {
+    return "";
+  }
+
   @Override
   public String myGetType() {
     final SequenceEncoder se = new SequenceEncoder(';');
@@ -35,6 +35,7 @@ import java.awt.Graphics;
 import java.awt.Rectangle;
 import java.awt.Shape;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 
@@ -194,6 +195,11 @@ public class Restricted extends Decorator implements EditablePiece {
     }
   }
 
+  @Override
+  protected Collection<String> getOwnedPropertyNames() {
+    return List.of(Properties.RESTRICTED, Properties.RESTRICTED_MOVEMENT);
+  }
+
   @Override
   public String myGetState() {
     return owningPlayer;
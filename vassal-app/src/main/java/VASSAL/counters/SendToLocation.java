@@ -244,6 +244,11 @@ public class SendToLocation extends Decorator implements TranslatablePiece {
     return se.getValue();
   }
 
+  @Override
+  protected String myGetVisibleState() {
+    return "";
+  }
+
   public static class Destination {
     public Map map;
     public Point point;
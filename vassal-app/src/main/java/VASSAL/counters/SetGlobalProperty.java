@@ -44,6 +44,8 @@ import java.awt.Component;
 import java.beans.PropertyChangeSupport;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 
@@ -151,6 +153,11 @@ public class SetGlobalProperty extends DynamicProperty {
     }
   }
 
+  @Override
+  protected Collection<String> getOwnedPropertyNames() {
+    return Collections.emptyList();
+  }
+
   @Override
   public Object getLocalizedProperty(Object key) {
     if (Properties.KEY_COMMANDS.equals(key)) {
@@ -56,6 +56,7 @@ import java.beans.PropertyChangeListener;
 import java.beans.PropertyChangeSupport;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
@@ -199,6 +200,11 @@ public class SetPieceProperty extends DynamicProperty implements RecursionLimite
     }
   }
 
+  @Override
+  protected Collection<String> getOwnedPropertyNames() {
+    return Collections.emptyList();
+  }
+
   @Override
   public Object getLocalizedProperty(Object key) {
     if (Properties.KEY_COMMANDS.equals(key)) {
@@ -27,6 +27,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Enumeration;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
 
@@ -68,6 +69,7 @@ public class Stack extends AbstractImageFinder implements GamePiece, StateMergea
   public static final String HAS_LAYER_MARKER = "@@"; // Horrific encoding hack necessitated by equally horrific legacy encoder
   public static final int LAYER_NOT_SET = -1; // Brand new stacks with no pieces do not yet know their visual layer
   protected static final int INCR = 5;
+  private static final int MIN_INDEXED = 16; // Stacks smaller than this are simply searched by indexOf
 
   protected GamePiece[] contents = new GamePiece[INCR]; // array of GamePieces contained by the stack
   protected int pieceCount = 0;        // Number of pieces currently in the stack
@@ -76,6 +78,7 @@ public class Stack extends AbstractImageFinder implements GamePiece, StateMergea
   protected Point pos = new Point(0, 0); // X/Y position of the stack on its map. All pieces in a stack always share the same X/Y position
   protected int layer = LAYER_NOT_SET; // Visual layer for this stack. Once the first piece is added, it is bound permanently.
   private boolean expanded = false;    // Is stack currently visually expanded by the player (for easier viewing, and/or to drag individual pieces)
+  private IdentityHashMap<GamePiece, Integer> positions; // Index of each piece in contents for indexOf, checked against contents before use
 
   private String id;
 
@@ -171,11 +174,18 @@ public class Stack extends AbstractImageFinder implements GamePiece, StateMergea
    */
   protected void removePieceAt(int index, boolean suppressDeckCounts) {
     if (index >= 0 && index < pieceCount) {
+      if (positions != null) {
+        positions.remove(contents[index]);
+      }
       pieceCount--;
       for (int i = index; i < pieceCount; ++i) {
         contents[i] = contents[i + 1];
+        if (positions != null) {
+          positions.put(contents[i], i);
+        }
       }
       expanded = expanded && pieceCount > 1;
+      boundsChanged();
     }
   }
 
@@ -221,10 +231,27 @@ public class Stack extends AbstractImageFinder implements GamePiece, StateMergea
 
     for (int i = pieceCount; i > index; --i) {
       contents[i] = contents[i - 1];
+      if (positions != null) {
+        positions.put(contents[i], i);
+      }
     }
 
     contents[index] = p;
     pieceCount++;
+    if (positions != null) {
+      positions.put(p, index);
+    }
+    boundsChanged();
+  }
+
+  /**
+   * Have our Map look up our bounds again, as they change with the pieces in the Stack and whether it is expanded
+   */
+  private void boundsChanged() {
+    final Map m = getMap();
+    if (m != null) {
+      m.pieceBoundsChanged(this);
+    }
   }
 
 
@@ -234,22 +261,52 @@ public class Stack extends AbstractImageFinder implements GamePiece, StateMergea
   public void removeAll() {
     pieceCount = 0;
     expanded = false;
+    positions = null;
+    boundsChanged();
   }
 
   /**
-   * Finds the index of a piece in the stack
+   * Finds the index of a piece in the stack. In larger stacks the index of each piece is kept up to date as pieces are
+   * inserted and removed, so that finding a piece (e.g. for its StackPos or DeckPosition property) does not require
+   * searching the stack. The index found is always checked against the contents, so subclasses which rearrange the
+   * contents directly are still answered correctly, though they should call {@link #contentsRearranged} to avoid
+   * a search.
+   *
    * @param p Piece to locate
    * @return The index of the piece, or -1 if it is not present in the stack
    */
   public int indexOf(GamePiece p) {
+    if (pieceCount >= MIN_INDEXED) {
+      if (positions == null) {
+        positions = new IdentityHashMap<>(pieceCount * 2);
+        for (int i = 0; i < pieceCount; ++i) {
+          positions.put(contents[i], i);
+        }
+      }
+      final Integer i = positions.get(p);
+      if (i != null && i < pieceCount && contents[i] == p) {
+        return i;
+      }
+    }
+
     for (int i = 0; i < pieceCount; ++i) {
       if (p == contents[i]) {
+        // The index is out of date, so build it again next time
+        positions = null;
         return i;
       }
     }
     return -1;
   }
 
+  /**
+   * To be called by subclasses which rearrange the {@link #contents} array directly, rather than by inserting and
+   * removing pieces, so that the index of each piece is found again.
+   */
+  protected void contentsRearranged() {
+    positions = null;
+  }
+
   /**
    * @param index Index in the stack
    * @return the piece at the specified index
@@ -460,14 +517,10 @@ public class Stack extends AbstractImageFinder implements GamePiece, StateMergea
    */
   public void selectNext(GamePiece c) {
     KeyBuffer.getBuffer().remove(c);
-    if (pieceCount > 1 && indexOf(c) >= 0) {
-      final int newSelectedIndex = indexOf(c) == pieceCount - 1 ? pieceCount - 2 : indexOf(c) + 1;
-      for (int i = 0; i < pieceCount; ++i) {
-        if (indexOf(contents[i]) == newSelectedIndex) {
-          KeyBuffer.getBuffer().add(contents[i]);
-          return;
-        }
-      }
+    final int index = indexOf(c);
+    if (pieceCount > 1 && index >= 0) {
+      final int newSelectedIndex = index == pieceCount - 1 ? pieceCount - 2 : index + 1;
+      KeyBuffer.getBuffer().add(contents[newSelectedIndex]);
     }
   }
 
@@ -595,7 +648,11 @@ public class Stack extends AbstractImageFinder implements GamePiece, StateMergea
    * @param b true if stack should be expanded, false if not
    */
   public void setExpanded(boolean b) {
+    final boolean wasExpanded = expanded;
     expanded = b && getPieceCount() > 1;
+    if (expanded != wasExpanded) {
+      boundsChanged();
+    }
   }
 
   /**
@@ -629,6 +686,7 @@ public class Stack extends AbstractImageFinder implements GamePiece, StateMergea
       setPosition(new Point(st.nextInt(0), st.nextInt(0)));
     }
     pieceCount = 0;
+    positions = null;
 
     Map m = null;
     if (!"null".equals(mapId)) { //$NON-NLS-1$//
@@ -799,6 +857,7 @@ public class Stack extends AbstractImageFinder implements GamePiece, StateMergea
   @Override
   public void setPosition(Point p) {
     pos = p;
+    boundsChanged();
   }
 
   /**
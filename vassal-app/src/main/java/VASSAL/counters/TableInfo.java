@@ -131,6 +131,11 @@ public class TableInfo extends Decorator implements TranslatablePiece {
     }
   }
 
+  @Override
+  protected String myGetVisibleState() {
+    return "";
+  }
+
   @Override
   public void mySetState(String state) {
     if (table == null) {
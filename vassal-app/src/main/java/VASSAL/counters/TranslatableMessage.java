@@ -30,6 +30,8 @@ import java.awt.Component;
 import java.awt.Graphics;
 import java.awt.Rectangle;
 import java.awt.Shape;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -92,6 +94,11 @@ public class TranslatableMessage extends Decorator implements TranslatablePiece
     return super.getProperty(key);
   }
 
+  @Override
+  protected Collection<String> getOwnedPropertyNames() {
+    return Collections.singletonList(key);
+  }
+
   @Override
   public Object getLocalizedProperty(Object key) {
     if (this.key.equals(key)) {
@@ -51,6 +51,7 @@ import java.awt.event.InputEvent;
 import java.beans.PropertyChangeListener;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
@@ -311,6 +312,11 @@ public class TriggerAction extends Decorator implements TranslatablePiece,
     return super.getProperty(key);
   }
 
+  @Override
+  protected Collection<String> getOwnedPropertyNames() {
+    return isIndex() ? Collections.singletonList(indexProperty) : Collections.emptyList();
+  }
+
   @Override
   public Object getLocalizedProperty(Object key) {
     if (isIndex() && indexProperty.equals(key)) {
@@ -67,6 +67,8 @@ public class UsePrototype extends Decorator implements EditablePiece, Loopable {
   public static final String ID = "prototype;"; // NON-NLS
   private String prototypeName;
   private String lastCachedPrototype;
+  private String lastDefinition; // Prototype definition for which the cache key was made
+  private String lastCacheKey;
   private GamePiece prototype;
   private PropertySource properties;
   private String type;
@@ -126,6 +128,8 @@ public class UsePrototype extends Decorator implements EditablePiece, Loopable {
       };
     }
     lastCachedPrototype = null;
+    lastDefinition = null;
+    lastCacheKey = null;
   }
 
   @Override
@@ -151,23 +155,25 @@ public class UsePrototype extends Decorator implements EditablePiece, Loopable {
       try {
         RecursionLimiter.startExecution(this);
 
-        final GamePiece expandedPrototype = def.getPiece(properties);
-
+        final String definition = def.getPieceDefinition(properties);
+        if (lastCacheKey == null || !Objects.equals(definition, lastDefinition)) {
+          lastDefinition = definition;
+          lastCacheKey = PrototypeExpansionCache.key(prototypeName, definition);
+        }
+        final PrototypeExpansionCache.Expansion expansion =
+          PrototypeExpansionCache.get(lastCacheKey, () -> def.getPiece(properties));
+        if (expansion == null) {
+          prototype = null;
+          lastCachedPrototype = null;
+        }
         // Check to see if prototype definition has changed
-        final String type = expandedPrototype.getType();
-        if (!type.equals(lastCachedPrototype)) {
-          lastCachedPrototype = type.intern();
-
-          prototype = PieceCloner.getInstance().clonePiece(expandedPrototype);
-          final Decorator outer = (Decorator)
-            getInnermost(prototype).getProperty(Properties.OUTER);
-          if (outer != null) { // Will be null for an empty prototype
-            outer.setInner(piece);
+        else if (!expansion.getType().equals(lastCachedPrototype)) {
+          lastCachedPrototype = expansion.getType();
+
+          prototype = expansion.instantiate(piece);
+          if (prototype != null) { // Will be null for an empty prototype
             prototype.setProperty(Properties.OUTER, this);
           }
-          else {
-            prototype = null;
-          }
         }
       }
       catch (RecursionLimitException e) {
@@ -0,0 +1,225 @@
+/*
+ *
+ * Copyright (c) 2026 by The VASSAL Development Team
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License (LGPL) as published by the Free Software Foundation.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, copies are available
+ * at http://www.opensource.org.
+ */
+package VASSAL.launch;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import VASSAL.Info;
+import VASSAL.build.GameModule;
+import VASSAL.build.module.GameRefresher;
+import VASSAL.build.module.GameState;
+import VASSAL.i18n.Localization;
+import VASSAL.tools.io.ZipArchive;
+
+/**
+ * Refreshes every saved game in a directory against the current version of a module, without user interaction.
+ *
+ * The module is loaded once, and a single {@link GameRefresher} (and so a single index of the module's
+ * PieceSlots) is used for every saved game, so the cost of starting up is paid only once however many
+ * saves are refreshed. Each save is loaded, refreshed and saved in turn, in the same way as a Predefined
+ * Setup is refreshed in the Editor, and the time taken and any warnings are reported for each.
+ *
+ * No window or dialog is shown, but a display is still required as the module builds its Swing components.
+ *
+ * <pre>
+ * Usage: BatchRefresher [--test] [--options=OPTION,...] module saves-directory output-directory
+ * </pre>
+ *
+ * Only saved games are refreshed. The Predefined Setups inside the module are not, as they can only be
+ * written back to the module by the Editor, so are still refreshed there.
+ *
+ * The options are those of {@link GameRefresher}, e.g. {@link GameRefresher#REFRESH_PIECES}. If none are
+ * given, pieces are refreshed matching by name. With <code>--test</code> nothing is written. The output
+ * directory may be the same as the saves directory, in which case the saves are replaced.
+ */
+public class BatchRefresher extends Player {
+  private static final Logger logger = LoggerFactory.getLogger(BatchRefresher.class);
+
+  private static final String SAVE_EXTENSION = ".vsav"; //NON-NLS
+
+  // The Launcher runs launch() from within its constructor, so the arguments are kept statically
+  private static final Set<String> options = new HashSet<>();
+  private static File saveDir;
+  private static File outputDir;
+  private static int exitStatus = 0;
+
+  public static void main(String[] args) throws IOException {
+    Info.setConfig(new StandardConfig());
+    new BatchRefresher(parseArgs(args));
+    System.exit(exitStatus);
+  }
+
+  protected BatchRefresher(String[] args) {
+    super(args);
+  }
+
+  /**
+   * Parse our own arguments, returning those which the {@link LaunchRequest} should see
+   */
+  private static String[] parseArgs(String[] args) {
+    final List<String> files = new ArrayList<>();
+    for (final String arg : args) {
+      if ("--test".equals(arg)) { //NON-NLS
+        options.add(GameRefresher.TEST_MODE);
+      }
+      else if (arg.startsWith("--options=")) { //NON-NLS
+        options.addAll(Arrays.asList(arg.substring("--options=".length()).split(","))); //NON-NLS
+      }
+      else {
+        files.add(arg);
+      }
+    }
+
+    if (files.size() != 3) {
+      System.err.println("Usage: BatchRefresher [--test] [--options=OPTION,...] module saves-directory output-directory"); //NON-NLS
+      System.exit(1);
+    }
+
+    saveDir = new File(files.get(1));
+    outputDir = new File(files.get(2));
+    if (!saveDir.isDirectory()) {
+      System.err.println("Not a directory: " + saveDir); //NON-NLS
+      System.exit(1);
+    }
+
+    if (options.isEmpty() || options.equals(Set.of(GameRefresher.TEST_MODE))) {
+      options.add(GameRefresher.REFRESH_PIECES);
+      options.add(GameRefresher.USE_NAME);
+    }
+    options.add(GameRefresher.SUPPRESS_INFO_REPORTS);
+
+    return new String[] { "--load", files.get(0) }; //NON-NLS
+  }
+
+  @Override
+  protected void launch() throws IOException {
+    final long startTime = System.currentTimeMillis();
+
+    GameModule.init(createModule(createDataArchive()));
+    createExtensionsLoader().addTo(GameModule.getGameModule());
+    Localization.getInstance().translate();
+
+    final GameModule mod = GameModule.getGameModule();
+    report("Loaded %s %s in %d ms", mod.getGameName(), mod.getGameVersion(), System.currentTimeMillis() - startTime); //NON-NLS
+
+    final File[] saves = saveDir.listFiles((dir, name) -> name.toLowerCase().endsWith(SAVE_EXTENSION));
+    if (saves == null || saves.length == 0) {
+      report("No saved games found in %s", saveDir); //NON-NLS
+      return;
+    }
+    Arrays.sort(saves);
+
+    if (!options.contains(GameRefresher.TEST_MODE)) {
+      Files.createDirectories(outputDir.toPath());
+    }
+
+    // One refresher for every save, so that the module's pieces are only indexed once
+    final GameRefresher refresher = new GameRefresher(mod);
+    refresher.setLogListener(message -> System.out.println("  " + message)); //NON-NLS
+
+    // A module with GpId errors can't be refreshed at all, so don't save any of the games unchanged
+    if (!refresher.checkGpIds(options)) {
+      report("Refreshed 0 of %d saved games (%d failed): the module has GpId errors", saves.length, saves.length); //NON-NLS
+      exitStatus = 2;
+      return;
+    }
+
+    int refreshed = 0;
+    int warned = 0;
+    int failed = 0;
+    for (final File save : saves) {
+      final long fileStart = System.currentTimeMillis();
+      report("%s", save.getName()); //NON-NLS
+      try {
+        final int warnings = refresh(mod, refresher, save);
+        report("  %d ms, %d warnings", System.currentTimeMillis() - fileStart, warnings); //NON-NLS
+        ++refreshed;
+        if (warnings > 0) {
+          ++warned;
+        }
+      }
+      catch (IOException | RuntimeException e) {
+        // One bad save shouldn't stop the rest being refreshed
+        logger.error("Unable to refresh {}", save, e); //NON-NLS
+        report("  FAILED after %d ms: %s", System.currentTimeMillis() - fileStart, e.getMessage()); //NON-NLS
+        ++failed;
+      }
+    }
+
+    report("Refreshed %d of %d saved games (%d with warnings, %d failed) in %d ms", //NON-NLS
+      refreshed, saves.length, warned, failed, System.currentTimeMillis() - startTime);
+    exitStatus = failed > 0 ? 2 : 0;
+  }
+
+  /**
+   * Load, refresh and save a single saved game
+   *
+   * @return Number of warnings reported by the refresher
+   */
+  private int refresh(GameModule mod, GameRefresher refresher, File save) throws IOException {
+    final GameState gs = mod.getGameState();
+    gs.setup(false);  // Clear out anything left from the last save
+    mod.setRefreshingSemaphore(true);
+    try {
+      gs.setupRefresh();
+      try (InputStream in = new BufferedInputStream(Files.newInputStream(save.toPath()))) {
+        gs.loadGameInForeground(save.getName(), in);
+      }
+      gs.getAttachmentManager().resolvePendingAttachments();
+
+      refresher.execute(options, null);
+
+      if (!options.contains(GameRefresher.TEST_MODE)) {
+        final File tmpFile = File.createTempFile("vassal", null); //NON-NLS
+        try {
+          gs.saveGameRefresh(new ZipArchive(tmpFile));
+          Files.move(tmpFile.toPath(), new File(outputDir, save.getName()).toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+        finally {
+          Files.deleteIfExists(tmpFile.toPath());
+        }
+      }
+      gs.updateDone();
+      gs.closeGame();
+    }
+    finally {
+      mod.setRefreshingSemaphore(false);
+    }
+
+    return refresher.warnings();
+  }
+
+  private static void report(String format, Object... args) {
+    final String message = String.format(format, args);
+    System.out.println(message);
+    logger.info(message);
+  }
+}
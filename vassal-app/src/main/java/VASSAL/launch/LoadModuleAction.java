@@ -25,6 +25,7 @@ import java.io.IOException;
 import VASSAL.build.GameModule;
 import VASSAL.build.module.ExtensionsLoader;
 import VASSAL.build.module.WizardSupport;
+import VASSAL.build.widget.PieceSlotWarmUp;
 import VASSAL.configure.DirectoryConfigurer;
 import VASSAL.i18n.Localization;
 import VASSAL.i18n.Resources;
@@ -83,6 +84,7 @@ public class LoadModuleAction extends GameModuleAction {
     Localization.getInstance().translate();
     final GameModule m = GameModule.getGameModule();
     new ExtensionsLoader().addTo(m);
+    PieceSlotWarmUp.start(m);
     showWizardOrPlayerWindow(m);
   }
 
@@ -22,7 +22,7 @@ import VASSAL.build.module.Documentation;
 import VASSAL.build.module.ExtensionsManager;
 import VASSAL.build.module.metadata.AbstractMetaData;
 import VASSAL.build.module.metadata.ExtensionMetaData;
-import VASSAL.build.module.metadata.MetaDataFactory;
+import VASSAL.build.module.metadata.MetaDataCache;
 import VASSAL.build.module.metadata.ModuleMetaData;
 import VASSAL.build.module.metadata.SaveMetaData;
 import VASSAL.chat.CgiServerStatus;
@@ -41,6 +41,7 @@ import VASSAL.tools.BrowserSupport;
 import VASSAL.tools.ErrorDialog;
 import VASSAL.tools.SequenceEncoder;
 import VASSAL.tools.WriteErrorDialog;
+import VASSAL.tools.concurrent.Exec;
 import VASSAL.tools.filechooser.FileChooser;
 import VASSAL.tools.filechooser.ModuleExtensionFileFilter;
 import VASSAL.tools.io.DirectoryTreeDeleter;
@@ -123,7 +124,12 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
 import java.util.SortedSet;
 import java.util.TreeSet;
 import java.util.stream.Stream;
@@ -205,6 +211,8 @@ public class ModuleManagerWindow extends JFrame {
           WriteErrorDialog.error(ex, gp.getFile());
         }
 
+        MetaDataCache.save();
+
         try {
           ModuleManager.getInstance().shutDown();
         }
@@ -605,6 +613,7 @@ public class ModuleManagerWindow extends JFrame {
     });
 
     rootNode = new MyTreeNode(new RootInfo());
+    final List<GameFolderInfo> folderInfos = new ArrayList<>();
 
     for (final ModuleInfo moduleInfo : moduleList) {
       final MyTreeNode moduleNode = new MyTreeNode(moduleInfo);
@@ -620,25 +629,7 @@ public class ModuleManagerWindow extends JFrame {
           final GameFolderInfo folderInfo = new GameFolderInfo(f, moduleInfo);
           final MyTreeNode folderNode = new MyTreeNode(folderInfo);
           moduleNode.add(folderNode);
-          final List<File> l = new ArrayList<>();
-
-          final File[] files = f.listFiles();
-          if (files == null) continue;
-
-          for (final File f1 : files) {
-            if (f1.isFile()) {
-              l.add(f1);
-            }
-          }
-          Collections.sort(l);
-
-          for (final File f2 : l) {
-            final SaveFileInfo fileInfo = new SaveFileInfo(f2, folderInfo);
-            if (fileInfo.isValid() && fileInfo.belongsToModule()) {
-              final MyTreeNode fileNode = new MyTreeNode(fileInfo);
-              folderNode.add(fileNode);
-            }
-          }
+          folderInfos.add(folderInfo);
         }
         else {
           missingFolders.add(f);
@@ -659,6 +650,11 @@ public class ModuleManagerWindow extends JFrame {
     treeModel = new MyTreeTableModel(rootNode);
     tree = new MyTree(treeModel);
 
+    // The saves in each Game Folder are added to the tree as they are read
+    for (final GameFolderInfo folderInfo : folderInfos) {
+      folderInfo.scan();
+    }
+
     tree.setRootVisible(false);
     tree.setEditable(false);
 
@@ -808,7 +804,7 @@ public class ModuleManagerWindow extends JFrame {
    * @param f The file
    */
   public void update(File f) {
-    final AbstractMetaData data = MetaDataFactory.buildMetaData(f);
+    final AbstractMetaData data = MetaDataCache.buildMetaData(f);
 
     if (data instanceof ModuleMetaData) {
       // Module.
@@ -1421,7 +1417,7 @@ public class ModuleManagerWindow extends JFrame {
     }
 
     protected void loadMetaData() {
-      final AbstractMetaData data = MetaDataFactory.buildMetaData(file);
+      final AbstractMetaData data = MetaDataCache.buildMetaData(file);
       if (data instanceof ModuleMetaData) {
         setValid(true);
         metadata = (ModuleMetaData) data;
@@ -1548,17 +1544,7 @@ public class ModuleManagerWindow extends JFrame {
       final MyTreeNode folderNode = new MyTreeNode(folderInfo);
       final int idx = moduleNode.findInsertIndex(folderInfo);
       treeModel.insertNodeInto(folderNode, moduleNode, idx);
-
-      for (final File file : f.listFiles()) {
-        if (file.isFile()) {
-          final SaveFileInfo fileInfo = new SaveFileInfo(file, folderInfo);
-          if (fileInfo.isValid() && fileInfo.belongsToModule()) {
-            final MyTreeNode fileNode = new MyTreeNode(fileInfo);
-            treeModel.insertNodeInto(fileNode, folderNode,
-                                     folderNode.findInsertIndex(fileInfo));
-          }
-        }
-      }
+      folderInfo.scan();
       updateModuleList();
     }
 
@@ -1716,7 +1702,7 @@ public class ModuleManagerWindow extends JFrame {
     }
 
     protected void loadMetaData() {
-      final AbstractMetaData data = MetaDataFactory.buildMetaData(file);
+      final AbstractMetaData data = MetaDataCache.buildMetaData(file);
       if (data instanceof ExtensionMetaData) {
         setValid(true);
         metadata = (ExtensionMetaData) data;
@@ -1924,24 +1910,81 @@ public class ModuleManagerWindow extends JFrame {
         }
       }
 
-      // Refresh any that are. Only include Save files belonging to this
-      // module, or that are pre vassal 3.1
-      final File[] files = getFile().listFiles();
-      if (files == null) return;
-
-      for (final File f : files) {
-        final AbstractMetaData fdata = MetaDataFactory.buildMetaData(f);
-        if (fdata != null) {
-          if (fdata instanceof SaveMetaData) {
-            final String moduleName = ((SaveMetaData) fdata).getModuleName();
-            if (moduleName == null ||
-                moduleName.length() == 0 ||
-                moduleName.equals(getModuleInfo().getModuleName())) {
-              update(f);
+      // Refresh any that are
+      scan();
+    }
+
+    /**
+     * Read the metadata of every file in the folder in parallel in the
+     * background, adding or updating the Save files belonging to this
+     * module, or that are pre vassal 3.1, as each is read.
+     */
+    public void scan() {
+      final SwingWorker<Void, Pair<File, SaveMetaData>> task = new SwingWorker<>() {
+        @Override
+        protected Void doInBackground() throws Exception {
+          final File[] files = getFile().listFiles();
+          if (files == null) return null;
+
+          final CompletionService<SaveMetaData> cs = new ExecutorCompletionService<>(Exec.ex);
+          final java.util.Map<Future<SaveMetaData>, File> pending = new HashMap<>();
+          for (final File f : files) {
+            if (f.isFile()) {
+              pending.put(cs.submit(() -> {
+                final AbstractMetaData data = MetaDataCache.buildMetaData(f);
+                return data instanceof SaveMetaData ? (SaveMetaData) data : null;
+              }), f);
+            }
+          }
+
+          for (int n = pending.size(); n > 0; --n) {
+            final Future<SaveMetaData> fut = cs.take();
+            final SaveMetaData data;
+            try {
+              data = fut.get();
+            }
+            catch (ExecutionException e) {
+              // One unreadable file mustn't keep the rest of the folder from being shown
+              logger.error("Unable to read metadata from {}", pending.get(fut), e.getCause()); //NON-NLS
+              continue;
+            }
+            if (data != null && belongsToModule(data)) {
+              publish(Pair.of(pending.get(fut), data));
             }
           }
+          return null;
         }
-      }
+
+        @Override
+        protected void process(List<Pair<File, SaveMetaData>> chunks) {
+          for (final Pair<File, SaveMetaData> p : chunks) {
+            update(p.getLeft(), p.getRight());
+          }
+        }
+
+        @Override
+        protected void done() {
+          try {
+            get();
+          }
+          catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+          catch (ExecutionException e) {
+            logger.error("Unable to read Game Folder {}", getFile(), e); //NON-NLS
+          }
+          MetaDataCache.save();
+        }
+      };
+
+      task.execute();
+    }
+
+    private boolean belongsToModule(SaveMetaData data) {
+      final String moduleName = data.getModuleName();
+      return moduleName == null ||
+        moduleName.length() == 0 ||
+        moduleName.equals(getModuleInfo().getModuleName());
     }
 
     /**
@@ -1950,14 +1993,31 @@ public class ModuleManagerWindow extends JFrame {
      * @param f Save File
      */
     public void update(File f) {
+      update(f, null);
+    }
+
+    /**
+     * Update the display for the specified save File, or add it in if
+     * we don't already know about it.
+     * @param f Save File
+     * @param data Metadata already read from the file, or null to read it
+     */
+    private void update(File f, SaveMetaData data) {
       for (int i = 0; i < getTreeNode().getChildCount(); i++) {
         final SaveFileInfo fileInfo = (SaveFileInfo) (getTreeNode().getChild(i)).getNodeInfo();
         if (fileInfo.getFile().equals(f)) {
-          fileInfo.refresh();
+          if (data == null) {
+            fileInfo.refresh();
+          }
+          else {
+            fileInfo.setMetaData(data);
+            tree.repaint();
+          }
           return;
         }
       }
-      final SaveFileInfo fileInfo = new SaveFileInfo(f, this);
+      final SaveFileInfo fileInfo = data == null ?
+        new SaveFileInfo(f, this) : new SaveFileInfo(f, this, data);
       final MyTreeNode fileNode = new MyTreeNode(fileInfo);
       treeModel.insertNodeInto(fileNode, getTreeNode(),
           getTreeNode().findInsertIndex(fileInfo));
@@ -1986,8 +2046,17 @@ public class ModuleManagerWindow extends JFrame {
       loadMetaData();
     }
 
+    public SaveFileInfo(File f, GameFolderInfo folder, SaveMetaData data) {
+      super(f, fileIcon);
+      folderInfo = folder;
+      setMetaData(data);
+    }
+
     protected void loadMetaData() {
-      final AbstractMetaData data = MetaDataFactory.buildMetaData(file);
+      setMetaData(MetaDataCache.buildMetaData(file));
+    }
+
+    protected void setMetaData(AbstractMetaData data) {
       if (data instanceof SaveMetaData) {
         metadata = (SaveMetaData) data;
         setValid(true);
@@ -35,6 +35,7 @@ import VASSAL.build.module.WizardSupport;
 import VASSAL.build.module.metadata.AbstractMetaData;
 import VASSAL.build.module.metadata.MetaDataFactory;
 import VASSAL.build.module.metadata.ModuleMetaData;
+import VASSAL.build.widget.PieceSlotWarmUp;
 import VASSAL.i18n.Localization;
 import VASSAL.i18n.Resources;
 import VASSAL.preferences.Prefs;
@@ -80,6 +81,7 @@ public class Player extends Launcher {
 
       createExtensionsLoader().addTo(GameModule.getGameModule());
       Localization.getInstance().translate();
+      PieceSlotWarmUp.start(GameModule.getGameModule());
       showWizardOrPlayerWindow(GameModule.getGameModule());
     }
     else {
@@ -87,6 +89,7 @@ public class Player extends Launcher {
       createExtensionsLoader().addTo(GameModule.getGameModule());
       Localization.getInstance().translate();
       final GameModule m = GameModule.getGameModule();
+      PieceSlotWarmUp.start(m);
       if (lr.game != null) {
         m.getPlayerWindow().setVisible(true);
         m.setGameFile(lr.game.getName(), GameModule.GameFileMode.LOADED_GAME);
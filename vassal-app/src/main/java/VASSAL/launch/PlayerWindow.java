@@ -100,6 +100,8 @@ public class PlayerWindow extends JFrame {
     fileMenu.addSeparator();
     fileMenu.add(mm.addKey("BasicLogger.begin_logfile"));
     fileMenu.add(mm.addKey("BasicLogger.end_logfile"));
+    fileMenu.add(mm.addKey("BasicLogger.step_backward"));
+    fileMenu.add(mm.addKey("BasicLogger.jump_to_step"));
 
     if (SystemUtils.IS_OS_MAC) {
       fileMenu.addSeparator();
@@ -24,6 +24,7 @@ import VASSAL.i18n.Resources;
 import VASSAL.script.BeanShell;
 import VASSAL.script.ExpressionInterpreter;
 import VASSAL.tools.FormattedString;
+import VASSAL.tools.Profiler;
 
 import java.util.Map;
 
@@ -59,10 +60,15 @@ public class BeanShellExpression extends Expression {
    */
   @Override
   public String evaluate(PropertySource ps, Map<String, String> properties, boolean localized, Auditable owner, AuditTrail audit) throws ExpressionException {
+    final long start = Profiler.start();
     if (interpreter == null) {
       interpreter = new ExpressionInterpreter(strip(getExpression()));
     }
-    return interpreter.evaluate(ps, properties, localized, owner, audit);
+    final String result = interpreter.evaluate(ps, properties, localized, owner, audit);
+    if (start != 0) {
+      Profiler.record(Profiler.Category.EXPRESSION, getExpression(), start);
+    }
+    return result;
   }
 
   /** @deprecated Use {@link #evaluate(PropertySource, Map, boolean, Auditable, AuditTrail)} */
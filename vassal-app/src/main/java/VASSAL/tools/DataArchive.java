@@ -29,6 +29,7 @@ import java.security.SecureClassLoader;
 import java.security.cert.Certificate;
 import java.text.Normalizer;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -91,6 +92,13 @@ public class DataArchive extends SecureClassLoader implements Closeable {
     return archive;
   }
 
+  /**
+   * @return the archives extending this one
+   */
+  public List<DataArchive> getExtensions() {
+    return Collections.unmodifiableList(extensions);
+  }
+
   public String getImagePrefix() {
     return imageDir;
   }
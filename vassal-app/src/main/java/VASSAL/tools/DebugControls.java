@@ -30,6 +30,7 @@ import VASSAL.counters.KeyBuffer;
 import VASSAL.i18n.Resources;
 import VASSAL.preferences.PositionOption;
 import VASSAL.preferences.VisibilityOption;
+import VASSAL.tools.filechooser.FileChooser;
 import VASSAL.tools.menu.CheckBoxMenuItemProxy;
 import VASSAL.tools.menu.MenuManager;
 import VASSAL.tools.swing.FlowLabel;
@@ -41,19 +42,25 @@ import javax.swing.BorderFactory;
 import javax.swing.Box;
 import javax.swing.ImageIcon;
 import javax.swing.JButton;
+import javax.swing.JCheckBox;
 import javax.swing.JFrame;
 import javax.swing.JLabel;
 import javax.swing.JPanel;
+import javax.swing.JScrollPane;
 import javax.swing.JSplitPane;
+import javax.swing.JTextArea;
 import javax.swing.Timer;
 import javax.swing.WindowConstants;
 import java.awt.BorderLayout;
 import java.awt.Component;
 import java.awt.Container;
+import java.awt.Font;
 import java.awt.Point;
 import java.awt.Rectangle;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
+import java.io.File;
+import java.io.IOException;
 import java.net.URL;
 import java.util.List;
 
@@ -78,6 +85,9 @@ public class DebugControls extends AbstractBuildable implements ActionListener {
   //protected JLabel heapMaxLabel;
   //protected JLabel heapFreeLabel;
 
+  protected JTextArea profileText;
+  protected int profileTicks;
+
   protected Timer timer = new Timer(100, this);
 
   private static CheckBoxMenuItemProxy checkbox;
@@ -135,10 +145,41 @@ public class DebugControls extends AbstractBuildable implements ActionListener {
     selectedBox.add(selectedCoordsLabel);
     selectedBox.add(selectedCoordsBoardLabel);
 
+    final JCheckBox paintTimesBox = new JCheckBox(Resources.getString("Debug.show_paint_times"));
+    paintTimesBox.setSelected(Map.View.isShowPaintTimes());
+    paintTimesBox.addActionListener(evt -> Map.View.setShowPaintTimes(paintTimesBox.isSelected()));
+
     leftBox.add(cursorBox);
     leftBox.add(Box.createVerticalStrut(10));
     leftBox.add(selectedBox);
-    leftPanel.add(leftBox);
+    leftBox.add(Box.createVerticalStrut(10));
+    leftBox.add(paintTimesBox);
+    leftPanel.add(leftBox, "wrap"); //NON-NLS
+
+    final JCheckBox profileBox = new JCheckBox(Resources.getString("Debug.profile"));
+    profileBox.setSelected(Profiler.isEnabled());
+    profileBox.addActionListener(evt -> {
+      Profiler.setEnabled(profileBox.isSelected());
+      updateProfile();
+    });
+
+    final JButton profileResetButton = new JButton(Resources.getString("Debug.profile_reset"));
+    profileResetButton.addActionListener(evt -> {
+      Profiler.reset();
+      updateProfile();
+    });
+
+    final JButton profileSaveButton = new JButton(Resources.getString("Debug.profile_save"));
+    profileSaveButton.addActionListener(evt -> saveProfile());
+
+    profileText = new JTextArea(12, 60);
+    profileText.setEditable(false);
+    profileText.setFont(new Font(Font.MONOSPACED, Font.PLAIN, profileText.getFont().getSize()));
+
+    leftPanel.add(profileBox);
+    leftPanel.add(profileResetButton);
+    leftPanel.add(profileSaveButton, "wrap"); //NON-NLS
+    leftPanel.add(new JScrollPane(profileText), "grow, push"); //NON-NLS
 
     //split.setLeftComponent(leftPanel);
 
@@ -204,6 +245,31 @@ public class DebugControls extends AbstractBuildable implements ActionListener {
   }
 
 
+  private void updateProfile() {
+    profileTicks = 0;
+    profileText.setText(Profiler.report());
+    profileText.setCaretPosition(0);
+  }
+
+  private void saveProfile() {
+    final FileChooser fc = GameModule.getGameModule().getFileChooser();
+    if (fc.showSaveDialog(controlPanel) != FileChooser.APPROVE_OPTION) {
+      return;
+    }
+
+    final File file = fc.getSelectedFile();
+    if (file == null) {
+      return;
+    }
+
+    try {
+      Profiler.dump(file);
+    }
+    catch (IOException e) {
+      WriteErrorDialog.error(e, file);
+    }
+  }
+
   private void updateHeap() {
     // Get current size of heap in bytes
     //final long heapSize = Runtime.getRuntime().totalMemory() * 100 / MEGABYTE;
@@ -268,6 +334,10 @@ public class DebugControls extends AbstractBuildable implements ActionListener {
     if (evt.getSource() == timer) {
       updateHeap();
       updateSelected();
+      // Refresh the profile once a second while profiling
+      if (Profiler.isEnabled() && ++profileTicks >= 10) {
+        updateProfile();
+      }
     }
   }
 
@@ -0,0 +1,136 @@
+/*
+ *
+ * Copyright (c) 2026 by The VASSAL Development Team
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License (LGPL) as published by the Free Software Foundation.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, copies are available
+ * at http://www.opensource.org.
+ */
+package VASSAL.tools;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Defers and combines notifications, such as repainting the maps when a Global Property changes, while a
+ * batch of changes is being made. A Global Key Command or Startup Global Key Command which sets hundreds of
+ * properties would otherwise repaint every map hundreds of times.
+ *
+ * A batch is begun by {@link #begin} and ended by {@link #end}, and batches may be nested. A {@link VASSAL.command.Command}
+ * and a {@link VASSAL.counters.GlobalCommand} are each applied in a batch, as are all the Commands made while logging
+ * is paused by {@link VASSAL.build.GameModule#pauseLogging}. A notification requested by {@link #notify} during a
+ * batch is run once, when the outermost batch ends, however many times it was requested. Outside a batch, it is
+ * run at once.
+ *
+ * Batches belong to the thread which begins them, so a batch which is never ended holds back only the notifications
+ * requested on that thread, and {@link #endAll} (called when paused logging is abandoned or a game is closed) lets
+ * them run again.
+ *
+ * Only notifications which depend on nothing but the final state of the changes, such as repaints, should be
+ * deferred. Listeners which need to see each change as it is made must still be notified at once.
+ */
+public class NotificationBatch {
+  private static final ThreadLocal<Batch> batch = ThreadLocal.withInitial(Batch::new);
+
+  private static final LongAdder requested = new LongAdder();
+  private static final LongAdder performed = new LongAdder();
+
+  private static class Batch {
+    private int depth = 0;
+    private final java.util.Map<Object, Runnable> pending = new LinkedHashMap<>();
+  }
+
+  private NotificationBatch() {
+  }
+
+  /**
+   * Begin a batch
+   */
+  public static void begin() {
+    ++batch.get().depth;
+  }
+
+  /**
+   * End a batch. If it is the outermost batch, run all the notifications requested during it.
+   */
+  public static void end() {
+    final Batch b = batch.get();
+    if (b.depth > 0) {
+      --b.depth;
+    }
+    flush(b);
+  }
+
+  /**
+   * End all batches on this thread, running all the notifications requested during them. Used when the batches
+   * begun may not all be ended, such as when paused logging is abandoned.
+   */
+  public static void endAll() {
+    final Batch b = batch.get();
+    b.depth = 0;
+    flush(b);
+  }
+
+  /**
+   * @return true if a batch is in progress on this thread
+   */
+  public static boolean isBatching() {
+    return batch.get().depth > 0;
+  }
+
+  /**
+   * Request a notification. During a batch it is deferred until the outermost batch ends, and is run only once
+   * for each key; otherwise it is run now.
+   *
+   * @param key Identifies the notification; requests with equal keys are combined
+   * @param notification Notification to run
+   */
+  public static void notify(Object key, Runnable notification) {
+    requested.increment();
+    final Batch b = batch.get();
+    if (b.depth > 0) {
+      b.pending.putIfAbsent(key, notification);
+      return;
+    }
+    performed.increment();
+    notification.run();
+  }
+
+  /**
+   * @return The number of notifications requested
+   */
+  public static long getRequested() {
+    return requested.sum();
+  }
+
+  /**
+   * @return The number of notifications run, after combining those requested during batches
+   */
+  public static long getPerformed() {
+    return performed.sum();
+  }
+
+  private static void flush(Batch b) {
+    // Notifications may change more properties, so keep going until none are left. They are run outside
+    // any batch, so any they request are run at once.
+    while (b.depth == 0 && !b.pending.isEmpty()) {
+      final List<Runnable> run = new ArrayList<>(b.pending.values());
+      b.pending.clear();
+      for (final Runnable r : run) {
+        performed.increment();
+        r.run();
+      }
+    }
+  }
+}
@@ -0,0 +1,231 @@
+/*
+ *
+ * Copyright (c) 2026 by The VASSAL Development Team
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License (LGPL) as published by the Free Software Foundation.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, copies are available
+ * at http://www.opensource.org.
+ */
+package VASSAL.tools;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import VASSAL.counters.BasicPiece;
+
+/**
+ * Records how often, and for how long, the expensive parts of play are run: the execution, encoding and
+ * decoding of {@link VASSAL.command.Command}s, the filters of Global Key Commands, and the evaluation of
+ * BeanShell expressions. Each is recorded by {@link Category} and by name (the class of a Command, the
+ * trait or component a Global Key Command belongs to, or the text of an expression), so that the commands,
+ * traits and expressions which are slow in a real module can be found.
+ *
+ * The profiler is off until {@link #setEnabled} is called, from the Debug Controls window. While it is off,
+ * {@link #start} and {@link #record} do nothing but test a flag. The results are shown in the Debug Controls
+ * window, and can be saved to a file with {@link #dump}.
+ *
+ * Usage:
+ * <pre>
+ *   final long start = Profiler.start();
+ *   ... work ...
+ *   if (start != 0) {
+ *     Profiler.record(Profiler.Category.EXECUTE, getClass(), start);
+ *   }
+ * </pre>
+ * Testing start avoids building the name when the profiler is off.
+ */
+public class Profiler {
+
+  /** The kinds of work recorded */
+  public enum Category {
+    EXECUTE("Command execution", null), //NON-NLS
+    ENCODE("Command encoding", "Bytes"), //NON-NLS
+    DECODE("Command decoding", "Bytes"), //NON-NLS
+    GLOBAL_COMMAND("Global Key Commands", null), //NON-NLS
+    FILTER("Global Key Command filters", "Matches"), //NON-NLS
+    EXPRESSION("Expression evaluation", null); //NON-NLS
+
+    private final String description;
+    private final String amount;
+
+    Category(String description, String amount) {
+      this.description = description;
+      this.amount = amount;
+    }
+
+    public String getDescription() {
+      return description;
+    }
+
+    /**
+     * @return What the amounts recorded for this category count, or null if amounts are not recorded
+     */
+    public String getAmount() {
+      return amount;
+    }
+  }
+
+  /** Largest number of names recorded in each category, beyond which names are recorded together */
+  private static final int MAX_NAMES = 500;
+  private static final String OTHER = "(other)"; //NON-NLS
+
+  private static volatile boolean enabled = false;
+  private static volatile long enabledAt = 0;
+
+  private static final java.util.Map<Category, java.util.Map<Object, Stat>> stats = new EnumMap<>(Category.class);
+
+  static {
+    for (final Category c : Category.values()) {
+      stats.put(c, new ConcurrentHashMap<>());
+    }
+  }
+
+  private Profiler() {
+  }
+
+  public static boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Turn the profiler on or off. Results recorded so far are kept until {@link #reset}.
+   */
+  public static void setEnabled(boolean on) {
+    if (on && !enabled) {
+      enabledAt = System.nanoTime();
+    }
+    enabled = on;
+  }
+
+  /**
+   * Discard all results recorded so far
+   */
+  public static void reset() {
+    for (final java.util.Map<Object, Stat> m : stats.values()) {
+      m.clear();
+    }
+    enabledAt = System.nanoTime();
+  }
+
+  /**
+   * @return The time to pass to {@link #record}, or 0 if the profiler is off
+   */
+  public static long start() {
+    return enabled ? System.nanoTime() : 0;
+  }
+
+  /**
+   * Record one run of some work
+   *
+   * @param category Kind of work
+   * @param name Name to record the work under; a Class is recorded by its name
+   * @param start Value returned by {@link #start} before the work began
+   */
+  public static void record(Category category, Object name, long start) {
+    record(category, name, start, 0);
+  }
+
+  /**
+   * Record one run of some work
+   *
+   * @param category Kind of work
+   * @param name Name to record the work under; a Class is recorded by its name
+   * @param start Value returned by {@link #start} before the work began
+   * @param amount Amount of the work, e.g. the number of bytes encoded (see {@link Category#getAmount})
+   */
+  public static void record(Category category, Object name, long start, long amount) {
+    if (start == 0 || !enabled) {
+      return;
+    }
+    final long nanos = System.nanoTime() - start;
+
+    final java.util.Map<Object, Stat> m = stats.get(category);
+    Stat s = m.get(name == null ? OTHER : name);
+    if (s == null) {
+      s = m.computeIfAbsent(m.size() < MAX_NAMES && name != null ? name : OTHER, k -> new Stat());
+    }
+    s.count.increment();
+    s.nanos.add(nanos);
+    s.amount.add(amount);
+  }
+
+  /**
+   * @return The results recorded so far, as a plain text table for each category, slowest first
+   */
+  public static String report() {
+    final StringBuilder sb = new StringBuilder();
+    final long elapsed = enabledAt == 0 ? 0 : (System.nanoTime() - enabledAt) / 1_000_000;
+    sb.append(enabled ? "Profiling" : "Profiling stopped") //NON-NLS
+      .append(", ").append(elapsed / 1000).append(" s since started or reset\n"); //NON-NLS
+
+    for (final Category c : Category.values()) {
+      final List<java.util.Map.Entry<Object, Stat>> rows = new ArrayList<>(stats.get(c).entrySet());
+      if (rows.isEmpty()) {
+        continue;
+      }
+      rows.sort(Comparator.comparingLong((java.util.Map.Entry<Object, Stat> e) -> e.getValue().nanos.sum()).reversed());
+
+      sb.append('\n').append(c.getDescription()).append('\n');
+      sb.append(String.format("%10s %10s %10s %12s  %s%n", "Count", "Total ms", "Mean us", //NON-NLS
+        c.getAmount() == null ? "" : c.getAmount(), "Name")); //NON-NLS
+      for (final java.util.Map.Entry<Object, Stat> e : rows) {
+        final long count = e.getValue().count.sum();
+        final long nanos = e.getValue().nanos.sum();
+        sb.append(String.format("%10d %10d %10d %12s  %s%n", //NON-NLS
+          count,
+          nanos / 1_000_000,
+          count == 0 ? 0 : nanos / count / 1_000,
+          c.getAmount() == null ? "" : Long.toString(e.getValue().amount.sum()),
+          nameOf(e.getKey())));
+      }
+    }
+
+    sb.append("\nPiece location cache: ") //NON-NLS
+      .append(BasicPiece.getLocationCacheHits()).append(" hits, ") //NON-NLS
+      .append(BasicPiece.getLocationCacheMisses()).append(" misses\n"); //NON-NLS
+    sb.append("Notifications: ") //NON-NLS
+      .append(NotificationBatch.getRequested()).append(" requested, ") //NON-NLS
+      .append(NotificationBatch.getPerformed()).append(" performed\n"); //NON-NLS
+    return sb.toString();
+  }
+
+  /**
+   * Write the results recorded so far to a file
+   *
+   * @param file File to write
+   * @throws IOException if the file cannot be written
+   */
+  public static void dump(File file) throws IOException {
+    Files.writeString(file.toPath(), report(), StandardCharsets.UTF_8);
+  }
+
+  private static String nameOf(Object name) {
+    final String s = name instanceof Class ? ((Class<?>) name).getName() : String.valueOf(name);
+    // Keep long expressions to one line of the report
+    final String line = s.replaceAll("\\s+", " ");
+    return line.length() > 120 ? line.substring(0, 117) + "..." : line;
+  }
+
+  private static class Stat {
+    private final LongAdder count = new LongAdder();
+    private final LongAdder nanos = new LongAdder();
+    private final LongAdder amount = new LongAdder();
+  }
+}
@@ -0,0 +1,341 @@
+/*
+ *
+ * Copyright (c) 2026 by The VASSAL Development Team
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License (LGPL) as published by the Free Software Foundation.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, copies are available
+ * at http://www.opensource.org.
+ */
+package VASSAL.tools.image;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBuffer;
+import java.awt.image.DataBufferInt;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.commons.codec.digest.DigestUtils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import VASSAL.Info;
+import VASSAL.tools.DataArchive;
+import VASSAL.tools.concurrent.Exec;
+import VASSAL.tools.io.FileArchive;
+
+/**
+ * An on-disk cache of decoded images, so that the images of a module are decoded and converted to a
+ * compatible type only the first time the module is used, rather than in every session.
+ *
+ * Images are stored as raw pixel data, which is read straight into the raster of a new image with no
+ * decoding or conversion. They are keyed by the name of the image and by the files of the archive it was
+ * loaded from and all of that archive's extensions, so changing any of them leaves the old images unused,
+ * and by the compatible image types of the display they were converted for.
+ * Images are not cached while an archive is being edited.
+ *
+ * Unused images are evicted, least recently used first, once the cache grows beyond {@link #MAX_BYTES}.
+ */
+public class DecodedImageCache {
+  private static final Logger log = LoggerFactory.getLogger(DecodedImageCache.class);
+
+  private static final int MAGIC = 0x5644494d; // VDIM
+  private static final int HEADER = 16;
+
+  private static final String CACHE_DIR = "images"; //NON-NLS
+
+  /** Maximum total size of the cache */
+  private static final long MAX_BYTES = 512L * 1024 * 1024;
+
+  /** Largest image which will be cached, in pixels */
+  private static final long MAX_PIXELS = 4L * 1024 * 1024;
+
+  /** Estimated total size of the cache, or -1 if it has not yet been measured */
+  private static final AtomicLong total = new AtomicLong(-1);
+  private static final AtomicBoolean evicting = new AtomicBoolean();
+
+  private static final AtomicLong hits = new AtomicLong();
+  private static final AtomicLong hitNanos = new AtomicLong();
+  private static final AtomicLong misses = new AtomicLong();
+  private static final AtomicLong missNanos = new AtomicLong();
+
+  private DecodedImageCache() {
+  }
+
+  /**
+   * Decodes an image from its source.
+   */
+  @FunctionalInterface
+  public interface Decoder {
+    BufferedImage decode() throws ImageIOException;
+  }
+
+  /**
+   * Return an image from the cache, decoding it and adding it to the cache if it is not there.
+   *
+   * @param archive Archive containing the image
+   * @param name Name of the image in the archive
+   * @param decoder Decodes the image if it is not cached
+   * @return The image
+   * @throws ImageIOException if the image has to be decoded and cannot be
+   */
+  public static BufferedImage getImage(DataArchive archive, String name, Decoder decoder) throws ImageIOException {
+    final long start = System.nanoTime();
+
+    final File file = fileFor(archive, name);
+    if (file != null) {
+      final BufferedImage img = read(file);
+      if (img != null) {
+        hits.incrementAndGet();
+        hitNanos.addAndGet(System.nanoTime() - start);
+        return img;
+      }
+    }
+
+    final BufferedImage img = decoder.decode();
+    misses.incrementAndGet();
+    missNanos.addAndGet(System.nanoTime() - start);
+
+    if (file != null && isCacheable(img)) {
+      Exec.ex.execute(() -> write(img, file));
+    }
+    return img;
+  }
+
+  /**
+   * Log how long images have taken to load from the cache, compared to decoding them
+   */
+  public static void logStatistics() {
+    final long h = hits.get();
+    final long m = misses.get();
+    log.info("Decoded image cache: {} images read in {} ms ({} us each), {} images decoded in {} ms ({} us each)", //NON-NLS
+      h, hitNanos.get() / 1_000_000, h == 0 ? 0 : hitNanos.get() / h / 1_000,
+      m, missNanos.get() / 1_000_000, m == 0 ? 0 : missNanos.get() / m / 1_000);
+  }
+
+  private static File getCacheDir() {
+    return new File(Info.getCacheDir(), CACHE_DIR);
+  }
+
+  /**
+   * @return The cache file for an image, or null if the archive's images cannot be cached
+   */
+  private static File fileFor(DataArchive archive, String name) {
+    if (archive.getWriter() != null || name.startsWith("/")) {
+      // Being edited, or a resource rather than part of the archive
+      return null;
+    }
+
+    // Images are stored as the compatible types of this display
+    final StringBuilder key = new StringBuilder()
+      .append(ImageUtils.getCompatibleImageType()).append('\0')
+      .append(ImageUtils.getCompatibleTranslucentImageType()).append('\0');
+    if (!appendKey(archive, key)) {
+      return null;
+    }
+
+    final String dir = DigestUtils.sha1Hex(key.toString());
+    final String file = DigestUtils.sha1Hex(name);
+    return new File(getCacheDir(), dir + '/' + file.substring(0, 2) + '/' + file);
+  }
+
+  private static boolean appendKey(DataArchive archive, StringBuilder key) {
+    final FileArchive fa = archive.getArchive();
+    if (fa == null || fa.getFile() == null) {
+      return false;
+    }
+
+    final File f = fa.getFile();
+    key.append(f.getAbsolutePath()).append('\0')
+       .append(f.length()).append('\0')
+       .append(f.lastModified()).append('\0');
+
+    for (final DataArchive ext : archive.getExtensions()) {
+      if (!appendKey(ext, key)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean isCacheable(BufferedImage img) {
+    switch (img.getType()) {
+    case BufferedImage.TYPE_INT_RGB:
+    case BufferedImage.TYPE_INT_ARGB:
+    case BufferedImage.TYPE_INT_ARGB_PRE:
+      break;
+    default:
+      return false;
+    }
+
+    final DataBuffer db = img.getRaster().getDataBuffer();
+    return db instanceof DataBufferInt &&
+      db.getNumBanks() == 1 &&
+      db.getSize() == img.getWidth() * img.getHeight() &&
+      (long) img.getWidth() * img.getHeight() <= MAX_PIXELS;
+  }
+
+  /**
+   * @return The cached image, or null if it is not cached or cannot be read
+   */
+  private static BufferedImage read(File file) {
+    // The file is read rather than mapped, since a mapped file cannot be evicted on every platform
+    try (FileChannel ch = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+      final ByteBuffer header = ByteBuffer.allocate(HEADER);
+      readFully(ch, header);
+      if (header.getInt() != MAGIC) {
+        throw new IOException("bad signature"); //NON-NLS
+      }
+
+      final int w = header.getInt();
+      final int h = header.getInt();
+      final int type = header.getInt();
+      if (w < 1 || h < 1 || (long) w * h > MAX_PIXELS || ch.size() != HEADER + 4L * w * h) {
+        throw new IOException("bad size"); //NON-NLS
+      }
+
+      final BufferedImage img = new BufferedImage(w, h, type);
+      final int[] data = ((DataBufferInt) img.getRaster().getDataBuffer()).getData();
+
+      final ByteBuffer bb = ByteBuffer.allocate(4 * data.length);
+      readFully(ch, bb);
+      bb.asIntBuffer().get(data);
+
+      // Record the use, so that the least recently used images are evicted first
+      file.setLastModified(System.currentTimeMillis());
+      return img;
+    }
+    catch (NoSuchFileException e) {
+      return null;
+    }
+    catch (IOException | IllegalArgumentException e) {
+      log.warn("Discarding unreadable cached image {}", file, e); //NON-NLS
+      file.delete();
+      return null;
+    }
+  }
+
+  private static void readFully(FileChannel ch, ByteBuffer bb) throws IOException {
+    while (bb.hasRemaining()) {
+      if (ch.read(bb) < 0) {
+        throw new IOException("file too short"); //NON-NLS
+      }
+    }
+    bb.flip();
+  }
+
+  private static void write(BufferedImage img, File file) {
+    final int[] data = ((DataBufferInt) img.getRaster().getDataBuffer()).getData();
+    final ByteBuffer bb = ByteBuffer.allocate(HEADER + 4 * data.length);
+    bb.putInt(MAGIC)
+      .putInt(img.getWidth())
+      .putInt(img.getHeight())
+      .putInt(img.getType());
+    bb.asIntBuffer().put(data);
+
+    Path temp = null;
+    try {
+      final Path dir = Files.createDirectories(file.getParentFile().toPath());
+      temp = Files.createTempFile(dir, "image", ".tmp"); //NON-NLS
+      Files.write(temp, bb.array());
+      Files.move(temp, file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+      temp = null;
+    }
+    catch (IOException e) {
+      // Failing to cache an image only means it will be decoded again next time
+      log.warn("Unable to cache image {}", file, e); //NON-NLS
+      return;
+    }
+    finally {
+      if (temp != null) {
+        try {
+          Files.deleteIfExists(temp);
+        }
+        catch (IOException ignored) {
+          // Nothing more to do
+        }
+      }
+    }
+
+    if (total.get() < 0) {
+      total.compareAndSet(-1, measure());
+    }
+    if (total.addAndGet(bb.capacity()) > MAX_BYTES) {
+      evict();
+    }
+  }
+
+  private static long measure() {
+    try (Stream<Path> s = Files.walk(getCacheDir().toPath())) {
+      return s.map(Path::toFile).filter(File::isFile).mapToLong(File::length).sum();
+    }
+    catch (IOException e) {
+      log.warn("Unable to measure decoded image cache", e); //NON-NLS
+      return 0;
+    }
+  }
+
+  /**
+   * Delete the least recently used images until the cache is well below its maximum size
+   */
+  private static void evict() {
+    if (!evicting.compareAndSet(false, true)) {
+      return;
+    }
+
+    try {
+      final List<File> files;
+      try (Stream<Path> s = Files.walk(getCacheDir().toPath())) {
+        files = s.map(Path::toFile).filter(File::isFile).collect(Collectors.toCollection(ArrayList::new));
+      }
+
+      long size = files.stream().mapToLong(File::length).sum();
+      files.sort(Comparator.comparingLong(File::lastModified));
+
+      final long target = MAX_BYTES * 3 / 4;
+      int deleted = 0;
+      for (final File f : files) {
+        if (size <= target) {
+          break;
+        }
+        final long len = f.length();
+        if (f.delete()) {
+          size -= len;
+          ++deleted;
+        }
+      }
+
+      total.set(size);
+      log.debug("Evicted {} images from the decoded image cache", deleted); //NON-NLS
+    }
+    catch (IOException e) {
+      log.warn("Unable to evict images from the decoded image cache", e); //NON-NLS
+    }
+    finally {
+      evicting.set(false);
+    }
+  }
+}
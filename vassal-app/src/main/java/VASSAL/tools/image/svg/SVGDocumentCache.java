@@ -0,0 +1,165 @@
+/*
+ *
+ * Copyright (c) 2026 by The VASSAL Development Team
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License (LGPL) as published by the Free Software Foundation.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, copies are available
+ * at http://www.opensource.org.
+ */
+package VASSAL.tools.image.svg;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Objects;
+
+import org.apache.batik.anim.dom.SVGOMDocument;
+import org.apache.batik.dom.util.DOMUtilities;
+import org.apache.batik.util.ParsedURL;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.w3c.dom.svg.SVGDocument;
+
+import VASSAL.tools.DataArchive;
+
+/**
+ * A memory-bounded cache of parsed SVG documents, so that an SVG image which is rendered many times (as the
+ * tiles of a large board, or at several scales and rotations) is read and parsed only once.
+ *
+ * Rendering an SVG document modifies it, and may happen on several threads at once, so callers are always
+ * given their own copy of the cached document. Copying a document is much cheaper than parsing it again.
+ *
+ * The cache is bounded by the total size of the SVG files it holds, and discards the least recently used
+ * documents first. It is cleared along with the image cache by {@link VASSAL.tools.imageop.Op#clearCache}.
+ */
+public class SVGDocumentCache {
+  private static final Logger logger = LoggerFactory.getLogger(SVGDocumentCache.class);
+
+  /** Maximum total size of the SVG files whose documents are cached */
+  private static final long MAX_BYTES = 8L * 1024 * 1024;
+
+  private static final LinkedHashMap<Key, Entry> cache = new LinkedHashMap<>(16, 0.75f, true);
+  private static long bytes = 0;
+
+  private SVGDocumentCache() {
+  }
+
+  /**
+   * Return a copy of the parsed SVG document for an image, parsing the image only if it is not already cached
+   *
+   * @param archive Archive containing the image
+   * @param name Name of the image in the archive
+   * @return A copy of the document, for the caller's sole use
+   * @throws IOException if the image cannot be read
+   */
+  public static SVGDocument getDocument(DataArchive archive, String name) throws IOException {
+    final Key key = new Key(archive, name);
+
+    Entry e;
+    synchronized (cache) {
+      e = cache.get(key);
+    }
+
+    if (e == null) {
+      final long start = System.currentTimeMillis();
+      final byte[] data;
+      try (InputStream in = archive.getInputStream(name)) {
+        data = in.readAllBytes();
+      }
+      final SVGDocument doc = SVGImageUtils.getDocument(archive.getURL(name).toString(), new ByteArrayInputStream(data));
+      logger.debug("Parsed {} ({} bytes) in {} ms", name, data.length, System.currentTimeMillis() - start); //NON-NLS
+
+      if (data.length > MAX_BYTES) {
+        // Too large to keep, and this caller can have the original
+        return doc;
+      }
+
+      e = new Entry(doc, data.length);
+      synchronized (cache) {
+        final Entry prev = cache.putIfAbsent(key, e);
+        if (prev != null) {
+          e = prev;
+        }
+        else {
+          bytes += e.size;
+          trim();
+        }
+      }
+    }
+
+    return e.copy();
+  }
+
+  /**
+   * Discard all cached documents
+   */
+  public static void clear() {
+    synchronized (cache) {
+      cache.clear();
+      bytes = 0;
+    }
+  }
+
+  private static void trim() {
+    final Iterator<Entry> i = cache.values().iterator();
+    while (bytes > MAX_BYTES && i.hasNext()) {
+      bytes -= i.next().size;
+      i.remove();
+    }
+  }
+
+  private static class Key {
+    private final DataArchive archive;
+    private final String name;
+
+    Key(DataArchive archive, String name) {
+      this.archive = archive;
+      this.name = name;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) return true;
+      if (!(o instanceof Key)) return false;
+      final Key k = (Key) o;
+      return archive == k.archive && name.equals(k.name);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(System.identityHashCode(archive), name);
+    }
+  }
+
+  private static class Entry {
+    private final SVGDocument doc;
+    private final long size;
+
+    Entry(SVGDocument doc, long size) {
+      this.doc = doc;
+      this.size = size;
+    }
+
+    SVGDocument copy() {
+      // The original is never handed out, but copying still reads it, so copy on one thread at a time
+      synchronized (this) {
+        final SVGOMDocument copy = (SVGOMDocument) DOMUtilities.deepCloneDocument(doc, doc.getImplementation());
+        copy.setParsedURL(new ParsedURL(doc.getURL()));
+        return copy;
+      }
+    }
+  }
+}
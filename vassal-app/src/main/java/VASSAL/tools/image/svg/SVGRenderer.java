@@ -95,7 +95,15 @@ public class SVGRenderer {
    */
   public SVGRenderer(String file, InputStream in) throws IOException {
     // load the SVG
-    doc = SVGImageUtils.getDocument(file, in);
+    this(SVGImageUtils.getDocument(file, in));
+  }
+
+  /**
+   * Render an already parsed document, e.g. one from the {@link SVGDocumentCache}.
+   * Rendering modifies the document, so it must not be shared.
+   */
+  public SVGRenderer(SVGDocument doc) throws IOException {
+    this.doc = doc;
 
     // get the default image size
     final Dimension s = SVGImageUtils.getImageSize(doc);
@@ -24,6 +24,7 @@ import java.awt.Rectangle;
 import java.awt.image.BufferedImage;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
@@ -37,12 +38,19 @@ import VASSAL.tools.opcache.OpObserver;
 /**
  * An {@link ImageOp} which uses a {@link GamePiece} as its source.
  *
+ * Pieces of the same type in the same visible state look alike, so their
+ * <code>GamePieceOpImpl</code>s are equal and share one cached image (and
+ * one image for each scaled or rotated <code>ImageOp</code> built on them).
+ * Traits declare which parts of their state affect their appearance
+ * through {@link Properties#VISIBLE_STATE}.
+ *
  * @since 3.1.0
  * @author Joel Uckelman
  */
 public class GamePieceOpImpl extends AbstractTileOpImpl implements GamePieceOp {
   /** The image source for this <code>ImageOp</code>. */
   private final GamePiece piece;
+  private final String type;
   private final String state;
   private final int hash;
 
@@ -56,8 +64,9 @@ public class GamePieceOpImpl extends AbstractTileOpImpl implements GamePieceOp {
   public GamePieceOpImpl(GamePiece gp) {
     if (gp == null) throw new IllegalArgumentException();
     piece = gp;
+    type = piece.getType();
     state = String.valueOf(piece.getProperty(Properties.VISIBLE_STATE));
-    hash = piece.hashCode();
+    hash = Objects.hash(type, state);
   }
 
   @Override
@@ -140,9 +149,10 @@ public class GamePieceOpImpl extends AbstractTileOpImpl implements GamePieceOp {
     if (this == o) return true;
     if (o == null || o.getClass() != this.getClass()) return false;
 
-    final GamePieceOp op = (GamePieceOp) o;
-    return piece.equals(op.getPiece()) &&
-           state.equals(op.getState());
+    final GamePieceOpImpl op = (GamePieceOpImpl) o;
+    return hash == op.hash &&
+           state.equals(op.state) &&
+           type.equals(op.type);
   }
 
   /** {@inheritDoc} */
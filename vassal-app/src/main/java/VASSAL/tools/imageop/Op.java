@@ -27,6 +27,7 @@ import VASSAL.tools.ErrorDialog;
 import VASSAL.tools.image.ImageIOException;
 import VASSAL.tools.image.ImageNotFoundException;
 import VASSAL.tools.image.UnrecognizedImageTypeException;
+import VASSAL.tools.image.svg.SVGDocumentCache;
 import VASSAL.tools.image.tilecache.TileNotFoundException;
 import VASSAL.tools.opcache.OpFailedException;
 
@@ -128,6 +129,7 @@ public class Op {
 
   public static void clearCache() {
     AbstractOpImpl.clearCache();
+    SVGDocumentCache.clear();
   }
 
   public static boolean handleException(Exception e) {
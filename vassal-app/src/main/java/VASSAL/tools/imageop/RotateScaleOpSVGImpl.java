@@ -21,9 +21,7 @@ package VASSAL.tools.imageop;
 import java.awt.Rectangle;
 import java.awt.RenderingHints;
 import java.awt.image.BufferedImage;
-import java.io.BufferedInputStream;
 import java.io.FileNotFoundException;
-import java.io.InputStream;
 import java.io.IOException;
 import java.nio.file.NoSuchFileException;
 import java.util.Collections;
@@ -36,6 +34,7 @@ import VASSAL.tools.DataArchive;
 import VASSAL.tools.image.ImageIOException;
 import VASSAL.tools.image.ImageNotFoundException;
 import VASSAL.tools.image.ImageUtils;
+import VASSAL.tools.image.svg.SVGDocumentCache;
 import VASSAL.tools.image.svg.SVGRenderer;
 
 /**
@@ -113,9 +112,8 @@ public class RotateScaleOpSVGImpl extends AbstractTileOpImpl
     final DataArchive archive = GameModule.getGameModule().getDataArchive();
     final String name = getName();
 
-    try (InputStream in = archive.getInputStream(name);
-         BufferedInputStream bin = new BufferedInputStream(in)) {
-      final SVGRenderer renderer = new SVGRenderer(archive.getURL(name), bin);
+    try {
+      final SVGRenderer renderer = new SVGRenderer(SVGDocumentCache.getDocument(archive, name));
 
       if (size == null) fixSize();
 
@@ -30,6 +30,7 @@ import java.util.List;
 import VASSAL.build.GameModule;
 import VASSAL.tools.DataArchive;
 import VASSAL.tools.ErrorDialog;
+import VASSAL.tools.image.DecodedImageCache;
 import VASSAL.tools.image.ImageIOException;
 import VASSAL.tools.image.ImageNotFoundException;
 import VASSAL.tools.image.ImageUtils;
@@ -110,6 +111,17 @@ public class SourceOpBitmapImpl extends AbstractTiledOpImpl
    */
   @Override
   public BufferedImage eval() throws ImageIOException {
+    // Images from a module may already have been decoded in an earlier session
+    return darch != null ?
+      DecodedImageCache.getImage(darch, name, this::decode) : decode();
+  }
+
+  /**
+   * Decode the image from the image file.
+   *
+   * @throws ImageIOException if the image cannot be loaded from the image file.
+   */
+  protected BufferedImage decode() throws ImageIOException {
     try (InputStream in = getInputStream()) {
       return ImageUtils.getImage(name, in);
     }
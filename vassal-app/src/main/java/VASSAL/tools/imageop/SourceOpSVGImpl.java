@@ -20,10 +20,8 @@ package VASSAL.tools.imageop;
 
 import java.awt.Dimension;
 import java.awt.image.BufferedImage;
-import java.io.BufferedInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.io.InputStream;
 import java.nio.file.NoSuchFileException;
 import java.util.Collections;
 import java.util.List;
@@ -34,6 +32,7 @@ import VASSAL.tools.ErrorDialog;
 import VASSAL.tools.image.ImageIOException;
 import VASSAL.tools.image.ImageNotFoundException;
 import VASSAL.tools.image.svg.SVGImageUtils;
+import VASSAL.tools.image.svg.SVGDocumentCache;
 import VASSAL.tools.image.svg.SVGRenderer;
 
 /**
@@ -85,9 +84,8 @@ public class SourceOpSVGImpl extends AbstractTiledOpImpl
    */
   @Override
   public BufferedImage eval() throws ImageIOException {
-    try (InputStream in = archive.getInputStream(name);
-         BufferedInputStream bin = new BufferedInputStream(in)) {
-      final SVGRenderer renderer = new SVGRenderer(archive.getURL(name), bin);
+    try {
+      final SVGRenderer renderer = new SVGRenderer(SVGDocumentCache.getDocument(archive, name));
       return renderer.render();
     }
     catch (FileNotFoundException | NoSuchFileException e) {
@@ -111,8 +109,9 @@ public class SourceOpSVGImpl extends AbstractTiledOpImpl
 
   protected Dimension getImageSize() {
     try {
-      try (InputStream in = archive.getInputStream(name)) {
-        return SVGImageUtils.getImageSize(name, in);
+      try {
+        // Parsing the document here also caches it for rendering
+        return SVGImageUtils.getImageSize(SVGDocumentCache.getDocument(archive, name));
       }
       catch (ImageIOException e) {
         // Don't wrap, just rethrow.
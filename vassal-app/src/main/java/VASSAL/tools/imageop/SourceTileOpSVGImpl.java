@@ -21,20 +21,21 @@ package VASSAL.tools.imageop;
 import java.awt.Dimension;
 import java.awt.geom.Rectangle2D;
 import java.awt.image.BufferedImage;
-import java.io.BufferedInputStream;
 import java.io.FileNotFoundException;
-import java.io.InputStream;
 import java.io.IOException;
 import java.nio.file.NoSuchFileException;
 import java.util.Collections;
 import java.util.List;
 
 import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import VASSAL.build.GameModule;
 import VASSAL.tools.DataArchive;
 import VASSAL.tools.image.ImageIOException;
 import VASSAL.tools.image.ImageNotFoundException;
+import VASSAL.tools.image.svg.SVGDocumentCache;
 import VASSAL.tools.image.svg.SVGRenderer;
 import VASSAL.tools.opcache.Op;
 
@@ -47,6 +48,8 @@ import VASSAL.tools.opcache.Op;
  */
 public class SourceTileOpSVGImpl extends AbstractTileOpImpl
                                  implements SVGOp {
+  private static final Logger logger = LoggerFactory.getLogger(SourceTileOpSVGImpl.class);
+
   private final SVGOp sop;
   private final int x0, y0, x1, y1;
   private final int hash;
@@ -91,12 +94,14 @@ public class SourceTileOpSVGImpl extends AbstractTileOpImpl
     final DataArchive archive = GameModule.getGameModule().getDataArchive();
     final String name = getName();
 
-    try (InputStream in = archive.getInputStream(name);
-         BufferedInputStream bin = new BufferedInputStream(in)) {
-      final SVGRenderer renderer = new SVGRenderer(archive.getURL(name), bin);
+    try {
+      final long start = System.currentTimeMillis();
+      final SVGRenderer renderer = new SVGRenderer(SVGDocumentCache.getDocument(archive, name));
 
       final Rectangle2D aoi = new Rectangle2D.Float(x0, y0, x1 - x0, y1 - y0);
-      return renderer.render(0.0, 1.0, aoi);
+      final BufferedImage image = renderer.render(0.0, 1.0, aoi);
+      logger.debug("Rendered tile {} of {} in {} ms", aoi.getBounds(), name, System.currentTimeMillis() - start); //NON-NLS
+      return image;
     }
     catch (FileNotFoundException | NoSuchFileException e) {
       throw new ImageNotFoundException(name, e);
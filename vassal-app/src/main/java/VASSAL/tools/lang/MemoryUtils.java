@@ -18,6 +18,8 @@
 package VASSAL.tools.lang;
 
 import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
 
 import com.sun.management.OperatingSystemMXBean;
 
@@ -55,6 +57,33 @@ public class MemoryUtils {
     return -1;
   }
 
+  /**
+   * Starts measuring peak heap usage afresh, for {@link #getPeakHeapUsage}.
+   */
+  public static void resetPeakHeapUsage() {
+    for (final MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+      if (pool.getType() == MemoryType.HEAP) {
+        pool.resetPeakUsage();
+      }
+    }
+  }
+
+  /**
+   * Gets the peak heap usage since the JVM started or {@link #resetPeakHeapUsage} was last called. The peak of
+   * each heap memory pool is added up, so this is an upper bound: the pools need not all have peaked at once.
+   *
+   * @return the peak heap usage, in bytes
+   */
+  public static long getPeakHeapUsage() {
+    long peak = 0;
+    for (final MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+      if (pool.getType() == MemoryType.HEAP) {
+        peak += pool.getPeakUsage().getUsed();
+      }
+    }
+    return peak;
+  }
+
   public static void main(String[] args) {
     final long ram = getPhysicalMemory();
     if (ram >= 0) {
@@ -0,0 +1,176 @@
+package VASSAL.build.module;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import VASSAL.build.GameModule;
+import VASSAL.build.module.index.IndexManager;
+import VASSAL.command.Command;
+import VASSAL.counters.GamePiece;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+
+public class BasicLoggerTest {
+
+  /** The whole game state: the number of replay steps which have been executed */
+  private final AtomicInteger state = new AtomicInteger();
+
+  /** Number of replay steps executed, including those replayed again after restoring a checkpoint */
+  private final AtomicInteger executed = new AtomicInteger();
+
+  private MockedStatic<GameModule> staticGm;
+  private GameModule gm;
+  private GameState gs;
+  private AttachmentManager attachments;
+  private IndexManager indexManager;
+
+  /** A replay step */
+  private class Step extends Command {
+    @Override
+    protected void executeCommand() {
+      state.incrementAndGet();
+      executed.incrementAndGet();
+    }
+
+    @Override
+    protected Command myUndoCommand() {
+      return null;
+    }
+  }
+
+  /** Restores the game state recorded in a checkpoint */
+  private class Restore extends Command {
+    private final int value;
+
+    Restore(int value) {
+      this.value = value;
+    }
+
+    @Override
+    protected void executeCommand() {
+      state.set(value);
+    }
+
+    @Override
+    protected Command myUndoCommand() {
+      return null;
+    }
+  }
+
+  @BeforeEach
+  public void setUp() {
+    gm = mock(GameModule.class);
+    gs = mock(GameState.class);
+    attachments = mock(AttachmentManager.class);
+    indexManager = mock(IndexManager.class);
+    when(gm.getGameState()).thenReturn(gs);
+    when(gm.getIndexManager()).thenReturn(indexManager);
+    when(gs.getAttachmentManager()).thenReturn(attachments);
+    when(gs.getRestoreCommand()).thenAnswer(i -> new Restore(state.get()));
+    when(gm.encode(any())).thenAnswer(i -> String.valueOf(((Restore) i.getArgument(0)).value));
+    when(gm.decode(anyString())).thenAnswer(i -> new Restore(Integer.parseInt(i.getArgument(0))));
+
+    staticGm = Mockito.mockStatic(GameModule.class);
+    staticGm.when(GameModule::getGameModule).thenReturn(gm);
+  }
+
+  @AfterEach
+  public void tearDown() {
+    staticGm.close();
+  }
+
+  private BasicLogger replay(int steps) {
+    final BasicLogger logger = new BasicLogger();
+    logger.setup(true);
+    for (int i = 0; i < steps; ++i) {
+      logger.logInput.add(new Step());
+    }
+    return logger;
+  }
+
+  @Test
+  public void seekForwardAndBackward() {
+    final BasicLogger logger = replay(450);
+
+    logger.seek(450);
+    assertThat(state.get(), is(450));
+    assertThat(logger.getReplayPosition(), is(450));
+    assertThat(logger.isReplaying(), is(false));
+
+    // Back to the checkpoint at step 200, then forward again to 250
+    executed.set(0);
+    logger.seek(250);
+    assertThat(state.get(), is(250));
+    assertThat(logger.getReplayPosition(), is(250));
+    assertThat(executed.get(), is(50));
+
+    logger.seek(10);
+    assertThat(state.get(), is(10));
+    assertThat(logger.getReplayPosition(), is(10));
+
+    // Out of range steps are clamped
+    logger.seek(-5);
+    assertThat(state.get(), is(0));
+    logger.seek(1000);
+    assertThat(state.get(), is(450));
+  }
+
+  @Test
+  public void restoreCheckpointReplacesPieces() {
+    final BasicLogger logger = replay(5);
+    final GamePiece piece = mock(GamePiece.class);
+    when(piece.getId()).thenReturn("1");
+    when(gs.getAllPieces()).thenReturn(List.of(piece));
+
+    logger.seek(5);
+    logger.seek(2);
+
+    assertThat(state.get(), is(2));
+    verify(gs, times(1)).removePiece("1");
+    verify(attachments, times(1)).clearAll();
+    verify(attachments, times(1)).resolvePendingAttachments();
+    verify(indexManager, times(1)).rebuild();
+    assertThat(logger.undoAction.isEnabled(), is(false));
+  }
+
+  @Test
+  public void seekingOnlyOfferedWhileReplayingWithCheckpoints() {
+    // A new game, with no logfile
+    final BasicLogger logger = replay(0);
+    assertThat(logger.jumpAction.isEnabled(), is(false));
+    assertThat(logger.stepBackAction.isEnabled(), is(false));
+
+    // A logfile which hasn't been stepped through yet has no checkpoints
+    logger.logInput.add(new Step());
+    logger.logInput.add(new Step());
+    logger.logInput.add(new Step());
+    assertThat(logger.jumpAction.isEnabled(), is(false));
+
+    logger.seek(2);
+    assertThat(logger.jumpAction.isEnabled(), is(true));
+    assertThat(logger.stepBackAction.isEnabled(), is(true));
+
+    // Once the player makes a move of their own, the replay can no longer go backward
+    logger.log(new Step());
+    assertThat(logger.stepBackAction.isEnabled(), is(false));
+    logger.seek(0);
+    assertThat(state.get(), is(2));
+    verify(gm, times(1)).warn(any());
+
+    // Closing the game turns seeking off again
+    logger.setup(false);
+    assertThat(logger.jumpAction.isEnabled(), is(false));
+    assertThat(logger.stepBackAction.isEnabled(), is(false));
+  }
+}
@@ -0,0 +1,149 @@
+package VASSAL.build.module.index;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import VASSAL.counters.GamePiece;
+import org.junit.jupiter.api.Test;
+
+import java.awt.Point;
+import java.awt.Rectangle;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+public class PieceBoundsIndexTest {
+
+  private static GamePiece piece(int x, int y) {
+    final GamePiece p = mock(GamePiece.class);
+    when(p.boundingBox()).thenAnswer(i -> new Rectangle(-20, -20, 40, 40));
+    when(p.getPosition()).thenReturn(new Point(x, y));
+    return p;
+  }
+
+  @Test
+  public void candidatesTest() {
+    final PieceBoundsIndex index = new PieceBoundsIndex();
+    final GamePiece p1 = piece(100, 100);
+    final GamePiece p2 = piece(110, 110);
+    final GamePiece p3 = piece(1000, 1000);
+
+    index.update(() -> new GamePiece[] {p1, p2, p3});
+    assertThat(index.isValid(), is(true));
+    assertThat(index.getCount(), is(3));
+
+    Set<GamePiece> candidates = index.getCandidates(new Point(95, 95));
+    assertThat(index.isCandidate(p1, candidates), is(true));
+    assertThat(index.isCandidate(p2, candidates), is(true));
+    assertThat(index.isCandidate(p3, candidates), is(false));
+
+    candidates = index.getCandidates(new Point(125, 125));
+    assertThat(index.isCandidate(p1, candidates), is(false));
+    assertThat(index.isCandidate(p2, candidates), is(true));
+    assertThat(index.isCandidate(p3, candidates), is(false));
+
+    // Pieces the index has never seen must always be tested
+    final GamePiece unknown = piece(5000, 5000);
+    assertThat(index.isCandidate(unknown, candidates), is(true));
+  }
+
+  @Test
+  public void invalidateRegionTest() {
+    final PieceBoundsIndex index = new PieceBoundsIndex();
+    final GamePiece p1 = piece(100, 100);
+    final GamePiece p2 = piece(1000, 1000);
+    index.update(() -> new GamePiece[] {p1, p2});
+
+    // Move p1, repainting its old location rather than invalidating it directly
+    when(p1.getPosition()).thenReturn(new Point(500, 500));
+    index.invalidate(new Rectangle(80, 80, 40, 40));
+    index.update(() -> new GamePiece[] {p1, p2});
+
+    Set<GamePiece> candidates = index.getCandidates(new Point(100, 100));
+    assertThat(index.isCandidate(p1, candidates), is(false));
+
+    candidates = index.getCandidates(new Point(505, 495));
+    assertThat(index.isCandidate(p1, candidates), is(true));
+    assertThat(index.isCandidate(p2, candidates), is(false));
+  }
+
+  @Test
+  public void removeAndInvalidateTest() {
+    final PieceBoundsIndex index = new PieceBoundsIndex();
+    final GamePiece p1 = piece(100, 100);
+    final GamePiece p2 = piece(100, 100);
+    index.update(() -> new GamePiece[] {p1, p2});
+
+    index.removePiece(p1);
+    assertThat(index.getCount(), is(1));
+    final Set<GamePiece> candidates = index.getCandidates(new Point(100, 100));
+    assertThat(candidates.contains(p1), is(false));
+    assertThat(candidates.contains(p2), is(true));
+
+    index.invalidate();
+    assertThat(index.isValid(), is(false));
+    index.update(() -> new GamePiece[] {p2});
+    assertThat(index.isValid(), is(true));
+    assertThat(index.getCount(), is(1));
+  }
+
+  @Test
+  public void movedTest() {
+    final PieceBoundsIndex index = new PieceBoundsIndex();
+    final GamePiece p1 = piece(100, 100);
+    final GamePiece p2 = piece(1000, 1000);
+    index.update(() -> new GamePiece[] {p1, p2});
+
+    // Once the index is built, only the pieces it is told about are looked at again
+    final AtomicInteger rebuilds = new AtomicInteger();
+    final Supplier<GamePiece[]> pieces = () -> {
+      rebuilds.incrementAndGet();
+      return new GamePiece[] {p1, p2};
+    };
+
+    when(p1.getPosition()).thenReturn(new Point(500, 500));
+    index.invalidate(p1);
+    index.update(pieces);
+
+    Set<GamePiece> candidates = index.getCandidates(new Point(100, 100));
+    assertThat(index.isCandidate(p1, candidates), is(false));
+
+    candidates = index.getCandidates(new Point(505, 495));
+    assertThat(index.isCandidate(p1, candidates), is(true));
+    assertThat(index.isCandidate(p2, candidates), is(false));
+
+    // Pieces placed on the Map are indexed on the next update
+    final GamePiece p3 = piece(2000, 2000);
+    index.addPiece(p3);
+    index.update(pieces);
+    assertThat(index.getCount(), is(3));
+    assertThat(index.getCandidates(new Point(2010, 2010)).contains(p3), is(true));
+
+    assertThat(rebuilds.get(), is(0));
+  }
+
+  @Test
+  public void boundsChangedTest() {
+    final PieceBoundsIndex index = new PieceBoundsIndex();
+    final GamePiece p1 = piece(100, 100);
+    final GamePiece p2 = piece(1000, 1000);
+    index.update(() -> new GamePiece[] {p1, p2});
+
+    // p1 grows without moving, which the index can't notice for itself
+    when(p1.boundingBox()).thenAnswer(i -> new Rectangle(-200, -200, 400, 400));
+    index.update(() -> new GamePiece[] {p1, p2});
+    assertThat(index.isCandidate(p1, index.getCandidates(new Point(250, 250))), is(false));
+
+    // Until it is told
+    index.invalidate(p1);
+    index.update(() -> new GamePiece[] {p1, p2});
+    assertThat(index.isCandidate(p1, index.getCandidates(new Point(250, 250))), is(true));
+
+    // Invalidating a piece which isn't on the Map doesn't add it
+    index.invalidate(piece(100, 100));
+    index.update(() -> new GamePiece[] {p1, p2});
+    assertThat(index.getCount(), is(2));
+  }
+}
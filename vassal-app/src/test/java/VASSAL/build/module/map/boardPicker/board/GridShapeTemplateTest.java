@@ -0,0 +1,46 @@
+package VASSAL.build.module.map.boardPicker.board;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+import org.junit.jupiter.api.Test;
+
+import java.awt.Point;
+import java.awt.Shape;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Area;
+
+public class GridShapeTemplateTest {
+
+  private static void assertTemplateMatches(GeometricGrid grid) {
+    for (int range = 0; range <= 3; ++range) {
+      final Point center = new Point(137, 211);
+      final Shape template = grid.getGridShapeTemplate(center, range);
+      final Area placed = new Area(AffineTransform.getTranslateInstance(center.x, center.y).createTransformedShape(template));
+      assertThat(placed.equals(grid.getGridShape(center, range)), is(true));
+
+      // The same template is shared wherever it is centred
+      assertThat(grid.getGridShapeTemplate(new Point(5, 9), range), is(sameInstance(template)));
+    }
+  }
+
+  @Test
+  public void hexTemplateMatchesGridShape() {
+    assertTemplateMatches(new HexGrid());
+  }
+
+  @Test
+  public void squareTemplateMatchesGridShape() {
+    assertTemplateMatches(new SquareGrid());
+  }
+
+  @Test
+  public void gridShapeIsNotShared() {
+    final HexGrid grid = new HexGrid();
+    final Point center = new Point(50, 50);
+    final Area a = grid.getGridShape(center, 2);
+    a.reset();
+    assertThat(grid.getGridShape(center, 2).isEmpty(), is(false));
+  }
+}
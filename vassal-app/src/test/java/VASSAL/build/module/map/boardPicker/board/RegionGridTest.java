@@ -0,0 +1,78 @@
+package VASSAL.build.module.map.boardPicker.board;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import org.junit.jupiter.api.Test;
+
+import java.awt.Point;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+public class RegionGridTest {
+
+  private static Region addRegion(RegionGrid grid, String name, int x, int y) {
+    final Region r = new Region(new Point(x, y));
+    r.setConfigureName(name);
+    r.addTo(grid);
+    return r;
+  }
+
+  private static long nearestDistSq(List<Region> regions, Point p) {
+    long best = Long.MAX_VALUE;
+    for (final Region r : regions) {
+      final long dx = r.getOrigin().x - p.x;
+      final long dy = r.getOrigin().y - p.y;
+      best = Math.min(best, dx * dx + dy * dy);
+    }
+    return best;
+  }
+
+  @Test
+  public void snapsToNearestRegion() {
+    final RegionGrid grid = new RegionGrid();
+    final Random random = new Random(42);
+    final List<Region> regions = new ArrayList<>();
+    for (int i = 0; i < 500; ++i) {
+      regions.add(addRegion(grid, "R" + i, random.nextInt(3000), random.nextInt(2000))); // NON-NLS
+    }
+    // A cluster, so that the cells are unevenly filled
+    for (int i = 0; i < 100; ++i) {
+      regions.add(addRegion(grid, "C" + i, 100 + random.nextInt(20), 100 + random.nextInt(20))); // NON-NLS
+    }
+
+    for (int i = 0; i < 2000; ++i) {
+      // Including points well outside the regions
+      final Point p = new Point(random.nextInt(5000) - 1000, random.nextInt(4000) - 1000);
+      final Point snap = grid.snapTo(p, true);
+      final long dx = snap.x - p.x;
+      final long dy = snap.y - p.y;
+      assertThat(dx * dx + dy * dy, is(nearestDistSq(regions, p)));
+      assertThat(grid.locationName(p), is(grid.getRegionList().get(snap).getName()));
+    }
+  }
+
+  @Test
+  public void followsRegionChanges() {
+    final RegionGrid grid = new RegionGrid();
+    final Region a = addRegion(grid, "A", 0, 0); // NON-NLS
+    final Region b = addRegion(grid, "B", 100, 0); // NON-NLS
+
+    assertThat(grid.locationName(new Point(90, 0)), is(equalTo("B"))); // NON-NLS
+    assertThat(grid.findRegion("A"), is(a)); // NON-NLS
+
+    grid.removeRegion(b);
+    assertThat(grid.locationName(new Point(90, 0)), is(equalTo("A"))); // NON-NLS
+    assertThat(grid.findRegion("B"), is(nullValue())); // NON-NLS
+
+    a.setConfigureName("Z"); // NON-NLS
+    assertThat(grid.findRegion("A"), is(nullValue())); // NON-NLS
+    assertThat(grid.findRegion("Z"), is(a)); // NON-NLS
+
+    grid.removeAllRegions();
+    assertThat(grid.locationName(new Point(90, 0)), is(nullValue()));
+  }
+}
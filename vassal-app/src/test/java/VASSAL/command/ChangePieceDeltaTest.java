@@ -0,0 +1,176 @@
+package VASSAL.command;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import VASSAL.build.BadDataReport;
+import VASSAL.build.GameModule;
+import VASSAL.build.module.BasicCommandEncoder;
+import VASSAL.build.module.GameState;
+import VASSAL.build.module.GlobalOptions;
+import VASSAL.counters.BasicPiece;
+import VASSAL.counters.Decorator;
+import VASSAL.counters.DynamicProperty;
+import VASSAL.counters.GamePiece;
+import VASSAL.tools.ErrorDialog;
+
+import java.awt.Point;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+
+public class ChangePieceDeltaTest {
+
+  static final String id = "1234";
+
+  @BeforeEach
+  public void compactCommandsOn() {
+    GlobalOptions.getInstance().setAttribute(GlobalOptions.COMPACT_COMMANDS, Boolean.TRUE);
+  }
+
+  @AfterEach
+  public void compactCommandsOff() {
+    GlobalOptions.getInstance().setAttribute(GlobalOptions.COMPACT_COMMANDS, Boolean.FALSE);
+  }
+
+  private GamePiece createPiece() {
+    final BasicPiece bp = new BasicPiece();
+    bp.setId(id);
+    final DynamicProperty inner = new DynamicProperty(DynamicProperty.ID + "inner", bp); // NON-NLS
+    final DynamicProperty outer = new DynamicProperty(DynamicProperty.ID + "outer", inner); // NON-NLS
+    outer.setValue("1");
+    inner.setValue("2");
+    return outer;
+  }
+
+  @Test
+  public void traitStatesTest() {
+    final GamePiece piece = createPiece();
+    final String[] states = ChangePieceDelta.getTraitStates(piece);
+    assertThat(states.length, is(equalTo(3)));
+    assertThat(states[0], is(equalTo("1")));
+    assertThat(states[1], is(equalTo("2")));
+    assertThat(ChangePieceDelta.getState(states), is(equalTo(piece.getState())));
+
+    // A piece with no traits is changed by ChangePiece
+    assertThat(ChangePieceDelta.getTraitStates(new BasicPiece()), is(nullValue()));
+  }
+
+  @Test
+  public void changedTraitsOnlyTest() {
+    final GamePiece piece = createPiece();
+    final String[] before = ChangePieceDelta.getTraitStates(piece);
+    ((DynamicProperty) piece).setValue("3");
+    final ChangePieceDelta c = new ChangePieceDelta(id, before, ChangePieceDelta.getTraitStates(piece));
+
+    assertThat(c.getTraitCount(), is(equalTo(3)));
+    assertThat(c.getNewStates().keySet().size(), is(equalTo(1)));
+    assertThat(c.getNewStates().get(0), is(equalTo("3")));
+    assertThat(c.getOldStates().get(0), is(equalTo("1")));
+  }
+
+  @Test
+  public void executionTest() {
+    try (MockedStatic<GameModule> staticGm = Mockito.mockStatic(GameModule.class)) {
+      final GamePiece piece = createPiece();
+      final GamePiece remote = createPiece();
+
+      final GameModule gm = mock(GameModule.class);
+      final GameState gs = mock(GameState.class);
+      when(gs.getPieceForId(id)).thenReturn(remote);
+      when(gm.getGameState()).thenReturn(gs);
+      staticGm.when(GameModule::getGameModule).thenReturn(gm);
+
+      final ChangeTracker tracker = new ChangeTracker(piece);
+      ((DynamicProperty) piece).setValue("5");
+      final Command c = tracker.getChangeCommand();
+      assertThat(c instanceof ChangePieceDelta, is(true));
+
+      c.execute();
+      assertThat(remote.getState(), is(equalTo(piece.getState())));
+
+      c.getUndoCommand().execute();
+      assertThat(((DynamicProperty) remote).getValue(), is(equalTo("1")));
+    }
+  }
+
+  @Test
+  public void fullChangeUnlessCompactCommandsAreOnTest() {
+    compactCommandsOff();
+    final GamePiece piece = createPiece();
+    final ChangeTracker tracker = new ChangeTracker(piece);
+    ((DynamicProperty) piece).setValue("5");
+    assertThat(tracker.getChangeCommand() instanceof ChangePiece, is(true));
+  }
+
+  private ChangePieceDelta roundTrip(Command c) {
+    final BasicCommandEncoder encoder = new BasicCommandEncoder();
+    final Command decoded = encoder.decode(encoder.encode(c));
+    assertThat(decoded instanceof ChangePieceDelta, is(true));
+    return (ChangePieceDelta) decoded;
+  }
+
+  @Test
+  public void encodeDecodeTest() {
+    try (MockedStatic<GameModule> staticGm = Mockito.mockStatic(GameModule.class)) {
+      final GamePiece piece = createPiece();
+      final GamePiece remote = createPiece();
+
+      final GameModule gm = mock(GameModule.class);
+      final GameState gs = mock(GameState.class);
+      when(gs.getPieceForId(id)).thenReturn(remote);
+      when(gm.getGameState()).thenReturn(gs);
+      staticGm.when(GameModule::getGameModule).thenReturn(gm);
+
+      // From an empty state to a value, and from a value to an empty state
+      ((DynamicProperty) piece).setValue("");
+      ((DynamicProperty) remote).setValue("");
+      ChangeTracker tracker = new ChangeTracker(piece);
+      ((DynamicProperty) piece).setValue("7");
+      final DynamicProperty inner = (DynamicProperty) ((Decorator) piece).getInner();
+      inner.setValue("");
+      ChangePieceDelta c = (ChangePieceDelta) tracker.getChangeCommand();
+      ChangePieceDelta decoded = roundTrip(c);
+
+      assertThat(decoded.getId(), is(equalTo(id)));
+      assertThat(decoded.getTraitCount(), is(equalTo(3)));
+      assertThat(decoded.getNewStates(), is(equalTo(c.getNewStates())));
+      assertThat(decoded.getOldStates(), is(equalTo(c.getOldStates())));
+      decoded.execute();
+      assertThat(remote.getState(), is(equalTo(piece.getState())));
+
+      // A change to the innermost BasicPiece alone
+      tracker = new ChangeTracker(piece);
+      Decorator.getInnermost(piece).setPosition(new Point(12, 34));
+      c = (ChangePieceDelta) tracker.getChangeCommand();
+      assertThat(c.getNewStates().keySet().size(), is(equalTo(1)));
+      assertThat(c.getNewStates().firstKey(), is(equalTo(2)));
+      decoded = roundTrip(c);
+
+      assertThat(decoded.getNewStates(), is(equalTo(c.getNewStates())));
+      assertThat(decoded.getOldStates(), is(equalTo(c.getOldStates())));
+      decoded.execute();
+      assertThat(remote.getState(), is(equalTo(piece.getState())));
+      assertThat(remote.getPosition(), is(equalTo(new Point(12, 34))));
+    }
+  }
+
+  @Test
+  public void decodeOutOfRangeTraitTest() {
+    try (MockedStatic<ErrorDialog> staticError = Mockito.mockStatic(ErrorDialog.class)) {
+      final Command c = new BasicCommandEncoder().decode(BasicCommandEncoder.CHANGE_TRAITS + id + "/3/0/a/b/3/c/d/-1/e/f"); // NON-NLS
+      assertThat(c instanceof ChangePieceDelta, is(true));
+      assertThat(((ChangePieceDelta) c).getNewStates().keySet().size(), is(equalTo(1)));
+      assertThat(((ChangePieceDelta) c).getNewStates().get(0), is(equalTo("a")));
+      staticError.verify(() -> ErrorDialog.dataWarning(any(BadDataReport.class)), Mockito.times(2));
+    }
+  }
+}
@@ -20,9 +20,13 @@ package VASSAL.counters;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.Mockito.mock;
 
+import VASSAL.build.module.map.MapShader;
 import VASSAL.tools.NamedKeyStroke;
 import java.awt.Color;
+import java.awt.geom.Area;
 import java.lang.reflect.InvocationTargetException;
 import javax.swing.KeyStroke;
 import org.junit.jupiter.api.Test;
@@ -164,6 +168,29 @@ public class AreaOfEffectTest extends DecoratorTest {
     assertThat(testType + "Active property true when always active", trait.getProperty(prop), is(equalTo("true")));
   }
 
+  @Test
+  void overriddenAreaHasNoPredictedBounds() {
+    final MapShader shader = mock(MapShader.class);
+
+    final AreaOfEffect plain = new AreaOfEffect() {
+      @Override
+      protected Area getArea() {
+        return new Area();
+      }
+    };
+    plain.setInner(createBasicPiece());
+    assertThat(plain.getAreaBounds(shader), is(nullValue()));
+
+    final AreaOfEffect shaded = new AreaOfEffect() {
+      @Override
+      public Area getArea(MapShader shader) {
+        return new Area();
+      }
+    };
+    shaded.setInner(createBasicPiece());
+    assertThat(shaded.getAreaBounds(shader), is(nullValue()));
+  }
+
   class DummyPiece extends BasicPiece {
     @Override
     public Object getPublicProperty(Object key) {
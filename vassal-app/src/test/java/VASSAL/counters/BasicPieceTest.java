@@ -19,12 +19,16 @@ package VASSAL.counters;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.doAnswer;
 
 import VASSAL.build.GameModule;
 import VASSAL.build.module.Map;
+import VASSAL.build.module.map.boardPicker.board.mapgrid.Zone;
 import VASSAL.tools.DataArchive;
 import java.awt.Point;
 import org.junit.jupiter.api.Test;
@@ -100,4 +104,37 @@ public class BasicPieceTest {
       }
     }
   }
-}
\ No newline at end of file
+
+  @Test
+  public void locationCacheTest() {
+    final Zone zone = mock(Zone.class);
+    when(zone.getName()).thenReturn("Zone"); // NON-NLS
+
+    final Map map = mock(Map.class);
+    when(map.findZone(any(Point.class))).thenReturn(zone);
+    when(map.locationName(any(Point.class))).thenReturn("Here"); // NON-NLS
+    when(map.getBoardsVersion()).thenReturn(1);
+
+    final BasicPiece bp = new BasicPiece();
+    bp.setMap(map);
+    bp.setPosition(new Point(10, 10));
+
+    // Repeated lookups only look on the map once
+    assertThat(bp.getProperty(BasicPiece.CURRENT_ZONE), is(equalTo("Zone"))); // NON-NLS
+    assertThat(bp.getProperty(BasicPiece.CURRENT_ZONE), is(equalTo("Zone"))); // NON-NLS
+    assertThat(bp.getProperty(BasicPiece.LOCATION_NAME), is(equalTo("Here"))); // NON-NLS
+    assertThat(bp.getProperty(BasicPiece.LOCATION_NAME), is(equalTo("Here"))); // NON-NLS
+    verify(map, times(1)).findZone(any(Point.class));
+    verify(map, times(1)).locationName(any(Point.class));
+
+    // Moving the piece looks again
+    bp.setPosition(new Point(20, 20));
+    assertThat(bp.getProperty(BasicPiece.CURRENT_ZONE), is(equalTo("Zone"))); // NON-NLS
+    verify(map, times(2)).findZone(any(Point.class));
+
+    // So does changing the boards
+    when(map.getBoardsVersion()).thenReturn(2);
+    assertThat(bp.getProperty(BasicPiece.CURRENT_ZONE), is(equalTo("Zone"))); // NON-NLS
+    verify(map, times(3)).findZone(any(Point.class));
+  }
+}
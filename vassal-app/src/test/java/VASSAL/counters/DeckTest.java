@@ -2,7 +2,11 @@ package VASSAL.counters;
 
 import VASSAL.build.GameModule;
 import VASSAL.build.MockModuleTest;
+import VASSAL.build.module.BasicCommandEncoder;
+import VASSAL.build.module.GlobalOptions;
 import VASSAL.build.module.Map;
+import VASSAL.command.ChangePiece;
+import VASSAL.command.Command;
 import org.junit.jupiter.api.Test;
 
 import java.awt.Point;
@@ -10,11 +14,18 @@ import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 public class DeckTest extends MockModuleTest {
 
@@ -480,4 +491,189 @@ public class DeckTest extends MockModuleTest {
     assertEquals(gamePiece0, pieces.get(0));
     assertEquals(gamePiece1, pieces.get(1));
   }
+
+  @Test
+  public void reorderShouldRearrangeContents() {
+    // prepare
+    final GameModule gameModule = mock(GameModule.class);
+    final GamePiece gamePiece0 = mock(GamePiece.class);
+    final GamePiece gamePiece1 = mock(GamePiece.class);
+    final GamePiece gamePiece2 = mock(GamePiece.class);
+    Deck d = new Deck(gameModule);
+    d.add(gamePiece0);
+    d.add(gamePiece1);
+    d.add(gamePiece2);
+
+    // run
+    final int[] order = {2, 0, 1};
+    final Command c;
+    GlobalOptions.getInstance().setAttribute(GlobalOptions.COMPACT_COMMANDS, Boolean.TRUE);
+    try {
+      c = d.reorder(order);
+    }
+    finally {
+      GlobalOptions.getInstance().setAttribute(GlobalOptions.COMPACT_COMMANDS, Boolean.FALSE);
+    }
+
+    // assert
+    assertEquals(gamePiece2, d.getPieceAt(0));
+    assertEquals(gamePiece0, d.getPieceAt(1));
+    assertEquals(gamePiece1, d.getPieceAt(2));
+    assertTrue(c instanceof Deck.ReorderCommand);
+    assertArrayEquals(order, ((Deck.ReorderCommand) c).getOrder());
+  }
+
+  @Test
+  public void reorderShouldChangeContentsUnlessCompactCommandsAreOn() {
+    // prepare
+    final GameModule gameModule = mock(GameModule.class);
+    final GamePiece gamePiece0 = mock(GamePiece.class);
+    final GamePiece gamePiece1 = mock(GamePiece.class);
+    final GamePiece gamePiece2 = mock(GamePiece.class);
+    Deck d = new Deck(gameModule);
+    d.add(gamePiece0);
+    d.add(gamePiece1);
+    d.add(gamePiece2);
+
+    // run
+    final Command c = d.reorder(new int[] {2, 0, 1});
+
+    // assert
+    assertEquals(gamePiece2, d.getPieceAt(0));
+    assertEquals(gamePiece0, d.getPieceAt(1));
+    assertEquals(gamePiece1, d.getPieceAt(2));
+    assertTrue(c instanceof ChangePiece);
+  }
+
+  @Test
+  public void compactShuffleShouldEncodeSmallerThanChangedContents() {
+    // prepare a 300 card Deck with piece ids like those GameState hands out
+    final GameModule gameModule = mock(GameModule.class);
+    final Deck d = new Deck(gameModule);
+    d.setId("1697712340000"); // NON-NLS
+    final int size = 300;
+    for (int i = 0; i < size; ++i) {
+      final GamePiece p = mock(GamePiece.class);
+      when(p.getId()).thenReturn(Long.toString(1697712340001L + i));
+      d.add(p);
+    }
+    final int[] order = new int[size];
+    for (int i = 0; i < size; ++i) {
+      order[i] = (i * 7 + 3) % size;
+    }
+    final int[] inverse = new int[size];
+    for (int i = 0; i < size; ++i) {
+      inverse[order[i]] = i;
+    }
+    final BasicCommandEncoder encoder = new BasicCommandEncoder();
+
+    // run
+    final String full = encoder.encode(d.reorder(order));
+    final String compact;
+    GlobalOptions.getInstance().setAttribute(GlobalOptions.COMPACT_COMMANDS, Boolean.TRUE);
+    try {
+      compact = encoder.encode(d.reorder(inverse));
+    }
+    finally {
+      GlobalOptions.getInstance().setAttribute(GlobalOptions.COMPACT_COMMANDS, Boolean.FALSE);
+    }
+
+    // assert
+    assertTrue(full.startsWith(BasicCommandEncoder.CHANGE));
+    assertTrue(compact.startsWith(BasicCommandEncoder.REORDER));
+    assertTrue(compact.length() * 4 < full.length());
+  }
+
+  @Test
+  public void reorderShouldIgnoreInvalidOrder() {
+    // prepare
+    final GameModule gameModule = mock(GameModule.class);
+    final GamePiece gamePiece0 = mock(GamePiece.class);
+    final GamePiece gamePiece1 = mock(GamePiece.class);
+    Deck d = new Deck(gameModule);
+    d.add(gamePiece0);
+    d.add(gamePiece1);
+
+    // run
+    final Command c = d.reorder(new int[] {1, 1});
+
+    // assert
+    assertTrue(c.isNull());
+    assertEquals(gamePiece0, d.getPieceAt(0));
+    assertEquals(gamePiece1, d.getPieceAt(1));
+  }
+
+  @Test
+  public void expressionCountsShouldMatchFullRecount() {
+    // prepare
+    final GameModule gameModule = mock(GameModule.class);
+    final Deck d = new Deck(gameModule);
+    d.setDeckName("Deck"); // NON-NLS
+    final String[] expressions = {"red: color = red", "blue: color = blue"}; // NON-NLS
+    d.setCountExpressions(expressions);
+    d.setExpressionCounting(true);
+    d.setMap(mock(Map.class));
+    final GamePiece red0 = coloredPiece("red"); // NON-NLS
+    final GamePiece red1 = coloredPiece("red"); // NON-NLS
+    final GamePiece blue = coloredPiece("blue"); // NON-NLS
+    final GamePiece green = coloredPiece("green"); // NON-NLS
+
+    // add and remove count each piece incrementally
+    d.add(red0);
+    d.add(blue);
+    d.add(green);
+    d.add(red1);
+    assertCountsMatchRecount(d, expressions);
+    assertEquals("2", d.expressionProperties.get(0).getPropertyValue());
+    assertEquals("1", d.expressionProperties.get(1).getPropertyValue());
+
+    d.remove(red0);
+    assertCountsMatchRecount(d, expressions);
+    assertEquals("1", d.expressionProperties.get(0).getPropertyValue());
+
+    // setContents recounts the new contents just once
+    final Deck.CountExpression[] counted = spyCountExpressions(d);
+    d.setContents(Arrays.asList(red0, red1, blue, green));
+    for (final Deck.CountExpression c : counted) {
+      verify(c, times(4)).accept(any(), any());
+    }
+    assertCountsMatchRecount(d, expressions);
+    assertEquals("2", d.expressionProperties.get(0).getPropertyValue());
+
+    // reordering leaves the counts alone
+    final Deck.CountExpression[] reordered = spyCountExpressions(d);
+    GlobalOptions.getInstance().setAttribute(GlobalOptions.COMPACT_COMMANDS, Boolean.TRUE);
+    try {
+      d.reorder(new int[] {3, 2, 1, 0});
+    }
+    finally {
+      GlobalOptions.getInstance().setAttribute(GlobalOptions.COMPACT_COMMANDS, Boolean.FALSE);
+    }
+    for (final Deck.CountExpression c : reordered) {
+      verify(c, never()).accept(any(), any());
+    }
+    assertEquals(green, d.getPieceAt(0));
+    assertCountsMatchRecount(d, expressions);
+  }
+
+  private static GamePiece coloredPiece(String color) {
+    final GamePiece p = mock(GamePiece.class);
+    when(p.getProperty("color")).thenReturn(color); // NON-NLS
+    return p;
+  }
+
+  private static Deck.CountExpression[] spyCountExpressions(Deck d) {
+    for (int i = 0; i < d.countExpressions.length; ++i) {
+      d.countExpressions[i] = spy(d.countExpressions[i]);
+    }
+    return d.countExpressions.clone();
+  }
+
+  private static void assertCountsMatchRecount(Deck d, String[] expressions) {
+    for (int i = 0; i < expressions.length; ++i) {
+      final Deck.CountExpression c = new Deck.CountExpression(expressions[i]);
+      final long count = d.asList().stream().filter(p -> c.accept(p, d)).count();
+      assertEquals(String.valueOf(count), d.expressionProperties.get(i).getPropertyValue());
+    }
+  }
 }
@@ -17,6 +17,9 @@
 
 package VASSAL.counters;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
 import java.lang.reflect.InvocationTargetException;
 import org.junit.jupiter.api.Test;
 
@@ -43,4 +46,52 @@ public class MarkerTest extends DecoratorTest {
     serializeTest("Multi value", trait); // NON-NLS
 
   }
+
+  @Test
+  public void propertyDispatchTests() {
+    final BasicPiece basic = new BasicPiece();
+    final Marker inner = new Marker(Marker.ID + "a", basic); // NON-NLS
+    final Marker outer = new Marker(Marker.ID + "b", inner); // NON-NLS
+
+    // A trait that answers properties it does not declare must never be skipped
+    final Marker sneaky = new Marker(Marker.ID + "c", outer) { // NON-NLS
+      @Override
+      public Object getProperty(Object key) {
+        return "z".equals(key) ? "sneaky" : super.getProperty(key); // NON-NLS
+      }
+    };
+
+    inner.setProperty("a", "1"); // NON-NLS
+    outer.setProperty("b", "2"); // NON-NLS
+    basic.setProperty("x", "3"); // NON-NLS
+    basic.setProperty("z", "4"); // NON-NLS
+
+    // Repeat each lookup, so the second is answered through the dispatch table
+    for (int i = 0; i < 2; ++i) {
+      assertThat(sneaky.getProperty("a"), equalTo("1")); // NON-NLS
+      assertThat(sneaky.getProperty("b"), equalTo("2")); // NON-NLS
+      assertThat(sneaky.getProperty("x"), equalTo("3")); // NON-NLS
+      assertThat(sneaky.getProperty("z"), equalTo("sneaky")); // NON-NLS
+      assertThat(outer.getProperty("z"), equalTo("4")); // NON-NLS
+    }
+
+    // Changing the type of a trait changes the properties it owns
+    inner.mySetType(Marker.ID + "x"); // NON-NLS
+    Decorator.invalidatePropertyDispatch(inner);
+    inner.setProperty("x", "5"); // NON-NLS
+    assertThat(sneaky.getProperty("x"), equalTo("5")); // NON-NLS
+
+    // Adding a trait is seen without being told
+    final Marker added = new Marker(Marker.ID + "b", basic); // NON-NLS
+    added.setProperty("b", "6"); // NON-NLS
+    inner.setInner(added);
+    assertThat(inner.getProperty("b"), equalTo("6")); // NON-NLS
+
+    // Each piece has its own table, unaffected by the traits of others
+    final Marker other = new Marker(Marker.ID + "a", new BasicPiece()); // NON-NLS
+    other.setProperty("a", "7"); // NON-NLS
+    assertThat(other.getProperty("a"), equalTo("7")); // NON-NLS
+    assertThat(sneaky.getProperty("x"), equalTo("5")); // NON-NLS
+    assertThat(sneaky.getProperty("b"), equalTo("2")); // NON-NLS
+  }
 }
@@ -0,0 +1,72 @@
+package VASSAL.counters;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import VASSAL.build.GameModule;
+import VASSAL.build.module.PrototypeDefinition;
+import VASSAL.build.module.PrototypesContainer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+
+public class PrototypeExpansionCacheTest {
+
+  @AfterEach
+  public void tearDown() {
+    PrototypeExpansionCache.clear();
+  }
+
+  private static GamePiece marker(String key, String value) {
+    final Marker m = new Marker(Marker.ID + key, new BasicPiece());
+    m.mySetState(value);
+    return m;
+  }
+
+  @Test
+  public void expansionIsSharedAndRebuiltWhenDefinitionChanges() {
+    try (MockedStatic<GameModule> staticGm = Mockito.mockStatic(GameModule.class);
+         MockedStatic<PrototypesContainer> staticPc = Mockito.mockStatic(PrototypesContainer.class)) {
+      final GameModule gm = mock(GameModule.class);
+      when(gm.createPiece(anyString())).thenAnswer(i -> new BasicPiece(i.getArgument(0)));
+      staticGm.when(GameModule::getGameModule).thenReturn(gm);
+
+      final PrototypeDefinition def = mock(PrototypeDefinition.class);
+      when(def.getPieceDefinition(any())).thenReturn("v1"); // NON-NLS
+      when(def.getPiece(any())).thenAnswer(i -> marker("Color", "red")); // NON-NLS
+      staticPc.when(() -> PrototypesContainer.getPrototype("Unit")).thenReturn(def); // NON-NLS
+
+      final UsePrototype trait1 = new UsePrototype(UsePrototype.ID + "Unit", new BasicPiece()); // NON-NLS
+      final UsePrototype trait2 = new UsePrototype(UsePrototype.ID + "Unit", new BasicPiece()); // NON-NLS
+
+      // Both traits share one expansion, but each gets traits of its own
+      final GamePiece expanded1 = trait1.getExpandedInner();
+      final GamePiece expanded2 = trait2.getExpandedInner();
+      assertThat(expanded1.getProperty("Color"), is(equalTo("red"))); // NON-NLS
+      assertThat(expanded2.getProperty("Color"), is(equalTo("red"))); // NON-NLS
+      assertThat(expanded1, is(not(sameInstance(expanded2))));
+      assertThat(trait1.getExpandedInner(), is(sameInstance(expanded1)));
+      assertThat(PrototypeExpansionCache.size(), is(1));
+      verify(def, times(1)).getPiece(any());
+
+      // Changing a prototype definition clears the cache, and the traits pick up the new definition
+      when(def.getPieceDefinition(any())).thenReturn("v2"); // NON-NLS
+      when(def.getPiece(any())).thenAnswer(i -> marker("Colour", "blue")); // NON-NLS
+      PrototypeExpansionCache.clear();
+
+      assertThat(trait1.getExpandedInner().getProperty("Colour"), is(equalTo("blue"))); // NON-NLS
+      assertThat(trait2.getExpandedInner().getProperty("Colour"), is(equalTo("blue"))); // NON-NLS
+      verify(def, times(2)).getPiece(any());
+    }
+  }
+}
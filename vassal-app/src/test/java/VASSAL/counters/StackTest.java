@@ -6,15 +6,21 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 
+import VASSAL.build.GameModule;
+import VASSAL.build.MockModuleTest;
+import VASSAL.build.module.GlobalOptions;
 import VASSAL.build.module.Map;
 import java.awt.Point;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Random;
 
 import org.junit.jupiter.api.Test;
 
-public class StackTest {
+public class StackTest extends MockModuleTest {
 
   @Test
   public void noArgConstructorShouldCreateEmptyStack() {
@@ -519,4 +525,61 @@ public class StackTest {
     assertEquals(gamePiece0, pieces.get(0));
     assertEquals(gamePiece1, pieces.get(1));
   }
+
+  @Test
+  public void indexOfShouldFollowInsertsRemovesAndReorders() {
+    // prepare
+    final Random rng = new Random(42);
+    final List<GamePiece> expected = new ArrayList<>();
+    final Deck d = new Deck(mock(GameModule.class));
+
+    // run
+    for (int step = 0; step < 500; ++step) {
+      final int op = rng.nextInt(4);
+      if (op < 2 || expected.size() < 2) {
+        // Insert a new piece anywhere
+        final GamePiece p = mock(GamePiece.class);
+        final int pos = rng.nextInt(expected.size() + 1);
+        d.insert(p, pos);
+        expected.add(pos, p);
+      }
+      else if (op == 2) {
+        // Move an existing piece, or remove it
+        final GamePiece p = expected.get(rng.nextInt(expected.size()));
+        expected.remove(p);
+        if (rng.nextBoolean()) {
+          final int pos = rng.nextInt(expected.size() + 1);
+          d.insert(p, pos);
+          expected.add(pos, p);
+        }
+        else {
+          d.remove(p);
+        }
+      }
+      else {
+        // Rearrange the whole deck
+        final int[] order = new int[expected.size()];
+        for (int i = 0; i < order.length; ++i) {
+          order[i] = order.length - 1 - i;
+        }
+        // Compact commands rearrange the Deck in place, rather than by replacing its contents
+        GlobalOptions.getInstance().setAttribute(GlobalOptions.COMPACT_COMMANDS, Boolean.TRUE);
+        try {
+          assertTrue(d.reorder(order) instanceof Deck.ReorderCommand);
+        }
+        finally {
+          GlobalOptions.getInstance().setAttribute(GlobalOptions.COMPACT_COMMANDS, Boolean.FALSE);
+        }
+        Collections.reverse(expected);
+      }
+
+      // assert
+      assertEquals(expected.size(), d.getPieceCount());
+      for (int i = 0; i < expected.size(); ++i) {
+        assertEquals(expected.get(i), d.getPieceAt(i));
+        assertEquals(i, d.indexOf(expected.get(i)));
+      }
+      assertEquals(-1, d.indexOf(mock(GamePiece.class)));
+    }
+  }
 }
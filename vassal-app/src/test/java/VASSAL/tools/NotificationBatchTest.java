@@ -0,0 +1,75 @@
+package VASSAL.tools;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class NotificationBatchTest {
+
+  @AfterEach
+  public void tearDown() {
+    NotificationBatch.endAll();
+  }
+
+  @Test
+  public void runsAtOnceOutsideBatch() {
+    final AtomicInteger count = new AtomicInteger();
+    NotificationBatch.notify(this, count::incrementAndGet);
+    NotificationBatch.notify(this, count::incrementAndGet);
+    assertThat(count.get(), is(2));
+  }
+
+  @Test
+  public void combinesUntilOutermostBatchEnds() {
+    final AtomicInteger a = new AtomicInteger();
+    final AtomicInteger b = new AtomicInteger();
+    final Object keyA = new Object();
+    final Object keyB = new Object();
+
+    NotificationBatch.begin();
+    NotificationBatch.begin();
+    for (int i = 0; i < 100; ++i) {
+      NotificationBatch.notify(keyA, a::incrementAndGet);
+      NotificationBatch.notify(keyB, b::incrementAndGet);
+    }
+    NotificationBatch.end();
+    assertThat(a.get(), is(0));
+    assertThat(NotificationBatch.isBatching(), is(true));
+
+    NotificationBatch.end();
+    assertThat(a.get(), is(1));
+    assertThat(b.get(), is(1));
+    assertThat(NotificationBatch.isBatching(), is(false));
+  }
+
+  @Test
+  public void endAllRunsPending() {
+    final AtomicInteger count = new AtomicInteger();
+    NotificationBatch.begin();
+    NotificationBatch.begin();
+    NotificationBatch.notify(this, count::incrementAndGet);
+    NotificationBatch.endAll();
+    assertThat(count.get(), is(1));
+
+    // An unmatched end is ignored
+    NotificationBatch.end();
+    assertThat(NotificationBatch.isBatching(), is(false));
+  }
+
+  @Test
+  public void batchesAreKeptPerThread() throws InterruptedException {
+    final AtomicInteger count = new AtomicInteger();
+
+    // A batch begun on another thread and never ended doesn't hold back this thread's notifications
+    final Thread t = new Thread(NotificationBatch::begin);
+    t.start();
+    t.join();
+    NotificationBatch.notify(this, count::incrementAndGet);
+    assertThat(count.get(), is(1));
+    assertThat(NotificationBatch.isBatching(), is(false));
+  }
+}
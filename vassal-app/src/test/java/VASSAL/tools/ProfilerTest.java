@@ -0,0 +1,42 @@
+package VASSAL.tools;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class ProfilerTest {
+
+  @AfterEach
+  public void tearDown() {
+    Profiler.setEnabled(false);
+    Profiler.reset();
+  }
+
+  @Test
+  public void nothingRecordedWhenDisabled() {
+    Profiler.setEnabled(false);
+    final long start = Profiler.start();
+    assertThat(start, is(0L));
+    Profiler.record(Profiler.Category.EXPRESSION, "{x == 1}", start); // NON-NLS
+    assertThat(Profiler.report(), not(containsString("{x == 1}"))); // NON-NLS
+  }
+
+  @Test
+  public void recordsByCategoryAndName() {
+    Profiler.setEnabled(true);
+    for (int i = 0; i < 3; ++i) {
+      Profiler.record(Profiler.Category.ENCODE, String.class, Profiler.start(), 10);
+    }
+    final String report = Profiler.report();
+    assertThat(report, containsString(Profiler.Category.ENCODE.getDescription()));
+    assertThat(report, containsString("java.lang.String")); // NON-NLS
+    assertThat(report, containsString(" 30 ")); // NON-NLS
+
+    Profiler.reset();
+    assertThat(Profiler.report(), not(containsString("java.lang.String"))); // NON-NLS
+  }
+}
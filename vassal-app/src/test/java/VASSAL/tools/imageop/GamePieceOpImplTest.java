@@ -0,0 +1,69 @@
+package VASSAL.tools.imageop;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import VASSAL.counters.BasicPiece;
+import VASSAL.counters.Decorator;
+import VASSAL.counters.DynamicProperty;
+import VASSAL.counters.GamePiece;
+import VASSAL.counters.Labeler;
+import VASSAL.counters.Properties;
+import org.junit.jupiter.api.Test;
+
+public class GamePieceOpImplTest {
+
+  private static GamePiece piece(String type, String visibleState) {
+    final GamePiece p = mock(GamePiece.class);
+    when(p.getType()).thenReturn(type);
+    when(p.getProperty(Properties.VISIBLE_STATE)).thenReturn(visibleState);
+    return p;
+  }
+
+  @Test
+  public void identicalPiecesShareOp() {
+    final GamePieceOpImpl op1 = new GamePieceOpImpl(piece("infantry", "1"));
+    final GamePieceOpImpl op2 = new GamePieceOpImpl(piece("infantry", "1"));
+    assertThat(op1, is(op2));
+    assertThat(op1.hashCode(), is(op2.hashCode()));
+  }
+
+  @Test
+  public void differentStateOrTypeDoesNotShareOp() {
+    final GamePieceOpImpl op = new GamePieceOpImpl(piece("infantry", "1"));
+    assertThat(op, is(not(new GamePieceOpImpl(piece("infantry", "2")))));
+    assertThat(op, is(not(new GamePieceOpImpl(piece("cavalry", "1")))));
+  }
+
+  @Test
+  public void changeOfVisibleState() {
+    final GamePiece p = piece("infantry", "1");
+    final GamePieceOpImpl op = new GamePieceOpImpl(p);
+    assertThat(op.isChanged(), is(false));
+    when(p.getProperty(Properties.VISIBLE_STATE)).thenReturn("2");
+    assertThat(op.isChanged(), is(true));
+  }
+  private static GamePiece labelledStrength(String strength) {
+    final DynamicProperty strengthProperty = new DynamicProperty(DynamicProperty.ID + "Strength", new BasicPiece()); // NON-NLS
+    strengthProperty.setValue(strength);
+    final Labeler labeler = new Labeler(Labeler.ID, strengthProperty);
+    labeler.setLabel("$Strength$"); // NON-NLS
+    return labeler;
+  }
+
+  @Test
+  public void labelledPropertyValueDoesNotShareOp() {
+    // A Labeler showing a Dynamic Property looks different when only the property value differs
+    final GamePiece p = labelledStrength("4");
+    final GamePieceOpImpl op = new GamePieceOpImpl(p);
+    assertThat(op, is(not(new GamePieceOpImpl(labelledStrength("5")))));
+    assertThat(op, is(new GamePieceOpImpl(labelledStrength("4"))));
+
+    assertThat(op.isChanged(), is(false));
+    ((DynamicProperty) Decorator.getDecorator(p, DynamicProperty.class)).setValue("5");
+    assertThat(op.isChanged(), is(true));
+  }
+}